@@ -0,0 +1,122 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.Universal;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ShortArray;
+import com.esotericsoftware.SpineStandard.Animation;
+import com.esotericsoftware.SpineStandard.SkeletonData;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+import java.util.function.Supplier;
+
+// Skeleton data as text, two loads of the same skeleton that dump the same built the same bones, slots, skins, events and timelines
+class Dump {
+    // Vertex attachment ids count every attachment ever created and key deform timelines, each compared load starts them over
+    static Object first(Supplier<Object> load) throws ReflectiveOperationException {
+        String vertexAttachment = Universal.Range == 2 ? "com.esotericsoftware.SpinePreview.attachments.VertexAttachment" : "com.esotericsoftware.SpineStandard.attachments.VertexAttachment";
+        Field nextID = Class.forName(vertexAttachment).getDeclaredField("nextID");
+        nextID.setAccessible(true);
+        nextID.setInt(null, 0);
+        return load.get();
+    }
+
+    // Fails with the first line that differs, what names the skeleton and the path that read it
+    static void check(String what, String expected, String actual) {
+        if (expected.equals(actual))
+            return;
+        String[] expectedLines = expected.split("\n"), actualLines = actual.split("\n");
+        for (int i = 0; i < Math.max(expectedLines.length, actualLines.length); i++) {
+            String expectedLine = i < expectedLines.length ? expectedLines[i] : "", actualLine = i < actualLines.length ? actualLines[i] : "";
+            if (!expectedLine.equals(actualLine))
+                throw new IllegalStateException(what + " differs at line " + (i + 1) + ":\n  " + expectedLine + "\n  " + actualLine);
+        }
+    }
+
+    // Every animation decoded, then every field reachable from the skeleton data one per line with its path
+    static String dump(Object skeletonData) throws IllegalAccessException {
+        if (skeletonData instanceof SkeletonData) {
+            for (Animation animation : ((SkeletonData) skeletonData).getAnimations())
+                animation.load();
+        } else {
+            for (com.esotericsoftware.SpinePreview.Animation animation : ((com.esotericsoftware.SpinePreview.SkeletonData) skeletonData).getAnimations())
+                animation.load();
+        }
+        StringBuilder out = new StringBuilder();
+        dump("skeleton", skeletonData, out, new IdentityHashMap<>());
+        return out.toString();
+    }
+
+    // Runtime objects met again are printed by name, libGDX collections only up to their size since their capacity depends on how they grew
+    private static void dump(String path, Object value, StringBuilder out, IdentityHashMap<Object, Boolean> seen) throws IllegalAccessException {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof CharSequence
+                || value instanceof Enum || value instanceof Color || value.getClass().getName().startsWith("java.")) {
+            out.append(path).append(" = ").append(value).append('\n');
+            return;
+        }
+        if (value instanceof TextureRegion) {
+            out.append(path).append(" = region ").append(value instanceof AtlasRegion ? ((AtlasRegion) value).name : "").append('\n');
+            return;
+        }
+        if (value instanceof Pool)
+            return;
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = java.lang.reflect.Array.getLength(value);
+            if (type.getComponentType().isPrimitive()) {
+                out.append(path).append(" = [");
+                for (int i = 0; i < length; i++)
+                    out.append(i == 0 ? "" : ", ").append(java.lang.reflect.Array.get(value, i));
+                out.append("]\n");
+            } else {
+                for (int i = 0; i < length; i++)
+                    dump(path + "[" + i + "]", java.lang.reflect.Array.get(value, i), out, seen);
+            }
+            return;
+        }
+        if (value instanceof Array) {
+            Array<?> array = (Array<?>) value;
+            for (int i = 0; i < array.size; i++)
+                dump(path + "[" + i + "]", array.get(i), out, seen);
+            return;
+        }
+        if (value instanceof FloatArray) {
+            dump(path, ((FloatArray) value).toArray(), out, seen);
+            return;
+        }
+        if (value instanceof IntArray) {
+            dump(path, ((IntArray) value).toArray(), out, seen);
+            return;
+        }
+        if (value instanceof ShortArray) {
+            dump(path, ((ShortArray) value).toArray(), out, seen);
+            return;
+        }
+        if (value instanceof Iterable) {
+            int i = 0;
+            for (Object element : (Iterable<?>) value)
+                dump(path + "[" + i++ + "]", element, out, seen);
+            return;
+        }
+        if (type.getName().startsWith("com.esotericsoftware.") && seen.put(value, Boolean.TRUE) != null) {
+            out.append(path).append(" -> ").append(value).append('\n');
+            return;
+        }
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                // How an animation is decoded differs by path, what it decodes to must not
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || field.getName().equals("lazy") || field.getName().equals("decoder"))
+                    continue;
+                field.setAccessible(true);
+                dump(path + "." + field.getName(), field.get(value), out, seen);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.QYun.Benchmark;
+
+import com.QYun.SuperSpineViewer.FFmpegPipe;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+// Raw frames through FFmpegPipe into FFmpegStub instead of ffmpeg. @Setup streams frames with and without row padding and checks what the stub received
+// and that it exits cleanly, then that a stub giving up after one frame fails the writes and finish() instead of hanging the export
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSuperSpineViewer.ffmpeg=target/ffmpeg-stub")
+public class FFmpegPipeBenchmark {
+    private static final int FRAMES = 30;
+
+    @Param({"1920x1080"})
+    public String size;
+
+    private int width, height;
+    private ByteBuffer frame;
+    private FFmpegPipe pipe;
+    private File output;
+
+    @Setup
+    public void setup() throws IOException, InterruptedException {
+        width = Integer.parseInt(size.substring(0, size.indexOf('x')));
+        height = Integer.parseInt(size.substring(size.indexOf('x') + 1));
+        stub();
+        check(64, 48, 64 * 4);
+        // A readback row padded to 4 bytes past the pixels, the padding must not reach ffmpeg
+        check(64, 48, 64 * 4 + 4);
+        early(64, 48);
+
+        frame = frame(width, height, width * 4, 0);
+        output = new File("target/pipe.mov");
+        pipe = new FFmpegPipe(output.getPath(), width, height, 30, 1);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        if (!pipe.finish())
+            throw new IllegalStateException("The stub failed after the benchmark frames");
+        output.delete();
+    }
+
+    @Benchmark
+    public boolean write() throws IOException {
+        return pipe.write(frame, width, height, width * 4);
+    }
+
+    // The stub runs in a JVM of its own from the benchmark's classpath
+    private static void stub() throws IOException {
+        File script = new File("target/ffmpeg-stub");
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Files.write(script.toPath(), ("#!/bin/sh\nexec \"" + java + "\" -cp \"" + System.getProperty("java.class.path") + "\" "
+                + FFmpegStub.class.getName() + " \"$@\"\n").getBytes(StandardCharsets.UTF_8));
+        if (!script.setExecutable(true))
+            throw new IOException("Cannot make " + script + " executable");
+    }
+
+    private static void check(int width, int height, int stride) throws IOException, InterruptedException {
+        File output = new File("target/pipe-check.mov");
+        FFmpegPipe pipe = new FFmpegPipe(output.getPath(), width, height, 30, 1);
+        long sum = 0;
+        for (int i = 0; i < FRAMES; i++) {
+            ByteBuffer frame = frame(width, height, stride, i);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width * 4; x++)
+                    sum += frame.get(y * stride + x) & 0xFF;
+            }
+            if (!pipe.write(frame, width, height, stride))
+                throw new IllegalStateException("A frame of the pipe's own size was refused");
+        }
+        // A frame of another size is dropped without touching the stream
+        if (pipe.write(frame(width + 1, height, (width + 1) * 4, 0), width + 1, height, (width + 1) * 4))
+            throw new IllegalStateException("A frame of another size was written");
+        if (!pipe.finish())
+            throw new IllegalStateException("The stub did not exit cleanly after " + FRAMES + " frames");
+
+        String expected = width + "x" + height + " " + (long) FRAMES * width * height * 4 + " " + sum;
+        String actual = new String(Files.readAllBytes(output.toPath()), StandardCharsets.UTF_8);
+        if (!expected.equals(actual))
+            throw new IllegalStateException("Stride " + stride + ": the stub received " + actual + " instead of " + expected);
+        output.delete();
+    }
+
+    // The stub exits after the first frame, later writes fail once the pipe is broken and finish() reports the exit code
+    private static void early(int width, int height) throws IOException, InterruptedException {
+        FFmpegPipe pipe = new FFmpegPipe("target/pipe-early.mov", width, height, 30, 1);
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            for (int i = 0; System.nanoTime() < deadline; i++)
+                pipe.write(frame(width, height, width * 4, i), width, height, width * 4);
+            throw new IllegalStateException("Writes kept succeeding after the stub exited");
+        } catch (IOException expected) {
+            if (pipe.finish())
+                throw new IllegalStateException("finish() reported success for a stub that exited with 3");
+        } finally {
+            pipe.destroy();
+        }
+    }
+
+    // Pixels numbered by frame and position, padding past each row set so it would show in the sum
+    private static ByteBuffer frame(int width, int height, int stride, int index) {
+        ByteBuffer frame = ByteBuffer.allocateDirect(stride * height);
+        for (int i = 0; i < stride * height; i++)
+            frame.put(i, (byte) (i % stride < width * 4 ? index * 31 + i : 0xFF));
+        return frame;
+    }
+}
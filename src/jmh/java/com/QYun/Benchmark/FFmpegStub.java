@@ -0,0 +1,36 @@
+package com.QYun.Benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// Stands in for ffmpeg behind FFmpegPipe: reads the raw frames from stdin and writes what arrived to the output file as "WxH bytes sum".
+// An output whose name contains "early" reads one frame and exits with 3, the way ffmpeg gives up on a broken encode
+public class FFmpegStub {
+    public static void main(String[] args) throws IOException {
+        String size = null;
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("-s"))
+                size = args[i + 1];
+        }
+        String output = args[args.length - 1];
+        if (size == null || !String.join(" ", args).contains("-f rawvideo -pix_fmt bgra") || !String.join(" ", args).contains("-i -"))
+            System.exit(2);
+
+        long frameBytes = Long.parseLong(size.substring(0, size.indexOf('x'))) * Long.parseLong(size.substring(size.indexOf('x') + 1)) * 4;
+        boolean early = output.contains("early");
+        byte[] buffer = new byte[65536];
+        long bytes = 0, sum = 0;
+        InputStream in = System.in;
+        for (int read; (read = in.read(buffer, 0, early ? (int) Math.min(buffer.length, frameBytes - bytes) : buffer.length)) > 0; ) {
+            bytes += read;
+            for (int i = 0; i < read; i++)
+                sum += buffer[i] & 0xFF;
+            if (early && bytes == frameBytes)
+                System.exit(3);
+        }
+        Files.write(Paths.get(output), (size + " " + bytes + " " + sum).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.DrawList;
+import com.QYun.Spine.SuperSpine;
+import com.QYun.Spine.Universal;
+import com.QYun.SuperSpineViewer.GUI.Controller;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// The viewer's whole frame through Universal for any version, run with -prof gc: gc.alloc.rate.norm is the steady-state allocation per frame
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameBenchmark {
+    @Param("")
+    public String skel;
+
+    private final DrawList list = new DrawList();
+    private final Universal universal = new Universal();
+
+    @Setup
+    public void setup() {
+        NoGL.install();
+        NoGL.skeleton(skel);
+        // Batches collect into the list, the stubbed GL would box the arguments of every call and hide the wrapper's own allocation
+        Universal.drawList = list;
+        Controller.headless = true;
+        universal.create();
+
+        SuperSpine spine = new SuperSpine();
+        spine.setIsLoop(true);
+        if (!spine.getAnimatesList().isEmpty())
+            spine.setAnimate(spine.getAnimatesList().get(0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Universal.drawList = null;
+        universal.dispose();
+    }
+
+    @Benchmark
+    public DrawList frame() {
+        list.clear();
+        universal.render();
+        return list;
+    }
+}
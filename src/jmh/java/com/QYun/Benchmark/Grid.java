@@ -0,0 +1,52 @@
+package com.QYun.Benchmark;
+
+// A triangulated grid over a polygon's bounds, grown by a quarter so triangles fall inside, across and outside the clip
+class Grid {
+    final float[] vertices;
+    final float[] uvs;
+    final short[] triangles;
+
+    Grid(float[] polygon, int cells) {
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (int i = 0; i < polygon.length; i += 2) {
+            minX = Math.min(minX, polygon[i]);
+            maxX = Math.max(maxX, polygon[i]);
+            minY = Math.min(minY, polygon[i + 1]);
+            maxY = Math.max(maxY, polygon[i + 1]);
+        }
+        float padX = (maxX - minX) / 8, padY = (maxY - minY) / 8;
+        minX -= padX;
+        maxX += padX;
+        minY -= padY;
+        maxY += padY;
+
+        int side = cells + 1;
+        vertices = new float[side * side * 2];
+        uvs = new float[vertices.length];
+        triangles = new short[cells * cells * 6];
+        for (int y = 0, v = 0; y < side; y++) {
+            for (int x = 0; x < side; x++, v += 2) {
+                uvs[v] = (float) x / cells;
+                uvs[v + 1] = (float) y / cells;
+                vertices[v] = minX + (maxX - minX) * uvs[v];
+                vertices[v + 1] = minY + (maxY - minY) * uvs[v + 1];
+            }
+        }
+        for (int y = 0, t = 0; y < cells; y++) {
+            for (int x = 0; x < cells; x++) {
+                short i = (short) (y * side + x);
+                triangles[t++] = i;
+                triangles[t++] = (short) (i + 1);
+                triangles[t++] = (short) (i + side);
+                triangles[t++] = (short) (i + 1);
+                triangles[t++] = (short) (i + side + 1);
+                triangles[t++] = (short) (i + side);
+            }
+        }
+    }
+
+    // A diamond of the given radius around the origin, in the attachment's local space
+    static float[] diamond(float radius) {
+        return new float[]{0, -radius, radius, 0, 0, radius, -radius, 0};
+    }
+}
@@ -0,0 +1,99 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.CachedJson;
+import com.QYun.Spine.JsonCache;
+import com.QYun.Spine.Universal;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.esotericsoftware.SpineStandard.SkeletonJson;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// Spine 3.3 - 4.0 JSON read every way the viewer can read it: streamed, the tree fallback for sections out of the editor's order,
+// animations decoded on first play and the binary cache. @Setup compares each with the skeleton JsonReader's tree gives and fails the run on any difference,
+// the bundled skeletons cover both runtimes, 3.7 skins as an object and files whose skins or animations come first
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DSuperSpineViewer.jsonCache=target/jsonCache")
+public class JsonReaderBenchmark {
+    @Param({"src/jmh/skeletons/editor37.json", "src/jmh/skeletons/editor38.json", "src/jmh/skeletons/editor40.json",
+            "src/jmh/skeletons/skinsfirst40.json", "src/jmh/skeletons/animationsfirst38.json", "src/jmh/skeletons/animationsfirst40.json"})
+    public String skel;
+
+    private FileHandle skelFile;
+    private TextureAtlas atlas;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        NoGL.install();
+        skelFile = NoGL.skeleton(skel);
+        if (Universal.Range == 0)
+            throw new IllegalArgumentException(skel + " is read as one tree by its runtime, there is nothing to compare");
+        atlas = NoGL.atlas();
+
+        // A miss first, so the file is streamed and its conversion queued
+        File[] cached = new File(System.getProperty("SuperSpineViewer.jsonCache")).listFiles();
+        if (cached != null) {
+            for (File file : cached)
+                file.delete();
+        }
+        String tree = Dump.dump(Dump.first(this::tree));
+        Dump.check(skel + " streamed", tree, Dump.dump(Dump.first(this::read)));
+
+        JsonCache.await();
+        CachedJson json = JsonCache.open(skelFile);
+        if (json == null)
+            throw new IllegalStateException(skel + ": no cache was written");
+        Dump.check(skel + " cached", tree, Dump.dump(Dump.first(this::read)));
+        // What 2.1 - 3.2 read from the cache as one tree
+        compare("", new JsonReader().parse(skelFile), json.value(json.root()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        atlas.dispose();
+    }
+
+    @Benchmark
+    public Object tree() {
+        JsonValue root = new JsonReader().parse(skelFile);
+        if (Universal.Range == 2)
+            return new com.esotericsoftware.SpinePreview.SkeletonJson(atlas).readSkeletonData(skelFile.nameWithoutExtension(), root);
+        return new SkeletonJson(atlas).readSkeletonData(skelFile.nameWithoutExtension(), root);
+    }
+
+    // From the cache once @Setup wrote it
+    @Benchmark
+    public Object read() {
+        if (Universal.Range == 2)
+            return new com.esotericsoftware.SpinePreview.SkeletonJson(atlas).readSkeletonData(skelFile);
+        return new SkeletonJson(atlas).readSkeletonData(skelFile);
+    }
+
+    // The cache keeps numbers as floats where a runtime can not tell the difference, so they are compared as the runtimes read them
+    private void compare(String path, JsonValue expected, JsonValue actual) {
+        path += "/" + expected.name;
+        boolean same = Objects.equals(expected.name, actual.name) && expected.size == actual.size;
+        if (same) {
+            switch (expected.type()) {
+                case doubleValue -> same = actual.isNumber() && expected.asFloat() == actual.asFloat() && expected.asInt() == actual.asInt();
+                case longValue -> same = actual.type() == JsonValue.ValueType.longValue && expected.asLong() == actual.asLong();
+                case stringValue -> same = actual.isString() && expected.asString().equals(actual.asString());
+                case booleanValue -> same = actual.isBoolean() && expected.asBoolean() == actual.asBoolean();
+                default -> same = expected.type() == actual.type();
+            }
+        }
+        if (!same)
+            throw new IllegalStateException(skel + " cached tree differs at " + path + ": " + expected + " / " + actual);
+        for (JsonValue e = expected.child, a = actual.child; e != null; e = e.next, a = a.next)
+            compare(path, e, a);
+    }
+}
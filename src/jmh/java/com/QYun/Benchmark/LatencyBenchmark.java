@@ -0,0 +1,105 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.DrawList;
+import com.QYun.Spine.StandardDrawBatch;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.esotericsoftware.SpineLatency.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Spine 2.1 - 3.2, this runtime has no clipping
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatencyBenchmark {
+    @Param("")
+    public String skel;
+
+    private FileHandle skelFile;
+    private boolean isBinary;
+    private TextureAtlas atlas;
+    private Skeleton skeleton;
+    private AnimationState state;
+    private PolygonSpriteBatch batch;
+    private SkeletonMeshRenderer renderer;
+    private final DrawList list = new DrawList();
+    private StandardDrawBatch listBatch;
+
+    @Setup
+    public void setup() {
+        NoGL.install();
+        skelFile = NoGL.skeleton(skel, 0);
+        isBinary = NoGL.isBinary();
+        atlas = NoGL.atlas();
+
+        SkeletonData skeletonData = parse();
+        skeleton = new Skeleton(skeletonData);
+        skeleton.updateWorldTransform();
+        skeleton.setToSetupPose();
+
+        // The longest animation touches the most timelines
+        state = new AnimationState(new AnimationStateData(skeletonData));
+        Animation longest = null;
+        for (Animation animation : skeletonData.getAnimations())
+            if (longest == null || animation.getDuration() > longest.getDuration())
+                longest = animation;
+        if (longest != null)
+            state.setAnimation(0, longest, true);
+        state.update(0);
+        state.apply(skeleton);
+        skeleton.updateWorldTransform();
+
+        batch = new PolygonSpriteBatch();
+        renderer = new SkeletonMeshRenderer();
+        renderer.setPremultipliedAlpha(true);
+        listBatch = new StandardDrawBatch(list);
+    }
+
+    @TearDown
+    public void tearDown() {
+        batch.dispose();
+        atlas.dispose();
+    }
+
+    @Benchmark
+    public SkeletonData parse() {
+        if (isBinary)
+            return new SkeletonBinary(atlas).readSkeletonData(skelFile);
+        return new SkeletonJson(atlas).readSkeletonData(skelFile);
+    }
+
+    @Benchmark
+    public void updateApply() {
+        state.update(1 / 60f);
+        state.apply(skeleton);
+    }
+
+    @Benchmark
+    public void updateWorldTransform() {
+        skeleton.updateWorldTransform();
+    }
+
+    // GL calls are no-ops, what remains is vertex generation and the copy into the mesh
+    @Benchmark
+    public void draw() {
+        batch.begin();
+        renderer.draw(batch, skeleton);
+        batch.end();
+    }
+
+    // Vertex generation alone, collected into primitive arrays without GL
+    @Benchmark
+    public DrawList drawList() {
+        list.clear();
+        listBatch.begin();
+        renderer.draw(listBatch, skeleton);
+        listBatch.end();
+        return list;
+    }
+}
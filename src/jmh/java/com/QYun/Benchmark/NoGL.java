@@ -0,0 +1,144 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.SuperSpine;
+import com.QYun.Spine.Universal;
+import com.QYun.SuperSpineViewer.RuntimesLoader;
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.lwjgl.SoftwareGL;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.io.File;
+
+// Every GL call is a no-op, so batches, meshes and textures can be built and drawn without a context
+public class NoGL {
+    private static boolean installed = false;
+
+    static synchronized void install() {
+        if (installed)
+            return;
+        GdxNativesLoader.load();
+        Gdx.gl = Gdx.gl20 = SoftwareGL.gl();
+        // Managed meshes and shaders are keyed by the application
+        Gdx.app = SoftwareGL.stub(Application.class, (proxy, method, args) ->
+                method.getName().equals("getType") ? Application.ApplicationType.Desktop : null);
+        // A steady 60fps for the viewer's own frame loop, boxed once so the stub itself allocates nothing per frame
+        Float delta = 1 / 60f;
+        Gdx.graphics = SoftwareGL.stub(Graphics.class, (proxy, method, args) -> switch (method.getName()) {
+            case "getDeltaTime", "getRawDeltaTime" -> delta;
+            case "getFramesPerSecond" -> 60;
+            default -> null;
+        });
+        installed = true;
+    }
+
+    // Detects the version the same way the viewer does and checks the skeleton belongs to the benchmarked runtime
+    static FileHandle skeleton(String path, int range) {
+        FileHandle skelFile = skeleton(path);
+        if (Universal.Range != range)
+            throw new IllegalArgumentException(path + " is not a skeleton of this runtime (range " + Universal.Range + ")");
+        if (new SuperSpine().getAtlasFile() == null)
+            throw new IllegalArgumentException("No atlas next to " + path);
+        return skelFile;
+    }
+
+    // Any version, Universal.Range tells which runtime it needs
+    static FileHandle skeleton(String path) {
+        if (path == null || path.isEmpty())
+            throw new IllegalArgumentException("No skeleton, run with -p skel=<path to .json/.skel>");
+        FileHandle skelFile = new FileHandle(new File(path));
+        new RuntimesLoader().load(skelFile);
+        return skelFile;
+    }
+
+    static boolean isBinary() {
+        return new SuperSpine().isIsBinary();
+    }
+
+    // Pages get blank textures of the declared size, images missing from the atlas get a blank region
+    static TextureAtlas atlas() {
+        FileHandle atlasFile = new SuperSpine().getAtlasFile();
+        TextureAtlasData atlasData = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
+        for (TextureAtlasData.Page page : atlasData.getPages())
+            page.texture = new Texture(new Blank(page.width > 0 ? (int) page.width : 1024, page.height > 0 ? (int) page.height : 1024));
+
+        Texture blank = new Texture(new Blank(64, 64));
+        return new TextureAtlas(atlasData) {
+            @Override
+            public AtlasRegion findRegion(String name) {
+                AtlasRegion region = super.findRegion(name);
+                return region != null ? region : addRegion(name, blank, 0, 0, 64, 64);
+            }
+        };
+    }
+
+    private static class Blank implements TextureData {
+        private final int width;
+        private final int height;
+
+        private Blank(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public TextureDataType getType() {
+            return TextureDataType.Custom;
+        }
+
+        @Override
+        public boolean isPrepared() {
+            return true;
+        }
+
+        @Override
+        public void prepare() {
+        }
+
+        @Override
+        public Pixmap consumePixmap() {
+            return null;
+        }
+
+        @Override
+        public boolean disposePixmap() {
+            return false;
+        }
+
+        @Override
+        public void consumeCustomData(int target) {
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public Pixmap.Format getFormat() {
+            return Pixmap.Format.RGBA8888;
+        }
+
+        @Override
+        public boolean useMipMaps() {
+            return false;
+        }
+
+        @Override
+        public boolean isManaged() {
+            return false;
+        }
+    }
+}
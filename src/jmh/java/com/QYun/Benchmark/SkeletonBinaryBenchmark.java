@@ -0,0 +1,63 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.Universal;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.esotericsoftware.SpineStandard.SkeletonBinary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 3.8 and 4.0 .skel read eagerly, each animation straight after the previous, and lazily, where a walk over the animations only records their offsets.
+// @Setup compares both and fails the run on any difference, a walk that miscounts one field shifts every later animation.
+// The bundled skeletons use every timeline type the binary readers know, bezier curves, weighted and unweighted deform, draw order, events and path mix included
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkeletonBinaryBenchmark {
+    @Param({"src/jmh/skeletons/timelines38.skel", "src/jmh/skeletons/timelines40.skel"})
+    public String skel;
+
+    private FileHandle skelFile;
+    private TextureAtlas atlas;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        NoGL.install();
+        skelFile = NoGL.skeleton(skel);
+        if (Universal.Range == 0 || !NoGL.isBinary())
+            throw new IllegalArgumentException(skel + " is not a 3.8 or 4.0 binary, its animations are never read lazily");
+        atlas = NoGL.atlas();
+        Dump.check(skel + " lazy", Dump.dump(Dump.first(this::eager)), Dump.dump(Dump.first(this::lazy)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        atlas.dispose();
+    }
+
+    @Benchmark
+    public Object eager() {
+        return read(false);
+    }
+
+    // Animations are only decoded once dumped or played
+    @Benchmark
+    public Object lazy() {
+        return read(true);
+    }
+
+    private Object read(boolean lazyAnimations) {
+        if (Universal.Range == 2) {
+            com.esotericsoftware.SpinePreview.SkeletonBinary binary = new com.esotericsoftware.SpinePreview.SkeletonBinary(atlas);
+            binary.setLazyAnimations(lazyAnimations);
+            return binary.readSkeletonData(skelFile);
+        }
+        SkeletonBinary binary = new SkeletonBinary(atlas);
+        binary.setLazyAnimations(lazyAnimations);
+        return binary.readSkeletonData(skelFile);
+    }
+}
@@ -0,0 +1,160 @@
+package com.QYun.Benchmark;
+
+import com.QYun.Spine.DrawList;
+import com.QYun.Spine.SoftwareRenderer;
+import com.QYun.Spine.StandardDrawBatch;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.SpineStandard.*;
+import com.esotericsoftware.SpineStandard.attachments.ClippingAttachment;
+import com.esotericsoftware.SpineStandard.utils.SkeletonClipping;
+import com.esotericsoftware.SpineStandard.utils.TwoColorPolygonBatch;
+import com.esotericsoftware.SpineStandard.vertexeffects.SwirlEffect;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Spine 3.3 - 3.8
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StandardBenchmark {
+    @Param("")
+    public String skel;
+
+    private FileHandle skelFile;
+    private boolean isBinary;
+    private TextureAtlas atlas;
+    private Skeleton skeleton;
+    private AnimationState state;
+    private SkeletonClipping clipper;
+    private Grid grid;
+    private TwoColorPolygonBatch batch;
+    private SkeletonRenderer renderer;
+    private final DrawList list = new DrawList();
+    private StandardDrawBatch listBatch;
+    private SwirlEffect swirl;
+    private SoftwareRenderer rasterizer;
+
+    @Setup
+    public void setup() {
+        NoGL.install();
+        skelFile = NoGL.skeleton(skel, 1);
+        isBinary = NoGL.isBinary();
+        atlas = NoGL.atlas();
+
+        SkeletonData skeletonData = parse();
+        skeleton = new Skeleton(skeletonData);
+        skeleton.updateWorldTransform();
+        skeleton.setToSetupPose();
+
+        // The longest animation touches the most timelines, durations are only known once an animation is decoded
+        state = new AnimationState(new AnimationStateData(skeletonData));
+        Animation longest = null;
+        for (Animation animation : skeletonData.getAnimations()) {
+            animation.load();
+            if (longest == null || animation.getDuration() > longest.getDuration())
+                longest = animation;
+        }
+        if (longest != null)
+            state.setAnimation(0, longest, true);
+        state.update(0);
+        state.apply(skeleton);
+        skeleton.updateWorldTransform();
+
+        Slot slot = skeleton.getSlots().first();
+        ClippingAttachment clip = new ClippingAttachment("benchmark");
+        clip.setVertices(Grid.diamond(256));
+        clip.setWorldVerticesLength(8);
+        float[] polygon = new float[8];
+        clip.computeWorldVertices(slot, 0, 8, polygon, 0, 2);
+        grid = new Grid(polygon, 32);
+        clipper = new SkeletonClipping();
+        clipper.clipStart(slot, clip);
+
+        batch = new TwoColorPolygonBatch(3100);
+        renderer = new SkeletonRenderer();
+        renderer.setPremultipliedAlpha(true);
+        listBatch = new StandardDrawBatch(list);
+        swirl = new SwirlEffect(256);
+        swirl.setAngle(90);
+        listBatch.getProjectionMatrix().setToOrtho2D(-960, -540, 1920, 1080);
+        rasterizer = new SoftwareRenderer(1920, 1080);
+    }
+
+    @TearDown
+    public void tearDown() {
+        batch.dispose();
+        atlas.dispose();
+    }
+
+    @Benchmark
+    public SkeletonData parse() {
+        if (isBinary)
+            return new SkeletonBinary(atlas).readSkeletonData(skelFile);
+        return new SkeletonJson(atlas).readSkeletonData(skelFile);
+    }
+
+    // Loading as it cost before animations were decoded on first play
+    @Benchmark
+    public SkeletonData parseAll() {
+        SkeletonData skeletonData = parse();
+        for (Animation animation : skeletonData.getAnimations())
+            animation.load();
+        return skeletonData;
+    }
+
+    @Benchmark
+    public void updateApply() {
+        state.update(1 / 60f);
+        state.apply(skeleton);
+    }
+
+    @Benchmark
+    public void updateWorldTransform() {
+        skeleton.updateWorldTransform();
+    }
+
+    @Benchmark
+    public FloatArray clipTriangles() {
+        clipper.clipTriangles(grid.vertices, grid.vertices.length, grid.triangles, grid.triangles.length, grid.uvs, 0, 0, true);
+        return clipper.getClippedVertices();
+    }
+
+    // GL calls are no-ops, what remains is vertex generation and the copy into the mesh
+    @Benchmark
+    public void draw() {
+        batch.begin();
+        renderer.draw(batch, skeleton);
+        batch.end();
+    }
+
+    // Vertex generation alone, collected into primitive arrays without GL
+    @Benchmark
+    public DrawList drawList() {
+        list.clear();
+        listBatch.begin();
+        renderer.draw(listBatch, skeleton);
+        listBatch.end();
+        return list;
+    }
+
+    @Benchmark
+    public DrawList drawListSwirl() {
+        renderer.setVertexEffect(swirl);
+        drawList();
+        renderer.setVertexEffect(null);
+        return list;
+    }
+
+    // Atlas pages are blank here, so this measures coverage and blending rather than the texture content
+    @Benchmark
+    public Object rasterize() {
+        drawList();
+        return rasterizer.render(list);
+    }
+}
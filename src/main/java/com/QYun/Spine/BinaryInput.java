@@ -0,0 +1,198 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+// The whole .skel in one buffer, so readInt(true) and readFloat are plain array reads instead of a synchronized stream call per byte
+public class BinaryInput implements Closeable {
+    // Larger files are mapped instead of copied onto the heap, a mapping keeps the file locked on Windows until it is collected
+    private static final long MAP_THRESHOLD = 16 << 20;
+    private final ByteBuffer buffer;
+    private char[] chars = new char[32];
+
+    public BinaryInput(FileHandle file) {
+        buffer = open(file).order(ByteOrder.BIG_ENDIAN);
+    }
+
+    public BinaryInput(byte[] bytes) {
+        buffer = ByteBuffer.wrap(bytes);
+    }
+
+    private static ByteBuffer open(FileHandle file) {
+        if (file.type() != FileType.Classpath && file.type() != FileType.Internal && file.length() > MAP_THRESHOLD) {
+            try (FileChannel channel = FileChannel.open(file.file().toPath(), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException ex) {
+                throw new GdxRuntimeException("Error reading file: " + file, ex);
+            }
+        }
+        return ByteBuffer.wrap(file.readBytes());
+    }
+
+    private void require(int count) throws EOFException {
+        if (buffer.remaining() < count) throw new EOFException();
+    }
+
+    public int position() {
+        return buffer.position();
+    }
+
+    public void position(int position) {
+        buffer.position(position);
+    }
+
+    public void skip(int count) throws EOFException {
+        require(count);
+        buffer.position(buffer.position() + count);
+    }
+
+    // A heap copy of the bytes from start to end, which outlives a mapped buffer
+    public byte[] copy(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return bytes;
+    }
+
+    // -1 at the end like InputStream.read
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public short readShort() throws IOException {
+        require(2);
+        return buffer.getShort();
+    }
+
+    public int readInt() throws IOException {
+        require(4);
+        return buffer.getInt();
+    }
+
+    public long readLong() throws IOException {
+        require(8);
+        return buffer.getLong();
+    }
+
+    public float readFloat() throws IOException {
+        require(4);
+        return buffer.getFloat();
+    }
+
+    // Variable length, 1 to 5 bytes, the same encoding as libGDX DataInput
+    public int readInt(boolean optimizePositive) throws IOException {
+        ByteBuffer buffer = this.buffer;
+        int position = buffer.position();
+        if (buffer.limit() - position < 5)
+            return readIntSlow(optimizePositive);
+        int b = buffer.get(position++);
+        int result = b & 0x7F;
+        if ((b & 0x80) != 0) {
+            b = buffer.get(position++);
+            result |= (b & 0x7F) << 7;
+            if ((b & 0x80) != 0) {
+                b = buffer.get(position++);
+                result |= (b & 0x7F) << 14;
+                if ((b & 0x80) != 0) {
+                    b = buffer.get(position++);
+                    result |= (b & 0x7F) << 21;
+                    if ((b & 0x80) != 0) {
+                        b = buffer.get(position++);
+                        result |= (b & 0x7F) << 28;
+                    }
+                }
+            }
+        }
+        buffer.position(position);
+        return optimizePositive ? result : ((result >>> 1) ^ -(result & 1));
+    }
+
+    // Near the end of the buffer, where a truncated value must still end in EOFException
+    private int readIntSlow(boolean optimizePositive) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                break;
+        }
+        return optimizePositive ? result : ((result >>> 1) ^ -(result & 1));
+    }
+
+    // count floats into array from offset, copied through a float view of the buffer
+    public void readFloats(float[] array, int offset, int count, float scale) throws IOException {
+        require(count << 2);
+        int position = buffer.position();
+        buffer.asFloatBuffer().get(array, offset, count);
+        buffer.position(position + (count << 2));
+        if (scale != 1) {
+            for (int i = offset, n = offset + count; i < n; i++)
+                array[i] *= scale;
+        }
+    }
+
+    public void readShorts(short[] array, int offset, int count) throws IOException {
+        require(count << 1);
+        int position = buffer.position();
+        buffer.asShortBuffer().get(array, offset, count);
+        buffer.position(position + (count << 1));
+    }
+
+    // Length prefixed UTF-8, 0 is null and 1 is ""
+    public String readString() throws IOException {
+        int byteCount = readInt(true);
+        switch (byteCount) {
+            case 0:
+                return null;
+            case 1:
+                return "";
+        }
+        byteCount--;
+        require(byteCount);
+        if (chars.length < byteCount) chars = new char[byteCount];
+        char[] chars = this.chars;
+        ByteBuffer buffer = this.buffer;
+        int position = buffer.position(), end = position + byteCount, charCount = 0;
+        while (position < end) {
+            int b = buffer.get(position) & 0xFF;
+            switch (b >> 4) {
+                case 12, 13 -> {
+                    if (position + 2 > end) throw new EOFException();
+                    chars[charCount++] = (char) ((b & 0x1F) << 6 | buffer.get(position + 1) & 0x3F);
+                    position += 2;
+                }
+                case 14 -> {
+                    if (position + 3 > end) throw new EOFException();
+                    chars[charCount++] = (char) ((b & 0x0F) << 12 | (buffer.get(position + 1) & 0x3F) << 6 | buffer.get(position + 2) & 0x3F);
+                    position += 3;
+                }
+                default -> {
+                    chars[charCount++] = (char) b;
+                    position++;
+                }
+            }
+        }
+        buffer.position(end);
+        return new String(chars, 0, charCount);
+    }
+
+    public void close() {
+    }
+}
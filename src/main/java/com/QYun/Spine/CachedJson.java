@@ -0,0 +1,132 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.SerializationException;
+
+import java.io.IOException;
+
+// A skeleton JSON as JsonCache wrote it, values are entries in one buffer that are built into a JsonValue only when asked for.
+// The string table follows the root value. An entry is the name as a string reference, a tag and the value, objects and arrays carry their size so they can be skipped
+public class CachedJson {
+    static final int MAGIC = 0x53534A43;
+    // Bumped whenever the layout changes, older files are ignored and replaced
+    static final int FORMAT = 3;
+    static final byte OBJECT = 1, ARRAY = 2, STRING = 3, INT = 4, LONG = 5, FLOAT = 6, DOUBLE = 7, TRUE = 8, FALSE = 9;
+    private final BinaryInput input;
+    private final String[] strings;
+    private final int root;
+
+    CachedJson(BinaryInput input, byte range) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != FORMAT || input.readByte() != range)
+            throw new IOException("Stale json cache");
+        int table = input.readInt();
+        root = input.position();
+        input.position(table);
+        strings = new String[input.readInt(true)];
+        for (int i = 0; i < strings.length; i++)
+            strings[i] = input.readString();
+        this.input = input;
+    }
+
+    public int root() {
+        return root;
+    }
+
+    public String name(int entry) {
+        try {
+            input.position(entry);
+            return string();
+        } catch (IOException ex) {
+            throw new SerializationException("Error reading json cache", ex);
+        }
+    }
+
+    // Entries of the object or array at entry, empty for any other value
+    public IntArray children(int entry) {
+        IntArray children = new IntArray();
+        try {
+            input.position(entry);
+            input.readInt(true);
+            byte tag = input.readByte();
+            if (tag != OBJECT && tag != ARRAY)
+                return children;
+            int count = input.readInt();
+            input.readInt();
+            for (int i = 0; i < count; i++) {
+                children.add(input.position());
+                skip();
+            }
+        } catch (IOException ex) {
+            throw new SerializationException("Error reading json cache", ex);
+        }
+        return children;
+    }
+
+    // The value at entry as the tree JsonReader would have built, numbers without their text
+    public JsonValue value(int entry) {
+        try {
+            input.position(entry);
+            return value();
+        } catch (IOException ex) {
+            throw new SerializationException("Error reading json cache", ex);
+        }
+    }
+
+    private String string() throws IOException {
+        int index = input.readInt(true);
+        return index == 0 ? null : strings[index - 1];
+    }
+
+    private JsonValue value() throws IOException {
+        String name = string();
+        JsonValue value;
+        switch (input.readByte()) {
+            case OBJECT -> value = children(new JsonValue(ValueType.object));
+            case ARRAY -> value = children(new JsonValue(ValueType.array));
+            case STRING -> value = new JsonValue(string());
+            case INT -> value = new JsonValue(input.readInt(false));
+            case LONG -> value = new JsonValue(input.readLong());
+            case FLOAT -> value = new JsonValue(input.readFloat());
+            case DOUBLE -> value = new JsonValue(Double.longBitsToDouble(input.readLong()));
+            case TRUE -> value = new JsonValue(true);
+            case FALSE -> value = new JsonValue(false);
+            default -> throw new IOException("Unknown json cache tag");
+        }
+        value.setName(name);
+        return value;
+    }
+
+    private JsonValue children(JsonValue parent) throws IOException {
+        int count = input.readInt();
+        input.readInt();
+        JsonValue last = null;
+        for (int i = 0; i < count; i++) {
+            JsonValue child = value();
+            child.parent = parent;
+            if (last == null)
+                parent.child = child;
+            else {
+                last.next = child;
+                child.prev = last;
+            }
+            last = child;
+        }
+        parent.size = count;
+        return parent;
+    }
+
+    private void skip() throws IOException {
+        input.readInt(true);
+        switch (input.readByte()) {
+            case OBJECT, ARRAY -> {
+                input.readInt();
+                input.skip(input.readInt());
+            }
+            case STRING, INT -> input.readInt(true);
+            case LONG, DOUBLE -> input.skip(8);
+            case FLOAT -> input.skip(4);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.Arrays;
+
+// Draw calls of a frame in primitive arrays, filled by a GPU-free batch and read by any backend
+public class DrawList {
+    // x, y, light, dark, u, v with colors packed as in the two-color shader
+    public static final int VERTEX_SIZE = 6;
+    private static final int CALL_SIZE = 9;
+    private static final int PREMULTIPLIED = 1, BLENDING = 2;
+
+    private final Matrix4 projection = new Matrix4();
+    private float[] vertices = new float[VERTEX_SIZE * 4096];
+    private short[] triangles = new short[4096 * 3];
+    private int[] calls = new int[CALL_SIZE * 64];
+    private Texture[] textures = new Texture[64];
+    private int verticesCount, trianglesCount, size;
+
+    public void clear() {
+        verticesCount = 0;
+        trianglesCount = 0;
+        Arrays.fill(textures, 0, size, null);
+        size = 0;
+    }
+
+    // Indices stay relative to the call's first vertex, so a frame is not limited to 32767 vertices
+    public void add(Texture texture, float[] vertices, int verticesCount, short[] triangles, int trianglesCount,
+                    int srcFunc, int dstFunc, int srcFuncAlpha, int dstFuncAlpha, boolean premultipliedAlpha, boolean blending) {
+        if (this.verticesCount + verticesCount > this.vertices.length)
+            this.vertices = Arrays.copyOf(this.vertices, Math.max(this.vertices.length << 1, this.verticesCount + verticesCount));
+        if (this.trianglesCount + trianglesCount > this.triangles.length)
+            this.triangles = Arrays.copyOf(this.triangles, Math.max(this.triangles.length << 1, this.trianglesCount + trianglesCount));
+        if (size == textures.length) {
+            textures = Arrays.copyOf(textures, size << 1);
+            calls = Arrays.copyOf(calls, calls.length << 1);
+        }
+
+        System.arraycopy(vertices, 0, this.vertices, this.verticesCount, verticesCount);
+        System.arraycopy(triangles, 0, this.triangles, this.trianglesCount, trianglesCount);
+
+        int call = size * CALL_SIZE;
+        calls[call] = this.verticesCount / VERTEX_SIZE;
+        calls[call + 1] = verticesCount / VERTEX_SIZE;
+        calls[call + 2] = this.trianglesCount;
+        calls[call + 3] = trianglesCount;
+        calls[call + 4] = srcFunc;
+        calls[call + 5] = dstFunc;
+        calls[call + 6] = srcFuncAlpha;
+        calls[call + 7] = dstFuncAlpha;
+        calls[call + 8] = (premultipliedAlpha ? PREMULTIPLIED : 0) | (blending ? BLENDING : 0);
+        textures[size++] = texture;
+
+        this.verticesCount += verticesCount;
+        this.trianglesCount += trianglesCount;
+    }
+
+    // Projection times transform of the batch, world to clip space
+    public Matrix4 getProjection() {
+        return projection;
+    }
+
+    public float[] getVertices() {
+        return vertices;
+    }
+
+    public int getVerticesCount() {
+        return verticesCount;
+    }
+
+    public short[] getTriangles() {
+        return triangles;
+    }
+
+    public int getTrianglesCount() {
+        return trianglesCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Texture getTexture(int call) {
+        return textures[call];
+    }
+
+    public int getFirstVertex(int call) {
+        return calls[call * CALL_SIZE];
+    }
+
+    public int getVertexCount(int call) {
+        return calls[call * CALL_SIZE + 1];
+    }
+
+    public int getFirstTriangle(int call) {
+        return calls[call * CALL_SIZE + 2];
+    }
+
+    public int getTriangleCount(int call) {
+        return calls[call * CALL_SIZE + 3];
+    }
+
+    public int getSrcFunc(int call) {
+        return calls[call * CALL_SIZE + 4];
+    }
+
+    public int getDstFunc(int call) {
+        return calls[call * CALL_SIZE + 5];
+    }
+
+    public int getSrcFuncAlpha(int call) {
+        return calls[call * CALL_SIZE + 6];
+    }
+
+    public int getDstFuncAlpha(int call) {
+        return calls[call * CALL_SIZE + 7];
+    }
+
+    public boolean isPremultipliedAlpha(int call) {
+        return (calls[call * CALL_SIZE + 8] & PREMULTIPLIED) != 0;
+    }
+
+    public boolean isBlending(int call) {
+        return (calls[call * CALL_SIZE + 8] & BLENDING) != 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.Gdx;
+
+public class FrameScheduler {
+    private static volatile boolean recording = false;
+    private static volatile int frame = -1;
+    private static volatile int presented = -1;
+    private static volatile int allowed = -1;
+    private static float step;
+    private static float timeScale = 1;
+
+    public static void start(int fps, float timeScale) {
+        FrameScheduler.step = 1f / fps;
+        FrameScheduler.timeScale = timeScale;
+        frame = presented = allowed = -1;
+        recording = true;
+    }
+
+    public static void begin() {
+        allowed = 0;
+    }
+
+    public static void stop() {
+        recording = false;
+        frame = presented = -1;
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    // While recording, advance exactly one step per captured frame and hold until the recorder took it
+    public static float delta() {
+        if (!recording)
+            return Gdx.graphics.getDeltaTime();
+        if (frame >= allowed)
+            return 0;
+        return frame++ < 0 ? 0 : step;
+    }
+
+    public static int getFrame() {
+        return frame;
+    }
+
+    public static float getTime() {
+        return Math.max(frame, 0) * step * timeScale;
+    }
+
+    public static int getPresented() {
+        return presented;
+    }
+
+    public static void presented(int frame) {
+        FrameScheduler.presented = frame;
+    }
+
+    public static void captured(int frame) {
+        allowed = frame + 1;
+    }
+}
@@ -0,0 +1,168 @@
+package com.QYun.Spine;
+
+import jdk.jfr.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Per-frame stage times in a ring, written without locks from the render, FX and recorder threads
+public class FrameStats {
+    public enum Stage {
+        // Time since the previous frame began, the pacing the viewer actually got
+        PACING,
+        UPDATE,
+        APPLY,
+        WORLD,
+        // SkeletonRenderer.draw and the batch flush
+        DRAW,
+        READBACK,
+        // Copying a presented frame into the JavaFX image, measured on the FX thread
+        UPLOAD,
+        // Handing a frame to the recorder, including waits for queue room or the encoder
+        QUEUE
+    }
+
+    private static final Stage[] stages = Stage.values();
+    private static final int STAGES = stages.length;
+    private static final int CAPACITY = 1024;
+    private static final AtomicLongArray ring = new AtomicLongArray(CAPACITY * STAGES);
+    private static final EventType eventType = EventType.getEventType(FrameEvent.class);
+    private static volatile long frame = -1;
+    private static long lastBegin;
+
+    private static int row(long frame) {
+        return (int) (frame & (CAPACITY - 1)) * STAGES;
+    }
+
+    // Render thread, once per rendered frame before anything is recorded for it
+    public static void begin() {
+        long now = System.nanoTime();
+        long previous = frame;
+        if (previous >= 0) {
+            ring.set(row(previous) + Stage.PACING.ordinal(), now - lastBegin);
+            if (eventType.isEnabled())
+                commit(previous);
+        }
+        int next = row(previous + 1);
+        for (int i = 0; i < STAGES; i++)
+            ring.set(next + i, 0);
+        lastBegin = now;
+        frame = previous + 1;
+    }
+
+    // Adds the time since start to the current frame and returns now, so stages can be chained
+    public static long mark(Stage stage, long start) {
+        long now = System.nanoTime();
+        add(stage, now - start);
+        return now;
+    }
+
+    // Stages measured on other threads land in whichever frame the render thread is on
+    public static void add(Stage stage, long nanos) {
+        long current = frame;
+        if (current >= 0)
+            ring.getAndAdd(row(current) + stage.ordinal(), nanos);
+    }
+
+    // The newest finished frame, -1 before the second frame began
+    public static long getFrame() {
+        return frame - 1;
+    }
+
+    public static long get(long frame, Stage stage) {
+        return ring.get(row(frame) + stage.ordinal());
+    }
+
+    public static double average(Stage stage, int frames) {
+        long last = getFrame();
+        int count = (int) Math.min(Math.min(frames, CAPACITY - 1), last + 1);
+        if (count <= 0)
+            return 0;
+        long sum = 0;
+        for (long i = last - count + 1; i <= last; i++)
+            sum += get(i, stage);
+        return (double) sum / count;
+    }
+
+    public static long max(Stage stage, int frames) {
+        long last = getFrame(), max = 0;
+        for (long i = Math.max(0, last - Math.min(frames, CAPACITY - 1) + 1); i <= last; i++)
+            max = Math.max(max, get(i, stage));
+        return max;
+    }
+
+    // One line per stage, average and worst over the last frames in milliseconds
+    public static String summary(int frames) {
+        StringBuilder text = new StringBuilder(String.format("%-9s%7s%8s%n", "ms", "avg", "max"));
+        for (Stage stage : stages)
+            text.append(String.format("%-9s%7.2f%8.2f%n", stage, average(stage, frames) / 1e6, max(stage, frames) / 1e6));
+        return text.toString();
+    }
+
+    // Every frame still in the ring, times in nanoseconds
+    public static void writeCSV(File file) throws IOException {
+        long last = getFrame();
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            writer.print("frame");
+            for (Stage stage : stages)
+                writer.print("," + stage.name().toLowerCase());
+            writer.println();
+            for (long i = Math.max(0, last - CAPACITY + 2); i <= last; i++) {
+                writer.print(i);
+                for (Stage stage : stages)
+                    writer.print("," + get(i, stage));
+                writer.println();
+            }
+        }
+    }
+
+    private static void commit(long frame) {
+        FrameEvent event = new FrameEvent();
+        event.frame = frame;
+        event.pacing = get(frame, Stage.PACING);
+        event.update = get(frame, Stage.UPDATE);
+        event.apply = get(frame, Stage.APPLY);
+        event.world = get(frame, Stage.WORLD);
+        event.draw = get(frame, Stage.DRAW);
+        event.readback = get(frame, Stage.READBACK);
+        event.upload = get(frame, Stage.UPLOAD);
+        event.queue = get(frame, Stage.QUEUE);
+        event.commit();
+    }
+
+    // Recorded with -XX:StartFlightRecording, only built while a recording has it enabled
+    @Name("SuperSpineViewer.Frame")
+    @Label("Frame")
+    @Category("SuperSpineViewer")
+    @StackTrace(false)
+    static class FrameEvent extends Event {
+        @Label("Frame")
+        long frame;
+        @Label("Pacing")
+        @Timespan
+        long pacing;
+        @Label("AnimationState Update")
+        @Timespan
+        long update;
+        @Label("AnimationState Apply")
+        @Timespan
+        long apply;
+        @Label("Update World Transform")
+        @Timespan
+        long world;
+        @Label("Draw")
+        @Timespan
+        long draw;
+        @Label("Readback")
+        @Timespan
+        long readback;
+        @Label("FX Upload")
+        @Timespan
+        long upload;
+        @Label("Capture Queue")
+        @Timespan
+        long queue;
+    }
+}
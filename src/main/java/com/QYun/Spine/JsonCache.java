@@ -0,0 +1,565 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Skeleton JSON converted once into CachedJson's binary form and kept on disk, later loads read it like a .skel instead of parsing text.
+// A .bin is named by the content hash and runtime range, a .ref per source path remembers which .bin its size and time last matched
+public class JsonCache {
+    private static final File dir = new File(System.getProperty("SuperSpineViewer.jsonCache",
+            System.getProperty("user.home") + File.separator + ".SuperSpineViewer" + File.separator + "jsonCache"));
+    // In MB, 0 turns the cache off
+    private static final long limit = Long.getLong("SuperSpineViewer.jsonCacheSize", 256) << 20;
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JsonCache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // A conversion that already started is finished on exit, otherwise a headless export would never leave one behind
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+            }
+        }));
+    }
+
+    private static boolean cached(FileHandle file) {
+        return limit > 0 && file.type() != FileType.Classpath && file.type() != FileType.Internal;
+    }
+
+    // The cached form of file, null when there is none yet or the file changed since
+    public static CachedJson open(FileHandle file) {
+        if (!cached(file))
+            return null;
+        byte range = Universal.Range;
+        File ref = new File(dir, hash(file.file().getAbsolutePath().getBytes(StandardCharsets.UTF_8)) + "-" + range + ".ref");
+        if (!ref.isFile())
+            return null;
+        try {
+            File bin;
+            try (DataInputStream in = new DataInputStream(new FileInputStream(ref))) {
+                if (in.readLong() != file.length() || in.readLong() != file.lastModified())
+                    return null;
+                bin = new File(dir, in.readUTF());
+            }
+            CachedJson json = new CachedJson(new BinaryInput(new FileHandle(bin)), range);
+            long now = System.currentTimeMillis();
+            ref.setLastModified(now);
+            bin.setLastModified(now);
+            System.out.println("Json缓存命中");
+            return json;
+        } catch (IOException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    // The whole document for the runtimes that read it as one tree
+    public static JsonValue parse(FileHandle file) {
+        CachedJson cached = open(file);
+        if (cached != null)
+            return cached.value(cached.root());
+        long modified = file.lastModified();
+        JsonValue root = new JsonReader().parse(file);
+        store(file, modified);
+        return root;
+    }
+
+    // Converts file in the background once its load is done, reading it again from disk so the loader's bytes are not held on to.
+    // modified was taken before the load read the file, a file edited since is left for the next load
+    public static void store(FileHandle file, long modified) {
+        if (!cached(file) || modified == 0)
+            return;
+        File source = file.file().getAbsoluteFile();
+        byte range = Universal.Range;
+        writer.execute(() -> {
+            try {
+                write(source, modified, range);
+            } catch (Throwable ex) {
+                // Out of memory included, the load itself is done and a missing cache only costs the next one
+                System.out.println("Json缓存写入失败：" + source);
+                ex.printStackTrace();
+            }
+        });
+    }
+
+    // Waits for the conversions queued so far
+    public static void await() {
+        try {
+            writer.submit(() -> {
+            }).get();
+        } catch (Exception ignored) {
+        }
+    }
+
+    private static void write(File source, long modified, byte range) throws IOException {
+        long size = source.length();
+        if (source.lastModified() != modified)
+            return;
+        if (!dir.isDirectory() && !dir.mkdirs())
+            throw new IOException("Cannot create " + dir);
+        String name = hash(source) + "-" + range + ".bin";
+        File bin = new File(dir, name);
+        if (!valid(bin, range)) {
+            File temp = File.createTempFile(name, ".tmp", dir);
+            try {
+                try (InputStream in = new FileInputStream(source); Writer out = new Writer(temp, range)) {
+                    out.convert(in);
+                }
+                if (source.length() != size || source.lastModified() != modified)
+                    return;
+                move(temp, bin);
+            } finally {
+                temp.delete();
+            }
+        } else bin.setLastModified(System.currentTimeMillis());
+
+        ByteArrayOutputStream ref = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(ref)) {
+            out.writeLong(size);
+            out.writeLong(modified);
+            out.writeUTF(name);
+        }
+        File temp = File.createTempFile(name, ".tmp", dir);
+        try {
+            Files.write(temp.toPath(), ref.toByteArray());
+            move(temp, new File(dir, hash(source.getPath().getBytes(StandardCharsets.UTF_8)) + "-" + range + ".ref"));
+        } finally {
+            temp.delete();
+        }
+        trim();
+    }
+
+    // The same content reached through another path or a touched file already has its .bin
+    private static boolean valid(File bin, byte range) {
+        if (!bin.isFile())
+            return false;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(bin))) {
+            return in.readInt() == CachedJson.MAGIC && in.readInt() == CachedJson.FORMAT && in.readByte() == range;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    // Written aside and moved over, another viewer or a batch process reading the same file never sees half of it
+    private static void move(File temp, File file) throws IOException {
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Least recently used first until the directory fits, a hit touches its files. A mapped .bin on Windows is skipped until released
+    private static void trim() {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return;
+        long size = 0;
+        for (File file : files)
+            size += file.length();
+        if (size <= limit)
+            return;
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (size <= limit)
+                break;
+            long length = file.length();
+            if (file.delete())
+                size -= length;
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        StringBuilder hash = new StringBuilder();
+        try {
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(bytes))
+                hash.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        } catch (NoSuchAlgorithmException e) {
+            hash.append(Integer.toHexString(Arrays.hashCode(bytes))).append('-').append(bytes.length);
+        }
+        return hash.toString();
+    }
+
+    // The content key, read in chunks like the conversion
+    private static String hash(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[1 << 16];
+            for (int count; (count = in.read(buffer)) != -1; )
+                digest.update(buffer, 0, count);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest())
+                hash.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            return hash.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    // Tokenizes the file's bytes as they are read and writes CachedJson entries straight to disk, only the string table is kept in memory.
+    // Values become what JsonReader would make of them, anything beyond the strict JSON the editor writes stops the conversion
+    private static class Writer implements Closeable {
+        private final byte range;
+        private final HashMap<String, Integer> strings = new HashMap<>();
+        private final FileChannel channel;
+        private final ByteBuffer output = ByteBuffer.allocate(1 << 16);
+        // File position of output's first byte
+        private long flushed;
+        private InputStream in;
+        private final byte[] input = new byte[1 << 16];
+        private int position, limit, pending = -2;
+        private byte[] scratch = new byte[256];
+        private final StringBuilder text = new StringBuilder();
+
+        private Writer(File file, byte range) throws IOException {
+            this.range = range;
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        private void convert(InputStream in) throws IOException {
+            this.in = in;
+            writeInt(CachedJson.MAGIC);
+            writeInt(CachedJson.FORMAT);
+            writeByte(range);
+            long table = position();
+            writeInt(0);
+            value(null, space(read()));
+            if (space(read()) != -1)
+                throw unsupported();
+            // The table goes last, its strings are only all known at the end
+            if (position() > Integer.MAX_VALUE)
+                throw new IOException("Json cache too large");
+            patch(table, (int) position());
+            String[] values = new String[strings.size()];
+            strings.forEach((string, index) -> values[index - 1] = string);
+            writeVarint(values.length);
+            for (String value : values)
+                writeString(value);
+            flush();
+        }
+
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        private IOException unsupported() {
+            return new IOException("Not plain JSON");
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int b = pending;
+                pending = -2;
+                return b;
+            }
+            if (position == limit) {
+                limit = in.read(input);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return input[position++] & 0xFF;
+        }
+
+        private int space(int b) throws IOException {
+            while (b == ' ' || b == '\t' || b == '\r' || b == '\n')
+                b = read();
+            return b;
+        }
+
+        private void value(String name, int b) throws IOException {
+            switch (b) {
+                case '{' -> {
+                    long start = start(name, CachedJson.OBJECT);
+                    int count = 0;
+                    b = space(read());
+                    if (b != '}') {
+                        while (true) {
+                            if (b != '"')
+                                throw unsupported();
+                            String key = string();
+                            if (space(read()) != ':')
+                                throw unsupported();
+                            value(key, space(read()));
+                            count++;
+                            b = space(read());
+                            if (b == '}')
+                                break;
+                            if (b != ',')
+                                throw unsupported();
+                            b = space(read());
+                        }
+                    }
+                    end(start, count);
+                }
+                case '[' -> {
+                    long start = start(name, CachedJson.ARRAY);
+                    int count = 0;
+                    b = space(read());
+                    if (b != ']') {
+                        while (true) {
+                            value(null, b);
+                            count++;
+                            b = space(read());
+                            if (b == ']')
+                                break;
+                            if (b != ',')
+                                throw unsupported();
+                            b = space(read());
+                        }
+                    }
+                    end(start, count);
+                }
+                case '"' -> {
+                    entry(name, CachedJson.STRING);
+                    writeReference(string());
+                }
+                default -> literal(name, b);
+            }
+        }
+
+        // Past the opening quote, raw bytes are decoded as UTF-8 a run at a time and escapes are unescaped as JsonReader does
+        private String string() throws IOException {
+            text.setLength(0);
+            int count = 0;
+            while (true) {
+                int b = read();
+                if (b == -1)
+                    throw unsupported();
+                if (b == '"')
+                    break;
+                if (b == '\\') {
+                    text.append(new String(scratch, 0, count, StandardCharsets.UTF_8));
+                    count = 0;
+                    int c = read();
+                    switch (c) {
+                        case 'u' -> {
+                            int value = 0;
+                            for (int i = 0; i < 4; i++) {
+                                int digit = Character.digit(read(), 16);
+                                if (digit < 0)
+                                    throw unsupported();
+                                value = value << 4 | digit;
+                            }
+                            text.append((char) value);
+                        }
+                        case 'b' -> text.append('\b');
+                        case 'f' -> text.append('\f');
+                        case 'n' -> text.append('\n');
+                        case 'r' -> text.append('\r');
+                        case 't' -> text.append('\t');
+                        case -1 -> throw unsupported();
+                        default -> text.append((char) c);
+                    }
+                    continue;
+                }
+                if (count == scratch.length)
+                    scratch = Arrays.copyOf(scratch, count << 1);
+                scratch[count++] = (byte) b;
+            }
+            if (text.length() == 0)
+                return new String(scratch, 0, count, StandardCharsets.UTF_8);
+            return text.append(new String(scratch, 0, count, StandardCharsets.UTF_8)).toString();
+        }
+
+        // true, false, null and numbers, told apart the way JsonReader does for unquoted values
+        private void literal(String name, int b) throws IOException {
+            text.setLength(0);
+            while (b != -1 && b != ',' && b != '}' && b != ']' && b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                if (b < 0x21 || b > 0x7E || b == '{' || b == '[' || b == '"' || b == ':' || b == '/')
+                    throw unsupported();
+                text.append((char) b);
+                b = read();
+            }
+            pending = b;
+            String value = text.toString();
+            switch (value) {
+                case "" -> throw unsupported();
+                case "true" -> entry(name, CachedJson.TRUE);
+                case "false" -> entry(name, CachedJson.FALSE);
+                case "null" -> {
+                    entry(name, CachedJson.STRING);
+                    writeReference(null);
+                }
+                default -> number(name, value);
+            }
+        }
+
+        private void number(String name, String value) throws IOException {
+            boolean couldBeDouble = false, couldBeLong = true;
+            for (int i = 0, n = value.length(); i < n && couldBeLong | couldBeDouble; i++) {
+                switch (value.charAt(i)) {
+                    case '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '-', '+' -> {
+                    }
+                    case '.', 'e', 'E' -> {
+                        couldBeDouble = true;
+                        couldBeLong = false;
+                    }
+                    default -> couldBeDouble = couldBeLong = false;
+                }
+            }
+            try {
+                if (couldBeDouble) {
+                    number(name, Double.parseDouble(value));
+                    return;
+                }
+                if (couldBeLong) {
+                    number(name, Long.parseLong(value));
+                    return;
+                }
+            } catch (NumberFormatException ignored) {
+            }
+            entry(name, CachedJson.STRING);
+            writeReference(value);
+        }
+
+        // Floats carry every value a runtime reads with getFloat or getInt, so only larger or tinier numbers and those rounding onto the next integer keep 8 bytes
+        private void number(String name, double value) throws IOException {
+            double magnitude = Math.abs(value);
+            if (magnitude < 0x1p24 && (magnitude == 0 || magnitude >= Float.MIN_NORMAL) && (long) (float) value == (long) value) {
+                entry(name, CachedJson.FLOAT);
+                writeInt(Float.floatToIntBits((float) value));
+            } else {
+                entry(name, CachedJson.DOUBLE);
+                writeLong(Double.doubleToLongBits(value));
+            }
+        }
+
+        private void number(String name, long value) throws IOException {
+            if (value == (int) value) {
+                entry(name, CachedJson.INT);
+                writeVarint((int) value << 1 ^ (int) value >> 31);
+            } else {
+                entry(name, CachedJson.LONG);
+                writeLong(value);
+            }
+        }
+
+        private void entry(String name, byte tag) throws IOException {
+            writeReference(name);
+            writeByte(tag);
+        }
+
+        // Count and byte length are filled in by end
+        private long start(String name, byte tag) throws IOException {
+            entry(name, tag);
+            long start = position();
+            writeInt(0);
+            writeInt(0);
+            return start;
+        }
+
+        private void end(long start, int count) throws IOException {
+            long length = position() - start - 8;
+            if (length > Integer.MAX_VALUE)
+                throw new IOException("Json cache too large");
+            patch(start, count);
+            patch(start + 4, (int) length);
+        }
+
+        private long position() {
+            return flushed + output.position();
+        }
+
+        private void require(int count) throws IOException {
+            if (output.remaining() < count)
+                flush();
+        }
+
+        private void flush() throws IOException {
+            output.flip();
+            while (output.hasRemaining())
+                channel.write(output, flushed + output.position());
+            flushed += output.limit();
+            output.clear();
+        }
+
+        // An int is never split across a flush, it is either still in output or already on disk
+        private void patch(long at, int value) throws IOException {
+            if (at >= flushed) {
+                output.putInt((int) (at - flushed), value);
+                return;
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(4).putInt(value).flip();
+            while (bytes.hasRemaining())
+                channel.write(bytes, at + bytes.position());
+        }
+
+        private void writeByte(int value) throws IOException {
+            require(1);
+            output.put((byte) value);
+        }
+
+        private void writeInt(int value) throws IOException {
+            require(4);
+            output.putInt(value);
+        }
+
+        private void writeLong(long value) throws IOException {
+            require(8);
+            output.putLong(value);
+        }
+
+        // The encoding BinaryInput.readInt(true) reads
+        private void writeVarint(int value) throws IOException {
+            require(5);
+            while ((value & ~0x7F) != 0) {
+                output.put((byte) (value & 0x7F | 0x80));
+                value >>>= 7;
+            }
+            output.put((byte) value);
+        }
+
+        // One to three bytes per char like libGDX DataOutput, surrogates included, which is what BinaryInput.readString decodes
+        private void writeString(String value) throws IOException {
+            int byteCount = 0;
+            for (int i = 0, n = value.length(); i < n; i++) {
+                char c = value.charAt(i);
+                byteCount += c <= 0x7F ? 1 : c <= 0x7FF ? 2 : 3;
+            }
+            writeVarint(byteCount + 1);
+            for (int i = 0, n = value.length(); i < n; i++) {
+                char c = value.charAt(i);
+                require(3);
+                if (c <= 0x7F)
+                    output.put((byte) c);
+                else if (c <= 0x7FF) {
+                    output.put((byte) (0xC0 | c >> 6));
+                    output.put((byte) (0x80 | c & 0x3F));
+                } else {
+                    output.put((byte) (0xE0 | c >> 12));
+                    output.put((byte) (0x80 | c >> 6 & 0x3F));
+                    output.put((byte) (0x80 | c & 0x3F));
+                }
+            }
+        }
+
+        private void writeReference(String value) throws IOException {
+            writeVarint(value == null ? 0 : strings.computeIfAbsent(value, string -> strings.size() + 1));
+        }
+    }
+}
@@ -1,23 +1,21 @@
 package com.QYun.Spine;
 
+import com.QYun.Spine.FrameStats.Stage;
 import com.QYun.SuperSpineViewer.GUI.Controller;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.PolygonBatch;
 import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.utils.Array;
 import com.esotericsoftware.SpineLatency.*;
 import com.esotericsoftware.SpineLatency.AnimationState.TrackEntry;
-import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 
 public class Latency extends SuperSpine {
-    private PolygonSpriteBatch batch;
+    private PolygonBatch batch;
     private OrthographicCamera camera;
     private SkeletonMeshRenderer renderer;
     private Skeleton skeleton;
@@ -60,33 +58,6 @@ public class Latency extends SuperSpine {
             } else state.setTimeScale(0);
         }
     };
-    private ChangeListener<Number> scaleListener = (observable, oldValue, newValue) -> {
-        if (state != null) {
-            Gdx.app.postRunnable(this::loadSkel);
-            if (animate.get() != null) {
-                state.setAnimation(0, animate.get(), isLoop.get());
-                isPlay.set(true);
-            }
-        }
-    };
-    private ChangeListener<Number> XListener = (observable, oldValue, newValue) -> {
-        if (state != null) {
-            Gdx.app.postRunnable(this::loadSkel);
-            if (animate.get() != null) {
-                state.setAnimation(0, animate.get(), isLoop.get());
-                isPlay.set(true);
-            }
-        }
-    };
-    private ChangeListener<Number> YListener = (observable, oldValue, newValue) -> {
-        if (state != null) {
-            Gdx.app.postRunnable(this::loadSkel);
-            if (animate.get() != null) {
-                state.setAnimation(0, animate.get(), isLoop.get());
-                isPlay.set(true);
-            }
-        }
-    };
     private ChangeListener<Number> speedListener = (observable, oldValue, newValue) -> {
         if (state != null)
             state.setTimeScale(speed.get());
@@ -103,31 +74,20 @@ public class Latency extends SuperSpine {
     private boolean loadSkel() {
         TextureAtlasData atlasData = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
 
-        TextureAtlas atlas = new TextureAtlas(atlasData) {
-            public AtlasRegion findRegion(String name) {
-                AtlasRegion region = super.findRegion(name);
-                if (region == null) {
-                    FileHandle file = skelFile.sibling(name + ".png");
-                    if (file.exists()) {
-                        Texture texture = new Texture(file);
-                        texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
-                        region = new AtlasRegion(texture, 0, 0, texture.getWidth(), texture.getHeight());
-                        region.name = name;
-                    }
-                }
-                return region;
+        String key = SkeletonCache.key(skelFile, atlasFile, atlasData);
+        SkeletonData skeletonData = SkeletonCache.get(key);
+        if (skeletonData == null) {
+            TextureAtlas atlas = TextureCache.atlas(atlasFile, skelFile, atlasData);
+
+            if (isBinary) {
+                SkeletonBinary binary = new SkeletonBinary(atlas);
+                skeletonData = binary.readSkeletonData(skelFile);
+            } else {
+                SkeletonJson json = new SkeletonJson(atlas);
+                skeletonData = json.readSkeletonData(skelFile);
             }
-        };
-
-        SkeletonData skeletonData;
-        if (isBinary) {
-            SkeletonBinary binary = new SkeletonBinary(atlas);
-            binary.setScale(scale.get());
-            skeletonData = binary.readSkeletonData(skelFile);
-        } else {
-            SkeletonJson json = new SkeletonJson(atlas);
-            json.setScale(scale.get());
-            skeletonData = json.readSkeletonData(skelFile);
+            SkeletonCache.put(key, skeletonData, atlas);
+            TextureCache.report();
         }
         if (skeletonData.getBones().size == 0) {
             System.out.println("骨骼为空");
@@ -137,9 +97,10 @@ public class Latency extends SuperSpine {
         skeleton = new Skeleton(skeletonData);
         skeleton.updateWorldTransform();
         skeleton.setToSetupPose();
-        skeleton.setPosition(X.get(), Y.get());
 
         state = new AnimationState(new AnimationStateData(skeletonData));
+        if (Controller.crowd != 0)
+            System.out.println("2.1 - 3.2 没有TwoColorPolygonBatch，不支持多骨骼场景");
         spineVersion.set(skeletonData.getVersion());
         projectName.set(skeletonData.getName());
 
@@ -154,9 +115,6 @@ public class Latency extends SuperSpine {
         animate.addListener(animateListener);
         isLoop.addListener(isLoopListener);
         isPlay.addListener(isPlayListener);
-        scale.addListener(scaleListener);
-        X.addListener(XListener);
-        Y.addListener(YListener);
         speed.addListener(speedListener);
     }
 
@@ -173,24 +131,18 @@ public class Latency extends SuperSpine {
             animate.removeListener(animateListener);
             isLoop.removeListener(isLoopListener);
             isPlay.removeListener(isPlayListener);
-            scale.removeListener(scaleListener);
-            X.removeListener(XListener);
-            Y.removeListener(YListener);
             speed.removeListener(speedListener);
 
             skinListener = null;
             animateListener = null;
             isLoopListener = null;
             isPlayListener = null;
-            scaleListener = null;
-            XListener = null;
-            YListener = null;
             speedListener = null;
         } else Gdx.app.postRunnable(this::loadSkel);
     }
 
     void create() {
-        batch = new PolygonSpriteBatch();
+        batch = Universal.drawList == null ? new PolygonSpriteBatch() : new StandardDrawBatch(Universal.drawList);
         camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         renderer = new SkeletonMeshRenderer();
         renderer.setPremultipliedAlpha(true);
@@ -200,19 +152,31 @@ public class Latency extends SuperSpine {
     }
 
     void render() {
-        state.update(Gdx.graphics.getDeltaTime());
+        long time = System.nanoTime();
+        state.update(FrameScheduler.delta());
+        time = FrameStats.mark(Stage.UPDATE, time);
         state.apply(skeleton);
+        time = FrameStats.mark(Stage.APPLY, time);
+        // Scale zooms the camera instead of reparsing, position is divided back into world units
+        float zoom = scale.get() == 0 ? 1 : scale.get();
+        skeleton.setPosition(X.get() / zoom, Y.get() / zoom);
         skeleton.updateWorldTransform();
+        FrameStats.mark(Stage.WORLD, time);
 
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        Gdx.graphics.setTitle("FPS : " + Gdx.graphics.getFramesPerSecond());
+        // The software rasterizer starts every frame cleared
+        if (Universal.drawList == null)
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        ViewerStatus.fps(Gdx.graphics.getFramesPerSecond());
         renderer.setPremultipliedAlpha(Controller.preA);
 
+        camera.zoom = 1 / zoom;
         camera.update();
         batch.getProjectionMatrix().set(camera.combined);
+        time = System.nanoTime();
         batch.begin();
         renderer.draw(batch, skeleton);
         batch.end();
+        FrameStats.mark(Stage.DRAW, time);
 
         if (state != null) {
             TrackEntry entry = state.getCurrent(0);
@@ -221,7 +185,7 @@ public class Latency extends SuperSpine {
                 if (entry.getLoop())
                     percent %= 1;
                 if (isPlay.get())
-                    Platform.runLater(() -> Controller.progressBar.setProgress(percent));
+                    ViewerStatus.progress(percent);
                 if (percent >= 1 && !isLoop.get())
                     isPlay.set(false);
             }
@@ -0,0 +1,40 @@
+package com.QYun.Spine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// The animations of one lazily loaded skeleton, timelines are decoded the first time an animation is played and only the most recently played stay decoded
+public class LazyAnimations {
+    // The viewer's animation, the one it mixes from and a few it went back and forth between
+    private static final int RETAINED = 8;
+    private final LinkedHashMap<Lazy, Boolean> decoded = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Lazy, Boolean> eldest) {
+            if (size() <= RETAINED)
+                return false;
+            eldest.getKey().evict();
+            return true;
+        }
+    };
+
+    public interface Lazy {
+        void decode();
+
+        // Drops the timelines, a track still playing the animation only loses its keys until it is set again
+        void evict();
+    }
+
+    // Decodes are serialized per skeleton, they all read from the one buffer the loader kept
+    public synchronized void use(Lazy animation) {
+        if (decoded.get(animation) != null)
+            return;
+        try {
+            animation.decode();
+        } catch (RuntimeException ex) {
+            // Loading used to fail on a broken animation, now only playing it does and the others still play
+            System.out.println("动画解析失败：" + animation);
+            ex.printStackTrace();
+        }
+        decoded.put(animation, Boolean.TRUE);
+    }
+}
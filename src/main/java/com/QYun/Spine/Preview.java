@@ -1,19 +1,16 @@
 package com.QYun.Spine;
 
+import com.QYun.Spine.FrameStats.Stage;
 import com.QYun.SuperSpineViewer.GUI.Controller;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.utils.Array;
 import com.esotericsoftware.SpinePreview.*;
 import com.esotericsoftware.SpinePreview.AnimationState.TrackEntry;
 import com.esotericsoftware.SpinePreview.utils.TwoColorPolygonBatch;
-import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 
 public class Preview extends SuperSpine {
@@ -22,6 +19,7 @@ public class Preview extends SuperSpine {
     private SkeletonRenderer renderer;
     private Skeleton skeleton;
     private AnimationState state;
+    private PreviewScene scene;
     private ChangeListener<String> skinListener = (observable, oldValue, newValue) -> {
         if (skeleton != null) {
             if (newValue == null)
@@ -63,33 +61,6 @@ public class Preview extends SuperSpine {
             } else state.setTimeScale(0);
         }
     };
-    private ChangeListener<Number> scaleListener = (observable, oldValue, newValue) -> {
-        if (state != null) {
-            Gdx.app.postRunnable(this::loadSkel);
-            if (animate.get() != null) {
-                state.setAnimation(0, animate.get(), isLoop.get());
-                isPlay.set(true);
-            }
-        }
-    };
-    private ChangeListener<Number> XListener = (observable, oldValue, newValue) -> {
-        if (state != null) {
-            Gdx.app.postRunnable(this::loadSkel);
-            if (animate.get() != null) {
-                state.setAnimation(0, animate.get(), isLoop.get());
-                isPlay.set(true);
-            }
-        }
-    };
-    private ChangeListener<Number> YListener = (observable, oldValue, newValue) -> {
-        if (state != null) {
-            Gdx.app.postRunnable(this::loadSkel);
-            if (animate.get() != null) {
-                state.setAnimation(0, animate.get(), isLoop.get());
-                isPlay.set(true);
-            }
-        }
-    };
     private ChangeListener<Number> speedListener = (observable, oldValue, newValue) -> {
         if (state != null)
             state.setTimeScale(speed.get());
@@ -106,29 +77,20 @@ public class Preview extends SuperSpine {
     private boolean loadSkel() {
         TextureAtlasData atlasData = new TextureAtlasData(atlasFile, atlasFile.parent(), false);
 
-        TextureAtlas atlas = new TextureAtlas(atlasData) {
-            public AtlasRegion findRegion(String name) {
-                AtlasRegion region = super.findRegion(name);
-                if (region == null) {
-                    FileHandle file = skelFile.sibling(name + ".png");
-                    if (file.exists()) {
-                        Texture texture = new Texture(file);
-                        texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
-                        region = new AtlasRegion(texture, 0, 0, texture.getWidth(), texture.getHeight());
-                        region.name = name;
-                    }
-                }
-                return region;
-            }
-        };
+        String key = SkeletonCache.key(skelFile, atlasFile, atlasData);
+        SkeletonData skeletonData = SkeletonCache.get(key);
+        if (skeletonData == null) {
+            TextureAtlas atlas = TextureCache.atlas(atlasFile, skelFile, atlasData);
 
-        SkeletonLoader loader;
-        if (isBinary)
-            loader = new SkeletonBinary(atlas);
-        else loader = new SkeletonJson(atlas);
+            SkeletonLoader loader;
+            if (isBinary)
+                loader = new SkeletonBinary(atlas);
+            else loader = new SkeletonJson(atlas);
 
-        loader.setScale(scale.get());
-        SkeletonData skeletonData = loader.readSkeletonData(skelFile);
+            skeletonData = loader.readSkeletonData(skelFile);
+            SkeletonCache.put(key, skeletonData, atlas);
+            TextureCache.report();
+        }
         if (skeletonData.getBones().size == 0) {
             System.out.println("骨骼为空");
             return false;
@@ -137,12 +99,13 @@ public class Preview extends SuperSpine {
         skeleton = new Skeleton(skeletonData);
         skeleton.updateWorldTransform();
         skeleton.setToSetupPose();
-        skeleton.setPosition(X.get(), Y.get());
 
         state = new AnimationState(new AnimationStateData(skeletonData));
         if (animate.get() == null)
             state.setEmptyAnimation(0, 0);
 
+        scene = Controller.crowd == 0 ? null : new PreviewScene(skeletonData, Controller.crowd, Controller.crowd < 0);
+
         spineVersion.set(skeletonData.getVersion());
         projectName.set(skeletonData.getName());
 
@@ -157,9 +120,6 @@ public class Preview extends SuperSpine {
         animate.addListener(animateListener);
         isLoop.addListener(isLoopListener);
         isPlay.addListener(isPlayListener);
-        scale.addListener(scaleListener);
-        X.addListener(XListener);
-        Y.addListener(YListener);
         speed.addListener(speedListener);
     }
 
@@ -171,29 +131,24 @@ public class Preview extends SuperSpine {
             renderer = null;
             skeleton = null;
             state = null;
+            scene = null;
 
             skin.removeListener(skinListener);
             animate.removeListener(animateListener);
             isLoop.removeListener(isLoopListener);
             isPlay.removeListener(isPlayListener);
-            scale.removeListener(scaleListener);
-            X.removeListener(XListener);
-            Y.removeListener(YListener);
             speed.removeListener(speedListener);
 
             skinListener = null;
             animateListener = null;
             isLoopListener = null;
             isPlayListener = null;
-            scaleListener = null;
-            XListener = null;
-            YListener = null;
             speedListener = null;
         } else Gdx.app.postRunnable(this::loadSkel);
     }
 
     void create() {
-        batch = new TwoColorPolygonBatch(3100);
+        batch = Universal.drawList == null ? new TwoColorPolygonBatch(3100) : new PreviewDrawBatch(Universal.drawList);
         camera = new OrthographicCamera(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         renderer = new SkeletonRenderer();
         renderer.setPremultipliedAlpha(true);
@@ -203,28 +158,51 @@ public class Preview extends SuperSpine {
     }
 
     void render() {
-        state.update(Gdx.graphics.getDeltaTime());
-        state.apply(skeleton);
-        skeleton.updateWorldTransform();
+        long time = System.nanoTime();
+        float delta = FrameScheduler.delta();
+        state.update(delta);
+        time = FrameStats.mark(Stage.UPDATE, time);
+        // Scale zooms the camera instead of reparsing, position is divided back into world units
+        float zoom = scale.get() == 0 ? 1 : scale.get();
+        if (scene != null) {
+            // The copies update, apply and pose together on the pool
+            scene.update(skeleton, state, delta, X.get() / zoom, Y.get() / zoom);
+            FrameStats.mark(Stage.APPLY, time);
+        } else {
+            state.apply(skeleton);
+            time = FrameStats.mark(Stage.APPLY, time);
+            skeleton.setPosition(X.get() / zoom, Y.get() / zoom);
+            skeleton.updateWorldTransform();
+            FrameStats.mark(Stage.WORLD, time);
+        }
 
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        Gdx.graphics.setTitle("FPS : " + Gdx.graphics.getFramesPerSecond());
+        // The software rasterizer starts every frame cleared
+        if (Universal.drawList == null)
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        ViewerStatus.fps(Gdx.graphics.getFramesPerSecond());
+        if (scene != null)
+            ViewerStatus.scene(scene.getVisible(), scene.size());
 
         renderer.setPremultipliedAlpha(Controller.preA);
         batch.setPremultipliedAlpha(Controller.preA);
 
+        camera.zoom = 1 / zoom;
         camera.update();
         batch.getProjectionMatrix().set(camera.combined);
+        time = System.nanoTime();
         batch.begin();
-        renderer.draw(batch, skeleton);
+        if (scene != null)
+            scene.draw(batch, renderer, camera, Controller.preA);
+        else renderer.draw(batch, skeleton);
         batch.end();
+        FrameStats.mark(Stage.DRAW, time);
 
         if (state != null) {
             TrackEntry entry = state.getCurrent(0);
             if (entry != null) {
                 percent = entry.getAnimationTime() / entry.getAnimationEnd();
                 if (isPlay.get())
-                    Platform.runLater(() -> Controller.progressBar.setProgress(percent));
+                    ViewerStatus.progress(percent);
                 if (percent >= 1 && !isLoop.get())
                     isPlay.set(false);
             }
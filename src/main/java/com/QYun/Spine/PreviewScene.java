@@ -0,0 +1,240 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.esotericsoftware.SpinePreview.*;
+import com.esotericsoftware.SpinePreview.AnimationState.TrackEntry;
+import com.esotericsoftware.SpinePreview.attachments.ClippingAttachment;
+import com.esotericsoftware.SpinePreview.attachments.MeshAttachment;
+import com.esotericsoftware.SpinePreview.attachments.RegionAttachment;
+import com.esotericsoftware.SpinePreview.utils.TwoColorPolygonBatch;
+
+import java.util.function.IntConsumer;
+
+// Copies of the loaded skeleton on a grid, updated in parallel and drawn through the one batch sorted by blend mode
+class PreviewScene {
+    // Culled skeletons only pose themselves again to refresh their bounds, staggered across this many frames
+    private static final int BOUNDS_INTERVAL = 8;
+    private final Skeleton[] skeletons;
+    private final AnimationState[] states;
+    private final boolean skins;
+    private final float[] offsets;
+    // minX, minY, maxX, maxY relative to each skeleton's position
+    private final float[] bounds;
+    private final boolean[] posed;
+    private final boolean[] refresh;
+    private final boolean[] visible;
+    private final Array<Array<Array<Slot>>> segments = new Array<>();
+    private final int[] segmentCount;
+    private final FloatArray[] temps;
+    private final Vector2[] corners;
+    private final IntConsumer updater = this::update;
+    private float x, y, delta;
+    private int frame;
+    private int visibleCount;
+    private TrackEntry mirrored;
+    private Animation mirroredAnimation;
+    private float mirroredTime;
+
+    // count copies, or one copy per skin when skins is set
+    PreviewScene(SkeletonData skeletonData, int count, boolean skins) {
+        this.skins = skins;
+        if (skins)
+            count = Math.max(1, skeletonData.getSkins().size);
+        skeletons = new Skeleton[count];
+        states = new AnimationState[count];
+        offsets = new float[count * 2];
+        bounds = new float[count * 4];
+        posed = new boolean[count];
+        refresh = new boolean[count];
+        visible = new boolean[count];
+        segmentCount = new int[count];
+        temps = new FloatArray[count];
+        corners = new Vector2[count * 2];
+        for (int i = 0; i < count; i++) {
+            skeletons[i] = new Skeleton(skeletonData);
+            if (skins && skeletonData.getSkins().size > 0)
+                skeletons[i].setSkin(skeletonData.getSkins().get(i));
+            skeletons[i].setToSetupPose();
+            skeletons[i].updateWorldTransform();
+            // AnimationStateData looks mixes up through a shared key, so every state gets its own
+            states[i] = new AnimationState(new AnimationStateData(skeletonData));
+            states[i].setEmptyAnimation(0, 0);
+            segments.add(new Array<>());
+            temps[i] = new FloatArray();
+            corners[i * 2] = new Vector2();
+            corners[i * 2 + 1] = new Vector2();
+            bounds(i);
+        }
+        layout();
+        System.out.println("多骨骼场景：" + count + (skins ? "个皮肤" : "个骨骼"));
+    }
+
+    // A grid of cells as large as the largest setup pose, centered on the viewer's position
+    private void layout() {
+        float width = 0, height = 0;
+        for (int i = 0; i < skeletons.length; i++) {
+            width = Math.max(width, bounds[i * 4 + 2] - bounds[i * 4]);
+            height = Math.max(height, bounds[i * 4 + 3] - bounds[i * 4 + 1]);
+        }
+        width *= 1.1f;
+        height *= 1.1f;
+        int columns = (int) Math.ceil(Math.sqrt(skeletons.length));
+        int rows = (skeletons.length + columns - 1) / columns;
+        for (int i = 0; i < skeletons.length; i++) {
+            offsets[i * 2] = (i % columns - (columns - 1) / 2f) * width;
+            offsets[i * 2 + 1] = ((rows - 1) / 2f - i / columns) * height;
+        }
+    }
+
+    // Follows the viewer's skeleton, which keeps driving the skin and animation controls and the progress bar
+    private void mirror(Skeleton skeleton, AnimationState state) {
+        if (!skins) {
+            Skin skin = skeleton.getSkin();
+            for (Skeleton copy : skeletons) {
+                if (copy.getSkin() != skin) {
+                    copy.setSkin(skin);
+                    copy.setSlotsToSetupPose();
+                }
+            }
+        }
+
+        TrackEntry entry = state.getCurrent(0);
+        float timeScale = state.getTimeScale();
+        for (AnimationState copy : states)
+            copy.setTimeScale(timeScale);
+        if (entry == null)
+            return;
+        // Entries are pooled, a replay of the same one only shows as its time going back
+        float time = entry.getAnimationTime();
+        if (entry != mirrored || entry.getAnimation() != mirroredAnimation || (!entry.getLoop() && time < mirroredTime)) {
+            float duration = entry.getAnimation().getDuration();
+            for (int i = 0; i < states.length; i++) {
+                states[i].setAnimation(0, entry.getAnimation(), entry.getLoop());
+                // Looping copies start at staggered times so the crowd does not move in lockstep
+                if (entry.getLoop() && duration > 0)
+                    states[i].update(duration * i / states.length);
+            }
+            mirrored = entry;
+            mirroredAnimation = entry.getAnimation();
+        }
+        mirroredTime = time;
+    }
+
+    void update(Skeleton skeleton, AnimationState state, float delta, float x, float y) {
+        mirror(skeleton, state);
+        this.x = x;
+        this.y = y;
+        this.delta = delta;
+        frame++;
+        // Skeletons share only read-only data, each one is updated on its own worker
+        UpdateScheduler.run(skeletons.length, updater);
+    }
+
+    private void update(int i) {
+        states[i].update(delta);
+        refresh[i] = (frame + i) % BOUNDS_INTERVAL == 0;
+        posed[i] = visible[i] || refresh[i];
+        if (posed[i])
+            pose(i);
+        if (refresh[i])
+            bounds(i);
+    }
+
+    private void pose(int i) {
+        states[i].apply(skeletons[i]);
+        skeletons[i].setPosition(x + offsets[i * 2], y + offsets[i * 2 + 1]);
+        skeletons[i].updateWorldTransform();
+    }
+
+    private void bounds(int i) {
+        Skeleton skeleton = skeletons[i];
+        Vector2 offset = corners[i * 2], size = corners[i * 2 + 1];
+        skeleton.getBounds(offset, size, temps[i]);
+        bounds[i * 4] = offset.x - skeleton.getX();
+        bounds[i * 4 + 1] = offset.y - skeleton.getY();
+        bounds[i * 4 + 2] = offset.x + size.x - skeleton.getX();
+        bounds[i * 4 + 3] = offset.y + size.y - skeleton.getY();
+    }
+
+    void draw(TwoColorPolygonBatch batch, SkeletonRenderer renderer, OrthographicCamera camera, boolean premultipliedAlpha) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2, halfHeight = camera.viewportHeight * camera.zoom / 2;
+        float left = camera.position.x - halfWidth, right = camera.position.x + halfWidth;
+        float bottom = camera.position.y - halfHeight, top = camera.position.y + halfHeight;
+        int passes = 0;
+        visibleCount = 0;
+        for (int i = 0; i < skeletons.length; i++) {
+            float skeletonX = x + offsets[i * 2], skeletonY = y + offsets[i * 2 + 1];
+            visible[i] = bounds[i * 4] <= bounds[i * 4 + 2] && skeletonX + bounds[i * 4] < right && skeletonX + bounds[i * 4 + 2] > left
+                    && skeletonY + bounds[i * 4 + 1] < top && skeletonY + bounds[i * 4 + 3] > bottom;
+            if (!visible[i])
+                continue;
+            // Came into view by the camera moving, its pose is from an earlier frame
+            if (!posed[i])
+                pose(i);
+            visibleCount++;
+            passes = Math.max(passes, split(i, premultipliedAlpha));
+        }
+
+        // Pass n draws the n-th blend run of every skeleton, so each blend change flushes once per pass instead of once per skeleton
+        for (int pass = 0; pass < passes; pass++) {
+            for (int i = 0; i < skeletons.length; i++) {
+                if (!visible[i] || pass >= segmentCount[i])
+                    continue;
+                Skeleton skeleton = skeletons[i];
+                if (segmentCount[i] == 1) {
+                    renderer.draw(batch, skeleton);
+                    continue;
+                }
+                Array<Slot> drawOrder = skeleton.getDrawOrder();
+                skeleton.setDrawOrder(segments.get(i).get(pass));
+                renderer.draw(batch, skeleton);
+                skeleton.setDrawOrder(drawOrder);
+            }
+        }
+    }
+
+    // Cuts the draw order where the blend function changes, clipped slots stay with their clipping attachment
+    private int split(int i, boolean premultipliedAlpha) {
+        Array<Array<Slot>> runs = segments.get(i);
+        Array<Slot> drawOrder = skeletons[i].getDrawOrder();
+        int count = 0;
+        Array<Slot> run = null;
+        BlendMode blendMode = null;
+        SlotData clipEnd = null;
+        for (int ii = 0, n = drawOrder.size; ii < n; ii++) {
+            Slot slot = drawOrder.get(ii);
+            Object attachment = slot.getAttachment();
+            if (clipEnd == null && (attachment instanceof RegionAttachment || attachment instanceof MeshAttachment)) {
+                BlendMode slotBlendMode = slot.getData().getBlendMode();
+                if (slotBlendMode == BlendMode.additive && premultipliedAlpha)
+                    slotBlendMode = BlendMode.normal;
+                if (slotBlendMode != blendMode && blendMode != null)
+                    run = null;
+                blendMode = slotBlendMode;
+            }
+            if (run == null) {
+                if (count == runs.size)
+                    runs.add(new Array<>());
+                run = runs.get(count++);
+                run.clear();
+            }
+            run.add(slot);
+            if (attachment instanceof ClippingAttachment)
+                clipEnd = ((ClippingAttachment) attachment).getEndSlot();
+            else if (clipEnd != null && slot.getData() == clipEnd)
+                clipEnd = null;
+        }
+        return segmentCount[i] = count;
+    }
+
+    int getVisible() {
+        return visibleCount;
+    }
+
+    int size() {
+        return skeletons.length;
+    }
+}
@@ -0,0 +1,73 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SkeletonCache {
+    private static final int capacity = Integer.getInteger("SuperSpineViewer.skeletonCache", 4);
+    private static final LinkedHashMap<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Parsed data holds regions of the atlas it was read against, so the pages' timestamps are part of the key
+    static String key(FileHandle skelFile, FileHandle atlasFile, TextureAtlasData atlasData) {
+        StringBuilder key = new StringBuilder();
+        try {
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(skelFile.readBytes()))
+                key.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        } catch (NoSuchAlgorithmException e) {
+            key.append(skelFile.path()).append('@').append(skelFile.lastModified());
+        }
+        key.append('|').append(Universal.Range).append('#').append(Thread.currentThread().getId())
+                .append('|').append(atlasFile.path()).append('@').append(atlasFile.lastModified());
+        for (TextureAtlasData.Page page : atlasData.getPages())
+            key.append('|').append(page.textureFile.lastModified());
+        return key.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    static synchronized <T> T get(String key) {
+        Entry entry = cache.get(key);
+        if (entry == null)
+            return null;
+        System.out.println("骨骼缓存命中");
+        return (T) entry.data;
+    }
+
+    static synchronized void put(String key, Object data, TextureAtlas atlas) {
+        cache.put(key, new Entry(data, atlas));
+        Iterator<Map.Entry<String, Entry>> iterator = cache.entrySet().iterator();
+        while (cache.size() > capacity && iterator.hasNext()) {
+            TextureCache.release(iterator.next().getValue().atlas);
+            iterator.remove();
+        }
+    }
+
+    // Called on the GL thread before its context goes away
+    static synchronized void dispose() {
+        Iterator<Entry> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.owner == Thread.currentThread()) {
+                TextureCache.release(entry.atlas);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Entry {
+        private final Object data;
+        private final TextureAtlas atlas;
+        private final Thread owner = Thread.currentThread();
+
+        private Entry(Object data, TextureAtlas atlas) {
+            this.data = data;
+            this.atlas = atlas;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+import com.badlogic.gdx.utils.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+// Hands every skin and animation of a skeleton JSON to the loader as soon as it is parsed and then drops it, only the small sections before them stay as a tree.
+// In plain JSON the animations are not parsed at all, each one is handed over as its text to be parsed when it is first played
+public abstract class SkeletonJsonReader extends JsonReader {
+    private final Array<JsonValue> elements = new Array<>(8);
+    private final Array<JsonValue> lastChild = new Array<>(8);
+    private JsonValue root, current;
+    // 0 before the first skin, 1 while skins are read, 2 once animations are read
+    private int stage;
+    // Animations only stream once the skins they key began, earlier ones stay in the tree and are read last
+    private boolean skins, animations;
+    private RuntimeException failure;
+    // The bytes that matter to the scan inside an object or array
+    private static final boolean[] NESTED = new boolean[256];
+
+    static {
+        for (char c : "\"{}[]/".toCharArray())
+            NESTED[c] = true;
+    }
+
+    // skeleton, bones, slots and constraints
+    protected abstract void readHeader(JsonValue root);
+
+    protected abstract void readSkin(JsonValue skinMap);
+
+    // Linked meshes and events, what the animations need besides the skins
+    protected abstract void readEvents(JsonValue root);
+
+    protected abstract void readAnimation(JsonValue animationMap);
+
+    // An animation left as text, animationMap parses it whenever it is first played
+    protected abstract void readAnimation(String name, Supplier<JsonValue> animationMap);
+
+    public void read(FileHandle file) {
+        CachedJson cached = JsonCache.open(file);
+        if (cached != null) {
+            read(cached);
+            return;
+        }
+        long modified = file.lastModified();
+        try {
+            read(file.readBytes());
+        } finally {
+            // Converted from disk once the load let go of the bytes, a file this reader gives up on still loads from the cache next time
+            JsonCache.store(file, modified);
+        }
+    }
+
+    private void read(byte[] json) {
+        IntArray animations = animations(json);
+        try {
+            if (animations == null)
+                parse(new String(json, StandardCharsets.UTF_8));
+            else {
+                // The rest of the file is parsed with an empty animations object in place of the indexed one
+                int start = animations.get(0), end = animations.get(1);
+                byte[] rest = new byte[json.length - (end - start) + 2];
+                System.arraycopy(json, 0, rest, 0, start);
+                rest[start] = '{';
+                rest[start + 1] = '}';
+                System.arraycopy(json, end, rest, start + 2, json.length - end);
+                parse(new String(rest, StandardCharsets.UTF_8));
+            }
+        } catch (SerializationException ex) {
+            // The tokenizer wraps whatever a loader threw, the caller expects the loader's own exception
+            if (failure != null)
+                throw failure;
+            throw ex;
+        }
+        advance(2);
+        for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next)
+            readAnimation(animationMap);
+        if (animations == null)
+            return;
+
+        byte[] source = Arrays.copyOfRange(json, animations.get(0), animations.get(1));
+        for (int i = 2; i < animations.size; i += 4) {
+            String name = new String(json, animations.get(i), animations.get(i + 1) - animations.get(i), StandardCharsets.UTF_8);
+            int offset = animations.get(i + 2) - animations.get(0), length = animations.get(i + 3) - animations.get(i + 2);
+            readAnimation(name, () -> {
+                JsonValue animationMap = new JsonReader().parse(new String(source, offset, length, StandardCharsets.UTF_8));
+                animationMap.setName(name);
+                return animationMap;
+            });
+        }
+    }
+
+    // The cache reaches any section directly, so the order in the file no longer matters and every animation stays lazy
+    private void read(CachedJson json) {
+        root = new JsonValue(ValueType.object);
+        JsonValue last = null;
+        int skins = -1, animations = -1;
+        IntArray members = json.children(json.root());
+        for (int i = 0; i < members.size; i++) {
+            int member = members.get(i);
+            String name = json.name(member);
+            if ("skins".equals(name))
+                skins = member;
+            else if ("animations".equals(name))
+                animations = member;
+            else {
+                JsonValue value = json.value(member);
+                value.parent = root;
+                if (last == null)
+                    root.child = value;
+                else {
+                    last.next = value;
+                    value.prev = last;
+                }
+                last = value;
+                root.size++;
+            }
+        }
+        readHeader(root);
+        if (skins != -1) {
+            IntArray skinMaps = json.children(skins);
+            for (int i = 0; i < skinMaps.size; i++)
+                readSkin(json.value(skinMaps.get(i)));
+        }
+        readEvents(root);
+        if (animations == -1)
+            return;
+        IntArray animationMaps = json.children(animations);
+        for (int i = 0; i < animationMaps.size; i++) {
+            int animation = animationMaps.get(i);
+            String name = json.name(animation);
+            if (name == null)
+                readAnimation(json.value(animation));
+            else readAnimation(name, () -> json.value(animation));
+        }
+    }
+
+    // Start and end of the top-level animations object followed by name start, name end, value start and value end of each animation,
+    // null where the file is not plain JSON this scan can follow and the whole file is parsed instead
+    private static IntArray animations(byte[] json) {
+        int i = space(json, 0);
+        if (i == json.length || json[i] != '{')
+            return null;
+        IntArray animations = new IntArray();
+        animations.add(-1, -1);
+        if (members(json, i, null, animations) < 0 || animations.get(0) < 0)
+            return null;
+        for (int a = 2; a < animations.size; a += 4) {
+            // Escaped names and non-object values are left to JsonReader
+            for (int c = animations.get(a); c < animations.get(a + 1); c++)
+                if (json[c] == '\\') return null;
+            if (json[animations.get(a + 2)] != '{') return null;
+        }
+        return animations;
+    }
+
+    // Adds name start, name end, value start and value end of each member of the object at i to members if set and returns the end of
+    // the object or -1. The members of a nested animations object go to animations after its start and end instead of being skipped
+    private static int members(byte[] json, int i, IntArray members, IntArray animations) {
+        i = space(json, i + 1);
+        if (i < json.length && json[i] == '}')
+            return i + 1;
+        while (i < json.length && json[i] == '"') {
+            int nameEnd = string(json, i);
+            if (nameEnd < 0)
+                return -1;
+            int colon = space(json, nameEnd);
+            if (colon == json.length || json[colon] != ':')
+                return -1;
+            int valueStart = space(json, colon + 1), valueEnd;
+            if (animations != null && animations.get(0) < 0 && valueStart < json.length && json[valueStart] == '{'
+                    && nameEnd - i == 12 && "animations".equals(new String(json, i + 1, 10, StandardCharsets.US_ASCII))) {
+                valueEnd = members(json, valueStart, animations, null);
+                animations.set(0, valueStart);
+                animations.set(1, valueEnd);
+            } else valueEnd = value(json, valueStart);
+            if (valueEnd <= valueStart)
+                return -1;
+            if (members != null)
+                members.add(i + 1, nameEnd - 1, valueStart, valueEnd);
+            i = space(json, valueEnd);
+            if (i == json.length)
+                return -1;
+            if (json[i] == '}')
+                return i + 1;
+            if (json[i] != ',')
+                return -1;
+            i = space(json, i + 1);
+        }
+        return -1;
+    }
+
+    // Past the value starting at i, -1 for comments and anything else only JsonReader's relaxed syntax allows
+    private static int value(byte[] json, int i) {
+        boolean[] nested = NESTED;
+        int depth = 0, n = json.length;
+        for (; i < n; i++) {
+            byte b = json[i];
+            // Numbers make up most of a skeleton, inside an object or array they are passed with one lookup per byte
+            if (depth > 0 && !nested[b & 0xFF])
+                continue;
+            switch (b) {
+                case '"' -> {
+                    i = string(json, i);
+                    if (i < 0 || depth == 0)
+                        return i;
+                    i--;
+                }
+                case '{', '[' -> depth++;
+                case '}', ']' -> {
+                    if (depth == 0)
+                        return i;
+                    if (--depth == 0)
+                        return i + 1;
+                }
+                case ',', ' ', '\t', '\r', '\n' -> {
+                    if (depth == 0)
+                        return i;
+                }
+                case '/' -> {
+                    return -1;
+                }
+            }
+        }
+        return depth == 0 ? i : -1;
+    }
+
+    // Past the closing quote of the string at i, bytes of multibyte UTF-8 never match a quote or backslash
+    private static int string(byte[] json, int i) {
+        for (i++; i < json.length; i++) {
+            if (json[i] == '\\')
+                i++;
+            else if (json[i] == '"')
+                return i + 1;
+        }
+        return -1;
+    }
+
+    private static int space(byte[] json, int i) {
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\r' || json[i] == '\n'))
+            i++;
+        return i;
+    }
+
+    private void advance(int stage) {
+        if (this.stage < 1 && stage >= 1)
+            readHeader(root);
+        if (this.stage < 2 && stage >= 2)
+            readEvents(root);
+        this.stage = Math.max(this.stage, stage);
+    }
+
+    // A top-level key began, anything the streamed sections depend on must come before them as the editor writes it
+    private void section(String name) {
+        if (stage == 1 && !"skins".equals(name) && !"events".equals(name) && !"animations".equals(name))
+            throw new Reordered();
+        if (stage == 2 && !"animations".equals(name))
+            throw new Reordered();
+        if ("skins".equals(name))
+            skins = true;
+        else if ("animations".equals(name))
+            animations = skins;
+    }
+
+    private boolean streamed(JsonValue section) {
+        return "skins".equals(section.name) || animations && "animations".equals(section.name);
+    }
+
+    private void element(String section, JsonValue value) {
+        if ("skins".equals(section)) {
+            advance(1);
+            readSkin(value);
+        } else {
+            advance(2);
+            readAnimation(value);
+        }
+    }
+
+    private void fail(RuntimeException ex) {
+        failure = ex;
+        throw ex;
+    }
+
+    // Links children the way JsonReader does, except for those of a streamed section
+    private void addChild(String name, JsonValue child) {
+        child.setName(name);
+        if (current == null) {
+            current = child;
+            root = child;
+        } else if (current.isArray() || current.isObject()) {
+            try {
+                if (elements.size == 1)
+                    section(name);
+                else if (elements.size == 2 && streamed(current)) {
+                    if (!child.isArray() && !child.isObject())
+                        element(current.name, child);
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                fail(ex);
+            }
+            child.parent = current;
+            if (current.size == 0)
+                current.child = child;
+            else {
+                JsonValue last = lastChild.pop();
+                last.next = child;
+                child.prev = last;
+            }
+            lastChild.add(child);
+            current.size++;
+        } else root = current;
+    }
+
+    private void push(String name, JsonValue value) {
+        if (current != null)
+            addChild(name, value);
+        else root = value;
+        elements.add(value);
+        current = value;
+    }
+
+    protected void startObject(String name) {
+        push(name, new JsonValue(ValueType.object));
+    }
+
+    protected void startArray(String name) {
+        push(name, new JsonValue(ValueType.array));
+    }
+
+    protected void pop() {
+        JsonValue value = elements.pop();
+        if (current.size > 0)
+            lastChild.pop();
+        current = elements.size > 0 ? elements.peek() : null;
+        if (elements.size == 2 && streamed(current)) {
+            try {
+                element(current.name, value);
+            } catch (RuntimeException ex) {
+                fail(ex);
+            }
+        }
+    }
+
+    protected void string(String name, String value) {
+        addChild(name, new JsonValue(value));
+    }
+
+    protected void number(String name, double value, String stringValue) {
+        addChild(name, new JsonValue(value, stringValue));
+    }
+
+    protected void number(String name, long value, String stringValue) {
+        addChild(name, new JsonValue(value, stringValue));
+    }
+
+    protected void bool(String name, boolean value) {
+        addChild(name, new JsonValue(value));
+    }
+
+    // The sections are not in the order the editor writes them, the caller reads the file as one tree instead
+    private static class Reordered extends RuntimeException {
+        private Reordered() {
+            super("Skeleton sections out of order", null, false, false);
+        }
+    }
+}
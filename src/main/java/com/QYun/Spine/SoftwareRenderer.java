@@ -0,0 +1,359 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
+
+// Rasterizes a DrawList the way the two-color shader and GL blending would, tiles are drawn in parallel
+public class SoftwareRenderer {
+    private static final int TILE = 64;
+    private static final Map<Texture, Image> images = new WeakHashMap<>();
+
+    private final int width, height, tilesX, tiles;
+    private final int[] pixels;
+    private final ByteBuffer frame;
+    private final IntBuffer frameInts;
+    private final int[][] bins;
+    private final int[] binSizes;
+
+    // Per vertex, in window coordinates with unpacked colors
+    private float[] sx = new float[0], sy, u, v, lr, lg, lb, la, dr, dg, db;
+    // Per triangle, three vertices and the call
+    private int[] triangles = new int[0];
+    private int[] triangleCalls = new int[0];
+    // Per call
+    private Image[] callImages = new Image[0];
+    private int[] callFuncs = new int[0];
+    private float[] callPma = new float[0];
+    private boolean[] callBlending = new boolean[0];
+
+    private int frames = 0;
+    private long nanos = 0;
+
+    public SoftwareRenderer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        tilesX = (width + TILE - 1) / TILE;
+        tiles = tilesX * ((height + TILE - 1) / TILE);
+        pixels = new int[width * height];
+        frame = ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.LITTLE_ENDIAN);
+        frameInts = frame.asIntBuffer();
+        bins = new int[tiles][64];
+        binSizes = new int[tiles];
+    }
+
+    // Same layout glReadPixels gives the export pipeline: premultiplied BGRA, bottom row first
+    public ByteBuffer render(DrawList list) {
+        long start = System.nanoTime();
+        prepare(list);
+        IntStream.range(0, tiles).parallel().forEach(this::tile);
+
+        frameInts.clear();
+        frameInts.put(pixels);
+        frame.clear();
+        frames++;
+        nanos += System.nanoTime() - start;
+        return frame;
+    }
+
+    public void report() {
+        if (frames > 0)
+            System.out.printf("软件渲染：%d帧\t%.2f毫秒/帧\t%d个分块%n", frames, nanos / 1e6 / frames, tiles);
+    }
+
+    private void prepare(DrawList list) {
+        int vertices = list.getVerticesCount() / DrawList.VERTEX_SIZE;
+        if (sx.length < vertices) {
+            int size = Math.max(vertices, sx.length << 1);
+            sx = new float[size];
+            sy = new float[size];
+            u = new float[size];
+            v = new float[size];
+            lr = new float[size];
+            lg = new float[size];
+            lb = new float[size];
+            la = new float[size];
+            dr = new float[size];
+            dg = new float[size];
+            db = new float[size];
+        }
+
+        float[] m = list.getProjection().val, in = list.getVertices();
+        float halfWidth = width * 0.5f, halfHeight = height * 0.5f;
+        for (int i = 0, o = 0; i < vertices; i++, o += DrawList.VERTEX_SIZE) {
+            float x = in[o], y = in[o + 1];
+            float w = m[Matrix4.M30] * x + m[Matrix4.M31] * y + m[Matrix4.M33];
+            sx[i] = ((m[Matrix4.M00] * x + m[Matrix4.M01] * y + m[Matrix4.M03]) / w + 1) * halfWidth;
+            sy[i] = ((m[Matrix4.M10] * x + m[Matrix4.M11] * y + m[Matrix4.M13]) / w + 1) * halfHeight;
+            // Packed ABGR, alpha is stored out of 254 and the shader scales it back
+            int light = Float.floatToRawIntBits(in[o + 2]), dark = Float.floatToRawIntBits(in[o + 3]);
+            lr[i] = (light & 0xFF) / 255f;
+            lg[i] = (light >>> 8 & 0xFF) / 255f;
+            lb[i] = (light >>> 16 & 0xFF) / 255f;
+            la[i] = Math.min(1, (light >>> 24) / 254f);
+            dr[i] = (dark & 0xFF) / 255f;
+            dg[i] = (dark >>> 8 & 0xFF) / 255f;
+            db[i] = (dark >>> 16 & 0xFF) / 255f;
+            u[i] = in[o + 4];
+            v[i] = in[o + 5];
+        }
+
+        int calls = list.size();
+        if (callImages.length < calls) {
+            int size = Math.max(calls, callImages.length << 1);
+            callImages = new Image[size];
+            callFuncs = new int[size * 4];
+            callPma = new float[size];
+            callBlending = new boolean[size];
+        }
+        if (triangles.length < list.getTrianglesCount()) {
+            triangles = new int[Math.max(list.getTrianglesCount(), triangles.length << 1)];
+            triangleCalls = new int[triangles.length / 3];
+        }
+        Arrays.fill(binSizes, 0);
+
+        short[] indices = list.getTriangles();
+        int count = 0;
+        for (int call = 0; call < calls; call++) {
+            callImages[call] = image(list.getTexture(call));
+            callFuncs[call * 4] = list.getSrcFunc(call);
+            callFuncs[call * 4 + 1] = list.getDstFunc(call);
+            callFuncs[call * 4 + 2] = list.getSrcFuncAlpha(call);
+            callFuncs[call * 4 + 3] = list.getDstFuncAlpha(call);
+            callPma[call] = list.isPremultipliedAlpha(call) ? 1 : 0;
+            callBlending[call] = list.isBlending(call);
+
+            int first = list.getFirstVertex(call);
+            for (int i = list.getFirstTriangle(call), n = i + list.getTriangleCount(call); i < n; i += 3) {
+                int a = first + (indices[i] & 0xFFFF), b = first + (indices[i + 1] & 0xFFFF), c = first + (indices[i + 2] & 0xFFFF);
+                float area = (sx[b] - sx[a]) * (sy[c] - sy[a]) - (sy[b] - sy[a]) * (sx[c] - sx[a]);
+                if (area == 0 || Float.isNaN(area))
+                    continue;
+                int minX = Math.max(0, (int) Math.floor(Math.min(sx[a], Math.min(sx[b], sx[c]))));
+                int maxX = Math.min(width - 1, (int) Math.ceil(Math.max(sx[a], Math.max(sx[b], sx[c]))));
+                int minY = Math.max(0, (int) Math.floor(Math.min(sy[a], Math.min(sy[b], sy[c]))));
+                int maxY = Math.min(height - 1, (int) Math.ceil(Math.max(sy[a], Math.max(sy[b], sy[c]))));
+                if (minX > maxX || minY > maxY)
+                    continue;
+
+                triangles[count * 3] = a;
+                triangles[count * 3 + 1] = b;
+                triangles[count * 3 + 2] = c;
+                triangleCalls[count] = call;
+                // Tiles keep their triangles in draw order, so blending stays ordered within each tile
+                for (int ty = minY / TILE; ty <= maxY / TILE; ty++) {
+                    for (int tx = minX / TILE; tx <= maxX / TILE; tx++) {
+                        int tile = ty * tilesX + tx;
+                        if (binSizes[tile] == bins[tile].length)
+                            bins[tile] = Arrays.copyOf(bins[tile], binSizes[tile] << 1);
+                        bins[tile][binSizes[tile]++] = count;
+                    }
+                }
+                count++;
+            }
+        }
+    }
+
+    private void tile(int tile) {
+        int x0 = tile % tilesX * TILE, y0 = tile / tilesX * TILE;
+        int x1 = Math.min(x0 + TILE, width), y1 = Math.min(y0 + TILE, height);
+        for (int y = y0; y < y1; y++)
+            Arrays.fill(pixels, y * width + x0, y * width + x1, 0);
+
+        float[] texel = new float[4];
+        int[] bin = bins[tile];
+        for (int i = 0, n = binSizes[tile]; i < n; i++)
+            triangle(bin[i], x0, y0, x1, y1, texel);
+    }
+
+    private static boolean topLeft(float dx, float dy) {
+        return dy < 0 || dy == 0 && dx < 0;
+    }
+
+    private void triangle(int triangle, int x0, int y0, int x1, int y1, float[] texel) {
+        int a = triangles[triangle * 3], b = triangles[triangle * 3 + 1], c = triangles[triangle * 3 + 2];
+        float area = (sx[b] - sx[a]) * (sy[c] - sy[a]) - (sy[b] - sy[a]) * (sx[c] - sx[a]);
+        if (area < 0) {
+            int swap = b;
+            b = c;
+            c = swap;
+            area = -area;
+        }
+        float ax = sx[a], ay = sy[a], bx = sx[b], by = sy[b], cx = sx[c], cy = sy[c];
+
+        int minX = Math.max(x0, (int) Math.floor(Math.min(ax, Math.min(bx, cx))));
+        int maxX = Math.min(x1 - 1, (int) Math.ceil(Math.max(ax, Math.max(bx, cx))));
+        int minY = Math.max(y0, (int) Math.floor(Math.min(ay, Math.min(by, cy))));
+        int maxY = Math.min(y1 - 1, (int) Math.ceil(Math.max(ay, Math.max(by, cy))));
+        if (minX > maxX || minY > maxY)
+            return;
+
+        int call = triangleCalls[triangle];
+        Image image = callImages[call];
+        int srcFunc = callFuncs[call * 4], dstFunc = callFuncs[call * 4 + 1];
+        int srcFuncAlpha = callFuncs[call * 4 + 2], dstFuncAlpha = callFuncs[call * 4 + 3];
+        if (srcFunc == -1) {
+            srcFunc = srcFuncAlpha = GL20.GL_SRC_ALPHA;
+            dstFunc = dstFuncAlpha = GL20.GL_ONE_MINUS_SRC_ALPHA;
+        }
+        float pma = callPma[call];
+        boolean blending = callBlending[call];
+
+        // Edge functions, each is zero on one edge and the area at the opposite vertex
+        float e0x = cx - bx, e0y = cy - by, e1x = ax - cx, e1y = ay - cy, e2x = bx - ax, e2y = by - ay;
+        boolean t0 = topLeft(e0x, e0y), t1 = topLeft(e1x, e1y), t2 = topLeft(e2x, e2y);
+        float px = minX + 0.5f, py = minY + 0.5f;
+        float row0 = e0x * (py - by) - e0y * (px - bx);
+        float row1 = e1x * (py - cy) - e1y * (px - cx);
+        float row2 = e2x * (py - ay) - e2y * (px - ax);
+        float inverse = 1 / area;
+
+        // Attachments usually tint every vertex the same, only vertex effects vary it
+        boolean flat = lr[a] == lr[b] && lr[a] == lr[c] && lg[a] == lg[b] && lg[a] == lg[c] && lb[a] == lb[b] && lb[a] == lb[c]
+                && la[a] == la[b] && la[a] == la[c] && dr[a] == dr[b] && dr[a] == dr[c] && dg[a] == dg[b] && dg[a] == dg[c]
+                && db[a] == db[b] && db[a] == db[c];
+        float lightR = lr[a], lightG = lg[a], lightB = lb[a], lightA = la[a], darkR = dr[a], darkG = dg[a], darkB = db[a];
+
+        for (int y = minY; y <= maxY; y++, row0 += e0x, row1 += e1x, row2 += e2x) {
+            float w0 = row0, w1 = row1, w2 = row2;
+            for (int x = minX, index = y * width + minX; x <= maxX; x++, index++, w0 -= e0y, w1 -= e1y, w2 -= e2y) {
+                if ((w0 < 0 || w0 == 0 && !t0) || (w1 < 0 || w1 == 0 && !t1) || (w2 < 0 || w2 == 0 && !t2))
+                    continue;
+                float l0 = w0 * inverse, l1 = w1 * inverse, l2 = w2 * inverse;
+                if (!flat) {
+                    lightR = lr[a] * l0 + lr[b] * l1 + lr[c] * l2;
+                    lightG = lg[a] * l0 + lg[b] * l1 + lg[c] * l2;
+                    lightB = lb[a] * l0 + lb[b] * l1 + lb[c] * l2;
+                    lightA = la[a] * l0 + la[b] * l1 + la[c] * l2;
+                    darkR = dr[a] * l0 + dr[b] * l1 + dr[c] * l2;
+                    darkG = dg[a] * l0 + dg[b] * l1 + dg[c] * l2;
+                    darkB = db[a] * l0 + db[b] * l1 + db[c] * l2;
+                }
+                image.sample(u[a] * l0 + u[b] * l1 + u[c] * l2, v[a] * l0 + v[b] * l1 + v[c] * l2, texel);
+
+                // The two-color fragment shader
+                float tr = texel[0], tg = texel[1], tb = texel[2], ta = texel[3];
+                float sa = clamp(ta * lightA);
+                float sr = clamp(((ta - 1) * pma + 1 - tr) * darkR + tr * lightR);
+                float sg = clamp(((ta - 1) * pma + 1 - tg) * darkG + tg * lightG);
+                float sb = clamp(((ta - 1) * pma + 1 - tb) * darkB + tb * lightB);
+
+                if (blending) {
+                    int dst = pixels[index];
+                    float da = (dst >>> 24) / 255f, dR = (dst >>> 16 & 0xFF) / 255f, dG = (dst >>> 8 & 0xFF) / 255f, dB = (dst & 0xFF) / 255f;
+                    float r = sr * factor(srcFunc, sr, sa, dR, da) + dR * factor(dstFunc, sr, sa, dR, da);
+                    float g = sg * factor(srcFunc, sg, sa, dG, da) + dG * factor(dstFunc, sg, sa, dG, da);
+                    float bl = sb * factor(srcFunc, sb, sa, dB, da) + dB * factor(dstFunc, sb, sa, dB, da);
+                    sa = sa * factor(srcFuncAlpha, sa, sa, da, da) + da * factor(dstFuncAlpha, sa, sa, da, da);
+                    sr = r;
+                    sg = g;
+                    sb = bl;
+                }
+                pixels[index] = pack(sa) << 24 | pack(sr) << 16 | pack(sg) << 8 | pack(sb);
+            }
+        }
+    }
+
+    private static float clamp(float value) {
+        return value < 0 ? 0 : Math.min(value, 1);
+    }
+
+    private static int pack(float value) {
+        return (int) (clamp(value) * 255 + 0.5f);
+    }
+
+    // GL blend factor for one channel, alpha passes its own value as both color and alpha
+    private static float factor(int func, float src, float srcAlpha, float dst, float dstAlpha) {
+        return switch (func) {
+            case GL20.GL_ZERO -> 0;
+            case GL20.GL_SRC_COLOR -> src;
+            case GL20.GL_ONE_MINUS_SRC_COLOR -> 1 - src;
+            case GL20.GL_SRC_ALPHA -> srcAlpha;
+            case GL20.GL_ONE_MINUS_SRC_ALPHA -> 1 - srcAlpha;
+            case GL20.GL_DST_COLOR -> dst;
+            case GL20.GL_ONE_MINUS_DST_COLOR -> 1 - dst;
+            case GL20.GL_DST_ALPHA -> dstAlpha;
+            case GL20.GL_ONE_MINUS_DST_ALPHA -> 1 - dstAlpha;
+            default -> 1;
+        };
+    }
+
+    // Pixels are read back from the texture's file, the GL copy is not reachable without a context
+    private static Image image(Texture texture) {
+        synchronized (images) {
+            Image image = images.get(texture);
+            if (image == null) {
+                image = new Image(texture);
+                images.put(texture, image);
+            }
+            return image;
+        }
+    }
+
+    private static class Image {
+        private final int width, height;
+        private final int[] texels;
+        private final boolean nearest;
+
+        private Image(Texture texture) {
+            nearest = texture.getMinFilter() == TextureFilter.Nearest && texture.getMagFilter() == TextureFilter.Nearest;
+            TextureData data = texture.getTextureData();
+            if (data instanceof FileTextureData && ((FileTextureData) data).getFileHandle() != null) {
+                FileHandle file = ((FileTextureData) data).getFileHandle();
+                Pixmap pixmap = new Pixmap(file);
+                if (pixmap.getFormat() != Pixmap.Format.RGBA8888) {
+                    Pixmap rgba = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Pixmap.Format.RGBA8888);
+                    rgba.setBlending(Pixmap.Blending.None);
+                    rgba.drawPixmap(pixmap, 0, 0);
+                    pixmap.dispose();
+                    pixmap = rgba;
+                }
+                width = pixmap.getWidth();
+                height = pixmap.getHeight();
+                texels = new int[width * height];
+                pixmap.getPixels().duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(texels);
+                pixmap.dispose();
+            } else {
+                width = height = 1;
+                texels = new int[]{0xFFFFFFFF};
+            }
+        }
+
+        // Clamped to the edge like the atlas pages, texels are RGBA bytes read as little-endian ints
+        private void sample(float s, float t, float[] out) {
+            if (nearest) {
+                int texel = texels[Math.min(height - 1, Math.max(0, (int) (t * height))) * width
+                        + Math.min(width - 1, Math.max(0, (int) (s * width)))];
+                out[0] = (texel & 0xFF) / 255f;
+                out[1] = (texel >>> 8 & 0xFF) / 255f;
+                out[2] = (texel >>> 16 & 0xFF) / 255f;
+                out[3] = (texel >>> 24) / 255f;
+                return;
+            }
+            float x = s * width - 0.5f, y = t * height - 0.5f;
+            int ix = (int) Math.floor(x), iy = (int) Math.floor(y);
+            float fx = x - ix, fy = y - iy;
+            int xa = Math.min(width - 1, Math.max(0, ix)), xb = Math.min(width - 1, Math.max(0, ix + 1));
+            int ya = Math.min(height - 1, Math.max(0, iy)) * width, yb = Math.min(height - 1, Math.max(0, iy + 1)) * width;
+            int c00 = texels[ya + xa], c10 = texels[ya + xb], c01 = texels[yb + xa], c11 = texels[yb + xb];
+            for (int channel = 0, shift = 0; channel < 4; channel++, shift += 8) {
+                float top = (c00 >>> shift & 0xFF) * (1 - fx) + (c10 >>> shift & 0xFF) * fx;
+                float bottom = (c01 >>> shift & 0xFF) * (1 - fx) + (c11 >>> shift & 0xFF) * fx;
+                out[channel] = (top * (1 - fy) + bottom * fy) / 255f;
+            }
+        }
+    }
+}
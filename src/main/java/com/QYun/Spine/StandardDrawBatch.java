@@ -0,0 +1,30 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.esotericsoftware.SpineStandard.utils.TwoColorPolygonBatch;
+
+// Records the renderer's output into a DrawList instead of GL, the Latency runtime draws into it as a PolygonBatch
+public class StandardDrawBatch extends TwoColorPolygonBatch {
+    private final DrawList list;
+
+    public StandardDrawBatch(DrawList list) {
+        super(3100, 6200, false);
+        this.list = list;
+    }
+
+    @Override
+    public void begin() {
+        super.begin();
+        list.getProjection().set(getProjectionMatrix()).mul(getTransformMatrix());
+    }
+
+    @Override
+    protected void render(Texture texture, float[] vertices, int verticesCount, short[] triangles, int trianglesCount) {
+        list.add(texture, vertices, verticesCount, triangles, trianglesCount, getBlendSrcFunc(), getBlendDstFunc(),
+                getBlendSrcFuncAlpha(), getBlendDstFuncAlpha(), getPremultipliedAlpha(), isBlendingEnabled());
+    }
+
+    public DrawList getList() {
+        return list;
+    }
+}
@@ -0,0 +1,153 @@
+package com.QYun.Spine;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Array;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+public class TextureCache {
+    private static final HashMap<String, Entry<Texture>> textures = new HashMap<>();
+    private static final IdentityHashMap<Texture, Entry<Texture>> textureEntries = new IdentityHashMap<>();
+    private static final HashMap<String, Entry<Atlas>> atlases = new HashMap<>();
+    private static final IdentityHashMap<Atlas, Entry<Atlas>> atlasEntries = new IdentityHashMap<>();
+    private static long memory = 0;
+
+    // GL objects belong to the context current on the loading thread, so the thread is part of every key
+    private static String key(FileHandle file) {
+        String path;
+        try {
+            path = file.file().getCanonicalPath();
+        } catch (IOException e) {
+            path = file.file().getAbsolutePath();
+        }
+        return path + '@' + file.lastModified() + '#' + Thread.currentThread().getId();
+    }
+
+    private static long bytes(Texture texture) {
+        int pixel = switch (texture.getTextureData().getFormat()) {
+            case Alpha, Intensity -> 1;
+            case LuminanceAlpha, RGB565, RGBA4444 -> 2;
+            case RGB888 -> 3;
+            default -> 4;
+        };
+        long bytes = (long) texture.getWidth() * texture.getHeight() * pixel;
+        return texture.getTextureData().useMipMaps() ? bytes * 4 / 3 : bytes;
+    }
+
+    static synchronized Texture texture(FileHandle file, Pixmap.Format format, boolean useMipMaps) {
+        String key = key(file) + '|' + format + '|' + useMipMaps;
+        Entry<Texture> entry = textures.get(key);
+        if (entry == null) {
+            Texture texture = new Texture(file, format, useMipMaps);
+            entry = new Entry<>(key, texture, bytes(texture));
+            textures.put(key, entry);
+            textureEntries.put(texture, entry);
+            memory += entry.bytes;
+        }
+        entry.references++;
+        return entry.value;
+    }
+
+    static synchronized void release(Texture texture) {
+        Entry<Texture> entry = textureEntries.get(texture);
+        if (entry != null && --entry.references == 0) {
+            textures.remove(entry.key);
+            textureEntries.remove(texture);
+            memory -= entry.bytes;
+            texture.dispose();
+        }
+    }
+
+    static synchronized TextureAtlas atlas(FileHandle atlasFile, FileHandle skelFile, TextureAtlasData atlasData) {
+        StringBuilder key = new StringBuilder(key(atlasFile)).append('|').append(skelFile.parent().path());
+        for (TextureAtlasData.Page page : atlasData.getPages())
+            key.append('|').append(page.textureFile.lastModified());
+
+        Entry<Atlas> entry = atlases.get(key.toString());
+        if (entry == null) {
+            Atlas atlas = new Atlas(atlasData, skelFile);
+            entry = new Entry<>(key.toString(), atlas, 0);
+            atlases.put(entry.key, entry);
+            atlasEntries.put(atlas, entry);
+        }
+        entry.references++;
+        return entry.value;
+    }
+
+    static synchronized void release(TextureAtlas atlas) {
+        Entry<Atlas> entry = atlasEntries.get(atlas);
+        if (entry != null && --entry.references == 0) {
+            atlases.remove(entry.key);
+            atlasEntries.remove(atlas);
+            for (Texture texture : entry.value.obtained)
+                release(texture);
+        }
+    }
+
+    public static synchronized long getMemory() {
+        return memory;
+    }
+
+    static synchronized void report() {
+        System.out.printf("贴图内存：%.1fMB\t%d张贴图\t%d个图集%n", memory / 1048576f, textures.size(), atlases.size());
+    }
+
+    private static class Entry<T> {
+        private final String key;
+        private final T value;
+        private final long bytes;
+        private int references = 0;
+
+        private Entry(String key, T value, long bytes) {
+            this.key = key;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Atlas extends TextureAtlas {
+        private final Array<Texture> obtained = new Array<>();
+        private final FileHandle skelFile;
+
+        private Atlas(TextureAtlasData atlasData, FileHandle skelFile) {
+            super(pages(atlasData));
+            this.skelFile = skelFile;
+            for (TextureAtlasData.Page page : atlasData.getPages())
+                obtained.add(page.texture);
+        }
+
+        private static TextureAtlasData pages(TextureAtlasData atlasData) {
+            for (TextureAtlasData.Page page : atlasData.getPages())
+                page.texture = texture(page.textureFile, page.format, page.useMipMaps);
+            return atlasData;
+        }
+
+        // Images missing from the atlas fall back to loose PNGs next to the skeleton
+        @Override
+        public AtlasRegion findRegion(String name) {
+            AtlasRegion region = super.findRegion(name);
+            if (region == null) {
+                FileHandle file = skelFile.sibling(name + ".png");
+                if (file.exists()) {
+                    Texture texture = texture(file, null, false);
+                    texture.setFilter(TextureFilter.Linear, TextureFilter.Linear);
+                    obtained.add(texture);
+                    region = addRegion(name, texture, 0, 0, texture.getWidth(), texture.getHeight());
+                }
+            }
+            return region;
+        }
+
+        @Override
+        public void dispose() {
+            release(this);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.badlogic.gdx.ApplicationAdapter;
 
 public class Universal extends ApplicationAdapter {
     public static byte Range;
+    // Set for software rendering, batches then collect into it instead of drawing with GL
+    public static DrawList drawList;
     private static SuperSpine Runtimes;
 
     public void reload() {
@@ -31,4 +33,10 @@ public class Universal extends ApplicationAdapter {
     public void resize(int width, int height) {
         Runtimes.resize();
     }
+
+    @Override
+    public void dispose() {
+        SkeletonCache.dispose();
+        TextureCache.report();
+    }
 }
@@ -0,0 +1,48 @@
+package com.QYun.Spine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+// Spreads per-skeleton update, apply and updateWorldTransform over a ForkJoinPool, the render thread waits for all of them before it draws
+public class UpdateScheduler {
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final ForkJoinPool pool = new ForkJoinPool(PARALLELISM, pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("Spine Update " + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+
+    // Runs task for every index below count and returns once all are done, so the draw only ever sees finished poses
+    public static void run(int count, IntConsumer task) {
+        // A few tasks per worker keeps them busy when some skeletons are heavier than others
+        int grain = Math.max(1, count / (PARALLELISM * 4));
+        if (count <= grain || PARALLELISM == 1) {
+            for (int i = 0; i < count; i++)
+                task.accept(i);
+        } else pool.invoke(new Range(task, 0, count, grain));
+    }
+
+    private static class Range extends RecursiveAction {
+        private final IntConsumer task;
+        private final int start, end, grain;
+
+        private Range(IntConsumer task, int start, int end, int grain) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.grain = grain;
+        }
+
+        protected void compute() {
+            if (end - start <= grain) {
+                for (int i = start; i < end; i++)
+                    task.accept(i);
+            } else {
+                int middle = (start + end) >>> 1;
+                invokeAll(new Range(task, start, middle, grain), new Range(task, middle, end, grain));
+            }
+        }
+    }
+}
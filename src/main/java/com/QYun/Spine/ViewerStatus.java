@@ -0,0 +1,59 @@
+package com.QYun.Spine;
+
+import com.QYun.SuperSpineViewer.GUI.Controller;
+import javafx.animation.AnimationTimer;
+
+// The render thread only stores numbers here and an FX pulse shows whichever changed, so a frame neither allocates nor posts to the FX queue
+public class ViewerStatus {
+    private static volatile int fps = -1;
+    private static volatile int visible = -1;
+    private static volatile int crowd = 0;
+    private static volatile double progress = -1;
+    // FX thread only
+    private static int shownFps = -1, shownVisible = -1, shownCrowd = 0;
+    private static double shownProgress = -1;
+    private static AnimationTimer timer;
+
+    public static void fps(int fps) {
+        ViewerStatus.fps = fps;
+    }
+
+    public static void scene(int visible, int crowd) {
+        ViewerStatus.visible = visible;
+        ViewerStatus.crowd = crowd;
+    }
+
+    public static void progress(double progress) {
+        ViewerStatus.progress = progress;
+    }
+
+    // FX thread, once the labels exist
+    public static void start() {
+        if (timer != null)
+            return;
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                publish();
+            }
+        };
+        timer.start();
+    }
+
+    private static void publish() {
+        int fps = ViewerStatus.fps, visible = ViewerStatus.visible, crowd = ViewerStatus.crowd;
+        if ((fps != shownFps || visible != shownVisible || crowd != shownCrowd) && Controller.FPS != null) {
+            shownFps = fps;
+            shownVisible = visible;
+            shownCrowd = crowd;
+            if (crowd > 0)
+                Controller.FPS.setText("FPS : " + fps + "  " + visible + "/" + crowd);
+            else Controller.FPS.setText("FPS : " + fps);
+        }
+        double progress = ViewerStatus.progress;
+        if (progress != shownProgress && Controller.progressBar != null) {
+            shownProgress = progress;
+            Controller.progressBar.setProgress(progress);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.QYun.SuperSpineViewer;
+
+import com.QYun.SuperSpineViewer.GUI.Controller;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+public class BatchExporter extends Controller {
+    private final RuntimesLoader runtimesLoader = new RuntimesLoader();
+    private final Set<File> skeletons = new LinkedHashSet<>();
+    private final List<String> options = new ArrayList<>();
+    private int workers = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    public void exportFromArgs(String[] args) {
+        outPath = System.getProperty("user.dir") + File.separator;
+        List<String> inputs = new ArrayList<>();
+
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "-o" -> outPath = new File(args[++i]).getAbsolutePath() + File.separator;
+                case "-j" -> workers = Math.max(1, Integer.parseInt(args[++i]));
+                case "-sequence", "-software" -> options.add(args[i]);
+                case "-a", "-s", "-w", "-h", "-fps", "-scale", "-level", "-filter", "-buffer", "-crowd" -> {
+                    options.add(args[i]);
+                    options.add(args[++i]);
+                }
+                default -> inputs.add(args[i]);
+            }
+        }
+
+        if (inputs.isEmpty()) {
+            System.out.println("用法：--batch <目录|通配符|skel>... [-o 输出目录] [-j 并发数] [--headless的导出选项]");
+            return;
+        }
+
+        for (String input : inputs)
+            find(input);
+        System.out.println("批量导出：" + skeletons.size() + "个骨骼\t" + workers + "个进程");
+
+        try {
+            export();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private boolean isSkeleton(Path path) {
+        if (!Files.isRegularFile(path))
+            return false;
+        String name = path.getFileName().toString().toLowerCase();
+        if (!name.endsWith(".json") && !name.endsWith(".skel") && !name.endsWith(".txt") && !name.endsWith(".bytes"))
+            return false;
+        return runtimesLoader.atlasFile(new FileHandle(path.toFile())) != null;
+    }
+
+    private void walk(Path root, PathMatcher matcher) {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(path -> matcher == null || matcher.matches(path))
+                    .filter(this::isSkeleton)
+                    .sorted()
+                    .forEach(path -> skeletons.add(path.toFile().getAbsoluteFile()));
+        } catch (IOException e) {
+            System.out.println("无法读取：" + root);
+            e.printStackTrace();
+        }
+    }
+
+    private void find(String input) {
+        int glob = -1;
+        for (char c : "*?[{".toCharArray()) {
+            int index = input.indexOf(c);
+            if (index >= 0 && (glob < 0 || index < glob))
+                glob = index;
+        }
+
+        if (glob >= 0) {
+            // Walk from the last directory before the first wildcard and match the rest
+            int cut = Math.max(input.lastIndexOf('/', glob), input.lastIndexOf(File.separatorChar, glob));
+            Path root = Path.of(cut < 0 ? "" : input.substring(0, cut + 1));
+            walk(root, FileSystems.getDefault().getPathMatcher("glob:" + input));
+        } else {
+            File file = new File(input);
+            if (file.isDirectory())
+                walk(file.toPath(), null);
+            else if (isSkeleton(file.toPath()))
+                skeletons.add(file.getAbsoluteFile());
+            else System.out.println("不是可导出的骨骼：" + input);
+        }
+    }
+
+    private List<String> command(File skel, String output, File report) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String key : System.getProperties().stringPropertyNames())
+            if (key.startsWith("SuperSpineViewer.") || key.startsWith("org.lwjgl."))
+                command.add("-D" + key + "=" + System.getProperty(key));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(Controller.class.getName());
+        command.add("--headless");
+        command.add(skel.getPath());
+        command.add("-all");
+        command.add("-o");
+        command.add(output);
+        command.add("-report");
+        command.add(report.getPath());
+        command.addAll(options);
+        return command;
+    }
+
+    // libGDX keeps Gdx.* and the loaded runtime in statics, so each worker is its own JVM with its own GL context
+    private Result exportSkeleton(File skel, String output) {
+        Result result = new Result(skel, output);
+        File report = new File(output, "report.json");
+        long start = System.nanoTime();
+        try {
+            new File(output).mkdirs();
+            report.delete();
+            Process process = new ProcessBuilder(command(skel, output, report))
+                    .redirectErrorStream(true)
+                    .redirectOutput(new File(output, "export.log"))
+                    .start();
+            result.exit = process.waitFor();
+        } catch (IOException | InterruptedException e) {
+            System.out.println("导出进程启动失败：" + skel);
+            e.printStackTrace();
+        }
+        result.ms = (System.nanoTime() - start) / 1000000;
+        if (report.exists())
+            result.report = new JsonReader().parse(new FileHandle(report));
+
+        System.out.println((result.exit == 0 ? "完成：" : "失败：") + skel + "\t" + result.ms + "ms");
+        return result;
+    }
+
+    private void export() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread worker = new Thread(r, "BatchExport");
+            worker.setDaemon(true);
+            return worker;
+        });
+        Set<String> names = new HashSet<>();
+        List<Future<Result>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for (File skel : skeletons) {
+            String name = skel.getName();
+            if (name.indexOf('.') > 0)
+                name = name.substring(0, name.indexOf('.'));
+            String unique = name;
+            for (int i = 1; !names.add(unique); i++)
+                unique = name + "_" + i;
+            String output = outPath + unique + File.separator;
+            futures.add(pool.submit(() -> exportSkeleton(skel, output)));
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Future<Result> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                e.printStackTrace();
+            }
+        }
+        pool.shutdown();
+
+        long ms = (System.nanoTime() - start) / 1000000;
+        writeManifest(results, ms);
+        System.out.println("批量导出结束：" + results.size() + "个骨骼\t" + ms + "ms");
+    }
+
+    private void writeManifest(List<Result> results, long ms) {
+        try (JsonWriter json = new JsonWriter(new FileWriter(outPath + "manifest.json"))) {
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.object()
+                    .set("workers", workers)
+                    .set("skeletons", results.size())
+                    .set("ms", ms)
+                    .array("results");
+            for (Result result : results) {
+                json.object()
+                        .set("skel", result.skel.getPath())
+                        .set("output", result.output)
+                        .set("exit", result.exit)
+                        .set("ms", result.ms);
+                if (result.report != null) {
+                    json.set("version", result.report.getString("version", null))
+                            .set("frames", result.report.getInt("frames", 0))
+                            .set("renderMs", result.report.getLong("ms", 0));
+                    if (result.report.has("exports"))
+                        json.json("exports", result.report.get("exports").toJson(JsonWriter.OutputType.json));
+                }
+                json.pop();
+            }
+            json.pop().pop();
+        } catch (IOException e) {
+            System.out.println("清单写入失败");
+            e.printStackTrace();
+        }
+    }
+
+    private static class Result {
+        private final File skel;
+        private final String output;
+        private int exit = -1;
+        private long ms;
+        private JsonValue report;
+
+        private Result(File skel, String output) {
+            this.skel = skel;
+            this.output = output;
+        }
+    }
+}
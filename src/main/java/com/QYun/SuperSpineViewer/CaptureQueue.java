@@ -0,0 +1,106 @@
+package com.QYun.SuperSpineViewer;
+
+public class CaptureQueue {
+    private final long budget;
+    private final int frames;
+    private long used = 0;
+    private int depth = 0;
+    private int peak = 0;
+    private int stalled = 0;
+    private int dropped = 0;
+    private int captured = 0;
+    private int encoded = 0;
+    private int stalledFrame = -1;
+
+    public CaptureQueue(long budget, int frames) {
+        this.budget = budget > 0 ? budget : Long.MAX_VALUE;
+        this.frames = frames > 0 ? frames : Integer.MAX_VALUE;
+    }
+
+    // "512M" or "512MB" is a memory budget, a plain number counts frames
+    public static CaptureQueue parse(String spec) {
+        String value = spec.trim().toUpperCase();
+        try {
+            if (value.endsWith("MB"))
+                return new CaptureQueue(Long.parseLong(value.substring(0, value.length() - 2).trim()) << 20, 0);
+            if (value.endsWith("M"))
+                return new CaptureQueue(Long.parseLong(value.substring(0, value.length() - 1).trim()) << 20, 0);
+            return new CaptureQueue(0, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            System.out.println("无效的缓冲设置：" + spec + "，使用512M");
+            return new CaptureQueue(512L << 20, 0);
+        }
+    }
+
+    private boolean full(long bytes) {
+        // A single frame is always admitted so an oversized one cannot stall forever
+        return depth > 0 && (used + bytes > budget || depth >= frames);
+    }
+
+    private void admit(long bytes) {
+        used += bytes;
+        captured++;
+        peak = Math.max(peak, ++depth);
+    }
+
+    // Non-blocking: the caller leaves the frame unreleased and retries it on the next present
+    public synchronized boolean offer(int frame, long bytes) {
+        if (full(bytes)) {
+            if (stalledFrame != frame) {
+                stalledFrame = frame;
+                stalled++;
+            }
+            return false;
+        }
+        admit(bytes);
+        return true;
+    }
+
+    public synchronized void put(long bytes) throws InterruptedException {
+        if (full(bytes)) {
+            stalled++;
+            do wait();
+            while (full(bytes));
+        }
+        admit(bytes);
+    }
+
+    public synchronized void release(long bytes) {
+        used -= bytes;
+        depth--;
+        encoded++;
+        notifyAll();
+    }
+
+    // For frames handed straight to the encoder without being queued
+    public synchronized void written() {
+        captured++;
+        encoded++;
+    }
+
+    public synchronized void awaitEmpty() throws InterruptedException {
+        while (depth > 0)
+            wait();
+    }
+
+    public synchronized void drop() {
+        dropped++;
+    }
+
+    public synchronized int getDepth() {
+        return depth;
+    }
+
+    public synchronized int getDropped() {
+        return dropped;
+    }
+
+    public synchronized double getEncodedProgress() {
+        return captured == 0 ? 0 : (double) encoded / captured;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Captured : " + captured + " Encoded : " + encoded + "\nQueue : " + depth + " (" + (used >> 20) + "MB) Peak : " + peak + " Stalled : " + stalled + " Dropped : " + dropped;
+    }
+}
@@ -0,0 +1,73 @@
+package com.QYun.SuperSpineViewer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+public class FFmpegPipe {
+    // Any executable reading rawvideo from stdin can stand in for ffmpeg, e.g. -DSuperSpineViewer.ffmpeg=cat
+    private static final String ffmpeg = System.getProperty("SuperSpineViewer.ffmpeg", "ffmpeg");
+    private final Process process;
+    private final WritableByteChannel stdin;
+    private final int width;
+    private final int height;
+
+    public FFmpegPipe(String output, int width, int height, int fps, float quality) throws IOException {
+        this.width = width;
+        this.height = height;
+        new File(output).delete();
+
+        String filter = "vflip,unpremultiply=inplace=1";
+        if (quality != 1)
+            filter += ",setpts=" + quality + "*PTS";
+
+        process = new ProcessBuilder(
+                ffmpeg, "-y", "-loglevel", "error",
+                "-f", "rawvideo", "-pix_fmt", "bgra",
+                "-s", width + "x" + height, "-r", String.valueOf(fps),
+                "-i", "-",
+                "-filter:v", filter,
+                "-c:v", "png", "-pix_fmt", "rgba",
+                output)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        stdin = Channels.newChannel(process.getOutputStream());
+    }
+
+    public boolean write(ByteBuffer data, int width, int height, int stride) throws IOException {
+        if (width != this.width || height != this.height)
+            return false;
+
+        int rowBytes = width * 4;
+        ByteBuffer frame = data.duplicate();
+        if (stride == rowBytes) {
+            frame.limit(rowBytes * height).position(0);
+            while (frame.hasRemaining())
+                stdin.write(frame);
+        } else for (int y = 0; y < height; y++) {
+            frame.limit(y * stride + rowBytes).position(y * stride);
+            while (frame.hasRemaining())
+                stdin.write(frame);
+        }
+        return true;
+    }
+
+    public boolean finish() throws InterruptedException {
+        try {
+            stdin.close();
+        } catch (IOException ignored) {
+        }
+        return process.waitFor() == 0;
+    }
+
+    public void destroy() {
+        try {
+            stdin.close();
+        } catch (IOException ignored) {
+        }
+        process.destroy();
+    }
+}
@@ -0,0 +1,8 @@
+package com.QYun.SuperSpineViewer;
+
+import java.nio.ByteBuffer;
+
+public interface FrameSink {
+    // data holds premultiplied BGRA rows, bottom row first, and is only valid during the call
+    void accept(int frame, ByteBuffer data, int width, int height, int stride);
+}
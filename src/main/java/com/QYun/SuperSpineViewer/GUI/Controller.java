@@ -1,32 +1,63 @@
 package com.QYun.SuperSpineViewer.GUI;
 
+import com.QYun.SuperSpineViewer.BatchExporter;
 import com.QYun.SuperSpineViewer.Main;
+import com.QYun.SuperSpineViewer.PNGEncoder;
+import com.QYun.SuperSpineViewer.RecordHeadless;
 import com.jfoenix.controls.JFXProgressBar;
 import javafx.application.Application;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 
+import java.util.zip.Deflater;
+
 public class Controller {
     public static ExporterController exporterController;
     public static SpineController spineController;
     public static JFXProgressBar progressBar;
+    public static JFXProgressBar encodedBar;
+    public static JFXProgressBar muxedBar;
     public static ImageView spineRender;
     public static Label FPS;
     public static Label Skel;
     public static Label Atlas;
+    public static Label Queue;
+    public static Label Stream;
     public static int width;
     public static int height;
     public static byte perform = 5;
     public static float quality = 0.5f;
+    public static int compression = Deflater.BEST_SPEED;
+    public static PNGEncoder.Filter filter = PNGEncoder.Filter.PAETH;
+    public static String buffer = "512M";
     public static boolean sequence = false;
     public static boolean isLoad = false;
     public static boolean preA = true;
+    public static boolean headless = false;
+    // Skeletons in the scene, 0 shows the one skeleton and -1 one copy per skin
+    public static int crowd = 0;
     public static String outPath = null;
     public static String openPath = null;
 
+    // A count of copies, or "skins" for every skin side by side
+    public static int crowd(String value) {
+        return value.equalsIgnoreCase("skins") ? -1 : Math.max(0, Integer.parseInt(value));
+    }
+
     public static void main(String[] args) {
         if (args.length > 0) {
+            if (args[0].equals("--headless")) {
+                new RecordHeadless().exportFromArgs(args);
+                return;
+            }
+            if (args[0].equals("--batch")) {
+                new BatchExporter().exportFromArgs(args);
+                return;
+            }
             openPath = args[0];
+            for (int i = 1; i < args.length - 1; i++)
+                if (args[i].equals("-crowd"))
+                    crowd = crowd(args[++i]);
         }
         Application.launch(Main.class, args);
     }
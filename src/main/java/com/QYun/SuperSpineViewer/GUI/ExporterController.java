@@ -1,8 +1,11 @@
 package com.QYun.SuperSpineViewer.GUI;
 
+import com.QYun.Spine.FrameStats;
 import com.QYun.Spine.SuperSpine;
+import com.QYun.Spine.ViewerStatus;
 import com.QYun.SuperSpineViewer.RecordFX;
 import com.QYun.SuperSpineViewer.RuntimesLoader;
+import com.badlogic.gdx.backends.lwjgl.LwjglToJavaFX;
 import com.jfoenix.controls.JFXProgressBar;
 import com.jfoenix.controls.JFXTextField;
 import javafx.application.Platform;
@@ -14,6 +17,7 @@ import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.util.ResourceBundle;
 
@@ -31,9 +35,19 @@ public class ExporterController extends Controller implements Initializable {
     @FXML
     private Label L_FPS;
     @FXML
+    private Label L_Queue;
+    @FXML
+    private Label L_Stream;
+    @FXML
     private JFXTextField T_Path;
     @FXML
+    private JFXTextField T_Buffer;
+    @FXML
     private JFXProgressBar P_Export;
+    @FXML
+    private JFXProgressBar P_Encoded;
+    @FXML
+    private JFXProgressBar P_Muxed;
 
     @FXML
     void B_Export() {
@@ -41,6 +55,7 @@ public class ExporterController extends Controller implements Initializable {
             spine.setIsPlay(false);
             spine.setIsLoop(false);
             spine.setSpeed(quality);
+            buffer = T_Buffer.getText();
             recordFX.startRecording(spine.getProjectName() + "_" + spine.getAnimate());
             spine.setIsPlay(true);
         }
@@ -105,6 +120,30 @@ public class ExporterController extends Controller implements Initializable {
         perform = 2;
     }
 
+    @FXML
+    void B_Calibrate() {
+        LwjglToJavaFX.calibrate();
+    }
+
+    @FXML
+    void B_Stats() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Save Frame Stats");
+        fileChooser.setInitialFileName("FrameStats.csv");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV", "*.csv"));
+
+        File file = fileChooser.showSaveDialog(new Stage());
+        if (file != null) {
+            try {
+                FrameStats.writeCSV(file);
+                System.out.println("帧统计已导出：" + file.getAbsolutePath());
+            } catch (IOException e) {
+                System.out.println("帧统计导出失败");
+                e.printStackTrace();
+            }
+        }
+    }
+
     @FXML
     void RB_MOV() {
         sequence = false;
@@ -125,7 +164,12 @@ public class ExporterController extends Controller implements Initializable {
         FPS = L_FPS;
         Skel = L_Skel;
         Atlas = L_Atlas;
+        Queue = L_Queue;
+        Stream = L_Stream;
         progressBar = P_Export;
+        ViewerStatus.start();
+        encodedBar = P_Encoded;
+        muxedBar = P_Muxed;
         spine.spineVersionProperty().addListener((observable, oldValue, newValue) -> Platform.runLater(() -> L_Version.setText("Version : " + newValue)));
 
         if (openPath != null) {
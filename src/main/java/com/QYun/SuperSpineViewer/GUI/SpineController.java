@@ -1,10 +1,12 @@
 package com.QYun.SuperSpineViewer.GUI;
 
+import com.QYun.Spine.FrameStats;
 import com.QYun.Spine.SuperSpine;
 import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.jfoenix.controls.*;
 import com.jfoenix.controls.JFXButton.ButtonType;
 import com.jfoenix.effects.JFXDepthManager;
+import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
@@ -20,6 +22,7 @@ import javafx.scene.control.TextFormatter;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
@@ -42,6 +45,9 @@ public class SpineController extends Controller implements Initializable {
     @FXML
     private ImageView SpineRender;
 
+    @FXML
+    private Label L_Stats;
+
     @FXML
     private StackPane loadPane;
 
@@ -195,9 +201,20 @@ public class SpineController extends Controller implements Initializable {
         spinePane.getChildren().addAll(content, playButton);
 
         spineRender = SpineRender;
+        // F3 overlays the per-stage frame times of about the last second
+        Timeline stats = new Timeline(new KeyFrame(Duration.millis(500), e -> L_Stats.setText(FrameStats.summary(60))));
+        stats.setCycleCount(Animation.INDEFINITE);
         Platform.runLater(() -> {
             SpineRender.fitHeightProperty().bind(SpineRender.getScene().heightProperty().add(-103));
             SpineRender.fitWidthProperty().bind(SpineRender.getScene().widthProperty().add(-368));
+            SpineRender.getScene().addEventHandler(KeyEvent.KEY_PRESSED, e -> {
+                if (e.getCode() == KeyCode.F3) {
+                    L_Stats.setVisible(!L_Stats.isVisible());
+                    if (L_Stats.isVisible())
+                        stats.play();
+                    else stats.stop();
+                }
+            });
         });
         SpineRender.fitWidthProperty().addListener((observable, oldValue, newValue) -> {
             T_Width.setPromptText(String.valueOf(newValue.intValue()));
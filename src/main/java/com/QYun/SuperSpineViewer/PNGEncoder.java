@@ -0,0 +1,345 @@
+package com.QYun.SuperSpineViewer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+public class PNGEncoder {
+    private static final int cores = Runtime.getRuntime().availableProcessors();
+    private static final ThreadPoolExecutor deflatePool = new ThreadPoolExecutor(cores, cores,
+            1L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            (r -> {
+                Thread deflate = new Thread(r, "DeflatePNG");
+                deflate.setDaemon(true);
+                return deflate;
+            }));
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] IDAT = {'I', 'D', 'A', 'T'};
+    private static final int STRIP_BYTES = 128 * 1024;
+    private static final ThreadLocal<Deflater> deflaters = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    private static final ThreadLocal<Rows> rows = ThreadLocal.withInitial(Rows::new);
+
+    static {
+        deflatePool.allowCoreThreadTimeOut(true);
+    }
+
+    private final ConcurrentLinkedQueue<ByteBuffer> frames = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> strips = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger encoded = new AtomicInteger();
+    private final AtomicLong first = new AtomicLong();
+    private final AtomicLong last = new AtomicLong();
+    private final int level;
+    private final Filter filter;
+
+    public PNGEncoder(int level, Filter filter) {
+        this.level = level;
+        this.filter = filter;
+    }
+
+    private static ByteBuffer acquire(ConcurrentLinkedQueue<ByteBuffer> pool, int capacity) {
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null || buffer.capacity() < capacity)
+            buffer = ByteBuffer.allocateDirect(capacity);
+        return buffer.clear();
+    }
+
+    // zlib's adler32_combine: the checksum of a stream from those of its two halves
+    private static int adlerCombine(int adler1, int adler2, long length2) {
+        final long BASE = 65521;
+        long rem = length2 % BASE;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % BASE;
+        sum1 += (adler2 & 0xFFFF) + BASE - 1;
+        sum2 += ((adler1 >>> 16) & 0xFFFF) + ((adler2 >>> 16) & 0xFFFF) + BASE - rem;
+        if (sum1 >= BASE) sum1 -= BASE;
+        if (sum1 >= BASE) sum1 -= BASE;
+        if (sum2 >= BASE << 1) sum2 -= BASE << 1;
+        if (sum2 >= BASE) sum2 -= BASE;
+        return (int) (sum1 | sum2 << 16);
+    }
+
+    // Copies a frame into a pooled direct buffer, dropping the row padding
+    public ByteBuffer copy(ByteBuffer data, int width, int height, int stride) {
+        int rowBytes = width * 4;
+        ByteBuffer frame = acquire(frames, rowBytes * height);
+        ByteBuffer source = data.duplicate();
+        if (stride == rowBytes) {
+            source.limit(rowBytes * height).position(0);
+            frame.put(source);
+        } else for (int y = 0; y < height; y++) {
+            source.limit(y * stride + rowBytes).position(y * stride);
+            frame.put(source);
+        }
+        return frame.flip();
+    }
+
+    public void release(ByteBuffer frame) {
+        frames.offer(frame);
+    }
+
+    // frame holds premultiplied BGRA rows, bottom row first, as handed out by copy
+    public void encode(ByteBuffer frame, int width, int height, File file) throws IOException {
+        long start = System.nanoTime();
+        first.compareAndSet(0, start);
+
+        int rowBytes = width * 4 + 1;
+        int stripRows = Math.max(1, STRIP_BYTES / rowBytes);
+        int count = (height + stripRows - 1) / stripRows;
+        Strip[] parts = new Strip[count];
+        Future<?>[] futures = new Future<?>[count];
+        for (int i = 0; i < count; i++)
+            parts[i] = new Strip(frame, width, height, i * stripRows, Math.min(height, (i + 1) * stripRows), i == count - 1);
+        try {
+            for (int i = 1; i < count; i++)
+                futures[i] = deflatePool.submit(parts[i]);
+            parts[0].run();
+            for (int i = 1; i < count; i++)
+                futures[i].get();
+            write(parts, width, height, file);
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IOException(e);
+        } finally {
+            // After a failure strips not started never run, one still deflating keeps its buffer so the pool never hands it out while it is written
+            for (int i = 0; i < count; i++) {
+                if (futures[i] != null)
+                    futures[i].cancel(false);
+                if (parts[i].done && parts[i].out != null)
+                    strips.offer(parts[i].out);
+            }
+        }
+
+        encoded.incrementAndGet();
+        last.accumulateAndGet(System.nanoTime(), Math::max);
+    }
+
+    private void write(Strip[] parts, int width, int height, File file) throws IOException {
+        int adler = 1;
+        for (Strip part : parts)
+            adler = adlerCombine(adler, part.adler, part.length);
+
+        ByteBuffer head = ByteBuffer.allocate(SIGNATURE.length + 25);
+        head.put(SIGNATURE);
+        ByteBuffer ihdr = ByteBuffer.allocate(13).putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0).flip();
+        chunk(head, "IHDR", ihdr);
+        head.flip();
+
+        // One IDAT per strip; the zlib header rides in the first and the checksum in the last
+        ByteBuffer[] buffers = new ByteBuffer[parts.length * 3 + 2];
+        buffers[0] = head;
+        for (int i = 0; i < parts.length; i++) {
+            ByteBuffer data = parts[i].out.flip();
+            if (i == 0) {
+                ByteBuffer zlib = ByteBuffer.allocate(data.remaining() + 2 + (parts.length == 1 ? 4 : 0));
+                zlib.put((byte) 0x78).put(zlibFlags()).put(data);
+                if (parts.length == 1) zlib.putInt(adler);
+                data = zlib.flip();
+            } else if (i == parts.length - 1) {
+                ByteBuffer tail = ByteBuffer.allocate(data.remaining() + 4);
+                data = tail.put(data).putInt(adler).flip();
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(IDAT);
+            crc.update(data.duplicate());
+            buffers[i * 3 + 1] = ByteBuffer.allocate(8).putInt(data.remaining()).put(IDAT).flip();
+            buffers[i * 3 + 2] = data;
+            buffers[i * 3 + 3] = ByteBuffer.allocate(4).putInt((int) crc.getValue()).flip();
+        }
+        ByteBuffer iend = ByteBuffer.allocate(12);
+        chunk(iend, "IEND", ByteBuffer.allocate(0));
+        buffers[buffers.length - 1] = iend.flip();
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long remaining = 0;
+            for (ByteBuffer buffer : buffers)
+                remaining += buffer.remaining();
+            while (remaining > 0)
+                remaining -= channel.write(buffers);
+        }
+    }
+
+    private byte zlibFlags() {
+        if (level == Deflater.BEST_SPEED || level == Deflater.NO_COMPRESSION) return 0x01;
+        if (level == Deflater.DEFAULT_COMPRESSION || level == 6) return (byte) 0x9C;
+        return level < 6 ? 0x5E : (byte) 0xDA;
+    }
+
+    private void chunk(ByteBuffer out, String type, ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        crc.update(type.getBytes());
+        crc.update(data.duplicate());
+        out.putInt(data.remaining()).put(type.getBytes()).put(data).putInt((int) crc.getValue());
+    }
+
+    public float framesPerCoreSecond() {
+        long elapsed = last.get() - first.get();
+        return elapsed <= 0 ? 0 : encoded.get() * 1e9f / elapsed / cores;
+    }
+
+    public void report() {
+        System.out.printf("PNG编码：%d帧\t%.2f帧/秒/核%n", encoded.get(), framesPerCoreSecond());
+        encoded.set(0);
+        first.set(0);
+        last.set(0);
+    }
+
+    public enum Filter {
+        NONE, SUB, UP, AVERAGE, PAETH
+    }
+
+    private static class Rows {
+        private byte[] previous = new byte[0];
+        private byte[] current = new byte[0];
+        private byte[] filtered = new byte[0];
+
+        private void ensure(int rowBytes) {
+            if (current.length < rowBytes) {
+                previous = new byte[rowBytes];
+                current = new byte[rowBytes];
+                filtered = new byte[rowBytes + 1];
+            }
+        }
+    }
+
+    private class Strip implements Runnable {
+        private final ByteBuffer frame;
+        private final int width;
+        private final int height;
+        private final int from;
+        private final int to;
+        private final boolean finish;
+        private ByteBuffer out;
+        private int adler;
+        private long length;
+        private volatile boolean done;
+
+        private Strip(ByteBuffer frame, int width, int height, int from, int to, boolean finish) {
+            this.frame = frame;
+            this.width = width;
+            this.height = height;
+            this.from = from;
+            this.to = to;
+            this.finish = finish;
+        }
+
+        // Loads output row y (top down) as straight RGBA
+        private void load(int y, byte[] row) {
+            int rowBytes = width * 4;
+            frame.get((height - 1 - y) * rowBytes, row, 0, rowBytes);
+            for (int i = 0; i < rowBytes; i += 4) {
+                int b = row[i] & 0xFF, g = row[i + 1] & 0xFF, r = row[i + 2] & 0xFF, a = row[i + 3] & 0xFF;
+                if (a == 0) {
+                    row[i] = row[i + 1] = row[i + 2] = 0;
+                    continue;
+                }
+                if (a != 255) {
+                    int half = a >> 1;
+                    r = Math.min(255, (r * 255 + half) / a);
+                    g = Math.min(255, (g * 255 + half) / a);
+                    b = Math.min(255, (b * 255 + half) / a);
+                }
+                row[i] = (byte) r;
+                row[i + 1] = (byte) g;
+                row[i + 2] = (byte) b;
+            }
+        }
+
+        private int deflate(Deflater deflater, int flush) {
+            if (!out.hasRemaining())
+                out = ByteBuffer.allocateDirect(out.capacity() * 2).put(out.flip());
+            deflater.deflate(out, flush);
+            return out.remaining();
+        }
+
+        private void filter(byte[] current, byte[] previous, byte[] filtered, int rowBytes) {
+            filtered[0] = (byte) filter.ordinal();
+            switch (filter) {
+                case NONE -> System.arraycopy(current, 0, filtered, 1, rowBytes);
+                case SUB -> {
+                    for (int i = 0; i < rowBytes; i++)
+                        filtered[i + 1] = (byte) (current[i] - (i < 4 ? 0 : current[i - 4]));
+                }
+                case UP -> {
+                    for (int i = 0; i < rowBytes; i++)
+                        filtered[i + 1] = (byte) (current[i] - previous[i]);
+                }
+                case AVERAGE -> {
+                    for (int i = 0; i < rowBytes; i++)
+                        filtered[i + 1] = (byte) (current[i] - (((i < 4 ? 0 : current[i - 4] & 0xFF) + (previous[i] & 0xFF)) >> 1));
+                }
+                case PAETH -> {
+                    for (int i = 0; i < rowBytes; i++) {
+                        int a = i < 4 ? 0 : current[i - 4] & 0xFF, b = previous[i] & 0xFF, c = i < 4 ? 0 : previous[i - 4] & 0xFF;
+                        int pa = Math.abs(b - c), pb = Math.abs(a - c), pc = Math.abs(a + b - c - c);
+                        int predictor = pa <= pb && pa <= pc ? a : pb <= pc ? b : c;
+                        filtered[i + 1] = (byte) (current[i] - predictor);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                deflate();
+            } finally {
+                done = true;
+            }
+        }
+
+        private void deflate() {
+            int rowBytes = width * 4;
+            Rows rows = PNGEncoder.rows.get();
+            rows.ensure(rowBytes);
+            Deflater deflater = deflaters.get();
+            deflater.reset();
+            deflater.setLevel(level);
+            Adler32 checksum = new Adler32();
+
+            long raw = (long) (to - from) * (rowBytes + 1);
+            out = acquire(strips, (int) (raw + (raw >> 12) + (raw >> 14) + 64));
+            if (from > 0) load(from - 1, rows.previous);
+            else Arrays.fill(rows.previous, 0, rowBytes, (byte) 0);
+
+            for (int y = from; y < to; y++) {
+                load(y, rows.current);
+                filter(rows.current, rows.previous, rows.filtered, rowBytes);
+                checksum.update(rows.filtered, 0, rowBytes + 1);
+                deflater.setInput(rows.filtered, 0, rowBytes + 1);
+                if (y < to - 1) {
+                    while (!deflater.needsInput())
+                        deflate(deflater, Deflater.NO_FLUSH);
+                } else if (finish) {
+                    deflater.finish();
+                    while (!deflater.finished())
+                        deflate(deflater, Deflater.NO_FLUSH);
+                } else {
+                    // A sync flush ends the strip on a byte boundary so the next strip's blocks can follow it
+                    while (deflate(deflater, Deflater.SYNC_FLUSH) == 0) ;
+                }
+                byte[] swap = rows.previous;
+                rows.previous = rows.current;
+                rows.current = swap;
+            }
+            adler = (int) checksum.getValue();
+            length = raw;
+        }
+    }
+}
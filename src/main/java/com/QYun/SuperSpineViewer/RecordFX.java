@@ -1,17 +1,14 @@
 package com.QYun.SuperSpineViewer;
 
+import com.QYun.Spine.FrameScheduler;
 import com.QYun.Spine.SuperSpine;
 import com.QYun.SuperSpineViewer.GUI.Controller;
+import com.badlogic.gdx.backends.lwjgl.LwjglToJavaFX;
 import javafx.application.Platform;
-import javafx.embed.swing.SwingFXUtils;
-import javafx.scene.SnapshotParameters;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
 
-import javax.imageio.ImageIO;
 import java.io.File;
 import java.io.IOException;
-import java.util.Objects;
+import java.nio.ByteBuffer;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -27,96 +24,122 @@ public class RecordFX extends Controller {
                 save.setDaemon(true);
                 return save;
             }));
-    private final SnapshotParameters parameters = new SnapshotParameters();
     private final SuperSpine spine = new SuperSpine();
     private final byte FPS = 60;
     private short counter;
     private String fileName = null;
+    private FFmpegPipe pipe = null;
+    private PNGEncoder png = null;
+    private CaptureQueue queue = null;
 
     public RecordFX() {
         savePool.allowCoreThreadTimeOut(true);
-        parameters.setFill(Color.TRANSPARENT);
         System.out.println("SuperSpineViewer已启动");
     }
 
-    private void recorderFX() {
-        Thread recodeThread = new Thread("RecordFX_Capturing") {
-            @Override
-            public void run() {
-                new File(outPath + "Sequence").mkdirs();
-                System.out.println("录制开始");
-                do {
-                    Platform.runLater(() -> {
-                        if (spine.getPercent() < 1) {
-                            savePool.submit(new savePNG(spineRender.snapshot(parameters, null), counter++));
-                            System.out.println("捕获：" + counter + "\t" + spine.getPercent());
-                        } else recording = false;
-                    });
-                    try {
-                        Thread.sleep((1000 / FPS));
-                    } catch (InterruptedException ignored) {
-                    }
-                } while (recording);
-
-                encodeFX();
-                savePool.setMaximumPoolSize(Integer.MAX_VALUE);
-                savePool.setCorePoolSize(Integer.MAX_VALUE);
+    private void captureFX(int frame, ByteBuffer data, int width, int height, int stride) {
+        if (frame != counter)
+            return;
+
+        if (spine.getPercent() < 1) {
+            if (sequence) {
+                // Hold the scheduler on this frame until the save queue has room for it
+                if (!queue.offer(counter, (long) width * height * 4))
+                    return;
+                savePool.submit(new savePNG(png.copy(data, width, height, stride), width, height, counter));
+                showQueue();
+            } else try {
+                // The pipe is sized from the first frame the stream actually delivers
+                if (pipe == null)
+                    pipe = new FFmpegPipe(outPath + fileName + ".mov", width, height, FPS, quality);
+                if (pipe.write(data, width, height, stride))
+                    queue.written();
+                else {
+                    System.out.println("画面尺寸改变，丢弃：" + counter);
+                    queue.drop();
+                }
+                showQueue();
+            } catch (IOException e) {
+                System.out.println("写入FFmpeg失败");
+                e.printStackTrace();
+                if (pipe != null)
+                    pipe.destroy();
+                pipe = null;
+                stopFX();
+                return;
             }
-        };
-        recodeThread.setDaemon(true);
-        recodeThread.start();
+            System.out.println("捕获：" + counter + "\t" + spine.getPercent());
+            FrameScheduler.captured(counter++);
+        } else stopFX();
+    }
+
+    private void showQueue() {
+        String text = queue.toString();
+        double encoded = queue.getEncodedProgress();
+        Platform.runLater(() -> {
+            Queue.setText(text);
+            encodedBar.setProgress(encoded);
+        });
+    }
+
+    private void stopFX() {
+        LwjglToJavaFX.sink = null;
+        recording = false;
+        FrameScheduler.stop();
+        encodeFX();
     }
 
     public void startRecording(String fileName) {
         if (!recording) {
             this.fileName = fileName;
-            savePool.setMaximumPoolSize(perform);
-            savePool.setCorePoolSize(perform);
+            queue = CaptureQueue.parse(buffer);
+            showQueue();
+            Platform.runLater(() -> muxedBar.setProgress(0));
             spine.setPercent(0);
+
+            if (sequence) {
+                new File(outPath + "Sequence").mkdirs();
+                png = new PNGEncoder(compression, filter);
+                savePool.setMaximumPoolSize(perform);
+                savePool.setCorePoolSize(perform);
+            }
+            FrameScheduler.start(FPS, quality);
+            LwjglToJavaFX.sink = this::captureFX;
+            Platform.runLater(FrameScheduler::begin);
+            System.out.println("录制开始");
+
             recording = true;
-            recorderFX();
             System.out.println("请求：开始录制");
         }
     }
 
-    private void ffmpegFX() {
-        try {
-            System.out.println("FFmpeg处理开始");
-            new File((outPath + fileName) + ".mov").delete();
-
-            if (Runtime.getRuntime().exec(new String[]{
-                    "ffmpeg", "-r", String.valueOf(FPS),
-                    "-i", outPath + "Sequence" + File.separator + fileName + "_%d.png",
-                    "-c:v", "png", "-pix_fmt", "rgba",
-                    "-filter:v", "\"setpts=" + quality + "*PTS\"",
-                    outPath + fileName + ".mov"
-            }, new String[]{System.getProperty("user.dir")}).waitFor() == 0) {
-                File sequence = new File(outPath + "Sequence" + File.separator);
-                for (String file : Objects.requireNonNull(sequence.list()))
-                    new File(sequence, file).delete();
-                sequence.delete();
-
-                System.out.println("视频导出成功");
-            } else Platform.runLater(() -> {
-                Controller.progressBar.setProgress(0);
-                System.out.println("FFMPEG错误，序列已导出");
-            });
-
-        } catch (Exception ignored) {
-        }
-    }
-
     private void encodeFX() {
         Thread ffmpeg = new Thread("RecordFX_Encoding") {
             @Override
             public void run() {
                 System.out.println("请求：停止录制");
-                Platform.runLater(() -> Controller.progressBar.setProgress(-1));
-                while (savePool.getActiveCount() != 0)
-                    Thread.onSpinWait();
-
-                if (!sequence)
-                    ffmpegFX();
+                try {
+                    queue.awaitEmpty();
+                } catch (InterruptedException ignored) {
+                }
+                if (png != null)
+                    png.report();
+
+                if (pipe != null) {
+                    System.out.println("等待FFmpeg编码完成");
+                    Platform.runLater(() -> muxedBar.setProgress(-1));
+                    boolean muxed = false;
+                    try {
+                        muxed = pipe.finish();
+                    } catch (InterruptedException ignored) {
+                    }
+                    if (muxed)
+                        System.out.println("视频导出成功");
+                    else System.out.println("FFMPEG错误");
+                    final double progress = muxed ? 1 : 0;
+                    Platform.runLater(() -> muxedBar.setProgress(progress));
+                    pipe = null;
+                } else Platform.runLater(() -> muxedBar.setProgress(1));
 
                 Platform.runLater(() -> {
                     spine.setSpeed(1);
@@ -135,23 +158,30 @@ public class RecordFX extends Controller {
 
     private class savePNG implements Runnable {
         private final short index;
-        private Image image;
-
-        private savePNG(Image image, short index) {
-            this.image = image;
+        private final int width;
+        private final int height;
+        private final ByteBuffer frame;
+
+        private savePNG(ByteBuffer frame, int width, int height, short index) {
+            this.frame = frame;
+            this.width = width;
+            this.height = height;
             this.index = index;
         }
 
         @Override
         public void run() {
             try {
-                ImageIO.write(SwingFXUtils.fromFXImage(image, null), "png",
+                png.encode(frame, width, height,
                         new File((outPath + "Sequence" + File.separator + fileName) + "_" + index + ".png"));
-                image = null;
                 System.out.println("保存：" + index);
             } catch (IOException e) {
                 System.out.println("保存PNG文件失败");
                 e.printStackTrace();
+            } finally {
+                png.release(frame);
+                queue.release((long) width * height * 4);
+                showQueue();
             }
         }
     }
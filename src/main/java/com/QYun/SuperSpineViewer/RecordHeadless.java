@@ -0,0 +1,352 @@
+package com.QYun.SuperSpineViewer;
+
+import com.QYun.Spine.DrawList;
+import com.QYun.Spine.FrameScheduler;
+import com.QYun.Spine.FrameStats;
+import com.QYun.Spine.FrameStats.Stage;
+import com.QYun.Spine.SoftwareRenderer;
+import com.QYun.Spine.SuperSpine;
+import com.QYun.Spine.Universal;
+import com.QYun.SuperSpineViewer.GUI.Controller;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl.LwjglHeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonWriter;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class RecordHeadless extends Controller {
+    private final ThreadPoolExecutor savePool = new ThreadPoolExecutor(perform, perform,
+            1L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            (r -> {
+                Thread save = new Thread(r, "SavePNG");
+                save.setDaemon(true);
+                return save;
+            }));
+    private final LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
+    private final RuntimesLoader runtimesLoader = new RuntimesLoader();
+    private final Universal universal = new Universal();
+    private final SuperSpine spine = new SuperSpine();
+    private final List<String[]> jobs = new ArrayList<>();
+    private final List<Result> results = new ArrayList<>();
+    private LwjglHeadlessApplication gdxApp;
+    private String animateName = null;
+    private String skinName = null;
+    private String fileName = null;
+    private FFmpegPipe pipe = null;
+    private PNGEncoder png = null;
+    private CaptureQueue queue = null;
+    private SoftwareRenderer rasterizer = null;
+    private Result current = null;
+    private boolean all = false;
+    private boolean software = false;
+    private String report = null;
+    private String stats = null;
+    private int FPS = 60;
+    private short counter;
+    private int total = 0;
+
+    public void exportFromArgs(String[] args) {
+        config.width = 1280;
+        config.height = 720;
+        outPath = System.getProperty("user.dir") + File.separator;
+
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "-o" -> outPath = new File(args[++i]).getAbsolutePath() + File.separator;
+                case "-a" -> animateName = args[++i];
+                case "-s" -> skinName = args[++i];
+                case "-w" -> config.width = Integer.parseInt(args[++i]);
+                case "-h" -> config.height = Integer.parseInt(args[++i]);
+                case "-fps" -> FPS = Integer.parseInt(args[++i]);
+                case "-scale" -> spine.setScale(Float.parseFloat(args[++i]));
+                case "-sequence" -> sequence = true;
+                case "-level" -> compression = Integer.parseInt(args[++i]);
+                case "-filter" -> filter = PNGEncoder.Filter.valueOf(args[++i].toUpperCase());
+                case "-buffer" -> buffer = args[++i];
+                case "-all" -> all = true;
+                case "-software" -> software = true;
+                case "-report" -> report = args[++i];
+                case "-stats" -> stats = args[++i];
+                case "-crowd" -> crowd = crowd(args[++i]);
+                default -> openPath = args[i];
+            }
+        }
+
+        if (openPath == null) {
+            System.out.println("用法：--headless <skel> [-o 输出目录] [-a 动画] [-s 皮肤] [-w 宽] [-h 高] [-fps 帧率] [-scale 缩放] [-sequence] [-level 压缩级别0-9] [-filter none|sub|up|average|paeth] [-buffer 512M|帧数] [-software] [-all] [-report 报告.json] [-stats 帧统计.csv] [-crowd 数量|skins]");
+            return;
+        }
+
+        try {
+            export();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public void export() throws InterruptedException {
+        headless = true;
+        config.samples = 0;
+        LwjglApplicationConfiguration.disableAudio = true;
+        runtimesLoader.load(new FileHandle(new File(openPath)));
+
+        if (software)
+            Universal.drawList = new DrawList();
+
+        System.out.println("无头导出开始");
+        long start = System.nanoTime();
+        gdxApp = new LwjglHeadlessApplication(new Capture(), config, software);
+        gdxApp.join();
+
+        savePool.shutdown();
+        savePool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        long ms = (System.nanoTime() - start) / 1000000;
+        System.out.println("渲染结束：" + total + "帧\t" + ms + "ms");
+        if (rasterizer != null)
+            rasterizer.report();
+        if (png != null) {
+            png.report();
+            System.out.println(queue);
+        }
+        if (report != null)
+            writeReport(ms);
+        if (stats != null) {
+            try {
+                FrameStats.writeCSV(new File(stats));
+            } catch (IOException e) {
+                System.out.println("帧统计写入失败");
+                e.printStackTrace();
+            }
+        }
+        System.out.println("导出结束");
+    }
+
+    private void writeReport(long ms) {
+        try (JsonWriter json = new JsonWriter(new FileWriter(report))) {
+            json.setOutputType(JsonWriter.OutputType.json);
+            json.object()
+                    .set("skel", openPath)
+                    .set("version", spine.getSpineVersion())
+                    .set("frames", total)
+                    .set("ms", ms)
+                    .array("exports");
+            for (Result result : results)
+                json.object()
+                        .set("animation", result.animate)
+                        .set("skin", result.skin)
+                        .set("output", result.output)
+                        .set("frames", result.frames)
+                        .set("ms", result.ms)
+                        .set("ok", result.ok)
+                        .pop();
+            json.pop().pop();
+        } catch (IOException e) {
+            System.out.println("报告写入失败");
+            e.printStackTrace();
+        }
+    }
+
+    private class Capture extends ApplicationAdapter {
+        @Override
+        public void create() {
+            universal.create();
+            if (software)
+                rasterizer = new SoftwareRenderer(config.width, config.height);
+            if (spine.getAnimatesList().isEmpty()) {
+                System.out.println("没有可导出的动画");
+                Gdx.app.exit();
+                return;
+            }
+
+            List<String> skins = new ArrayList<>();
+            if (skinName != null || !all || spine.getSkinsList().isEmpty())
+                skins.add(skinName);
+            else skins.addAll(spine.getSkinsList());
+            List<String> animates = new ArrayList<>();
+            if (animateName != null)
+                animates.add(animateName);
+            else if (all)
+                animates.addAll(spine.getAnimatesList());
+            else animates.add(spine.getAnimatesList().get(0));
+            for (String skin : skins)
+                for (String animate : animates)
+                    jobs.add(new String[]{animate, skin});
+
+            if (sequence) {
+                new File(outPath + "Sequence").mkdirs();
+                png = new PNGEncoder(compression, filter);
+                queue = CaptureQueue.parse(buffer);
+            }
+            spine.setIsLoop(false);
+            if (!next())
+                Gdx.app.exit();
+        }
+
+        // Switches the loaded skeleton to the next animation/skin pair without reloading it
+        private boolean next() {
+            if (jobs.isEmpty())
+                return false;
+            String[] job = jobs.remove(0);
+
+            spine.setSkin(job[1]);
+            spine.setAnimate(null);
+            spine.setAnimate(job[0]);
+            spine.setPercent(0);
+            spine.setIsPlay(true);
+            counter = 0;
+
+            fileName = spine.getProjectName() + (all && job[1] != null ? "_" + job[1] : "") + "_" + job[0];
+            current = new Result();
+            current.animate = job[0];
+            current.skin = job[1];
+            current.start = System.nanoTime();
+            if (sequence)
+                current.output = outPath + "Sequence" + File.separator + fileName + "_%d.png";
+            else try {
+                current.output = outPath + fileName + ".mov";
+                pipe = new FFmpegPipe(current.output, config.width, config.height, FPS, 1);
+            } catch (IOException e) {
+                System.out.println("FFmpeg启动失败");
+                e.printStackTrace();
+                current.ok = false;
+                results.add(current);
+                return next();
+            }
+
+            System.out.println("导出：" + fileName);
+            FrameScheduler.start(FPS, 1);
+            FrameScheduler.begin();
+            return true;
+        }
+
+        private void finish() {
+            FrameScheduler.stop();
+            if (pipe != null) {
+                System.out.println("等待FFmpeg编码完成");
+                try {
+                    current.ok = pipe.finish();
+                } catch (InterruptedException e) {
+                    current.ok = false;
+                }
+                if (current.ok)
+                    System.out.println("视频导出成功");
+                else System.out.println("FFMPEG错误");
+                pipe = null;
+            }
+            current.frames = counter;
+            current.ms = (System.nanoTime() - current.start) / 1000000;
+            results.add(current);
+            total += counter;
+        }
+
+        // Software frames come in the same bottom-up premultiplied BGRA as the GL readback
+        private ByteBuffer readPixels() {
+            if (rasterizer != null)
+                return rasterizer.render(Universal.drawList);
+            return gdxApp.readPixels();
+        }
+
+        @Override
+        public void render() {
+            if (Universal.drawList != null)
+                Universal.drawList.clear();
+            universal.render();
+            if (spine.getPercent() < 1) {
+                long time = System.nanoTime();
+                if (pipe != null) {
+                    try {
+                        ByteBuffer frame = readPixels();
+                        time = FrameStats.mark(Stage.READBACK, time);
+                        pipe.write(frame, config.width, config.height, config.width * 4);
+                        FrameStats.mark(Stage.QUEUE, time);
+                    } catch (IOException e) {
+                        System.out.println("写入FFmpeg失败");
+                        e.printStackTrace();
+                        pipe.destroy();
+                        pipe = null;
+                        current.ok = false;
+                        finish();
+                        if (!next())
+                            Gdx.app.exit();
+                        return;
+                    }
+                } else {
+                    try {
+                        queue.put((long) config.width * config.height * 4);
+                    } catch (InterruptedException e) {
+                        Gdx.app.exit();
+                        return;
+                    }
+                    time = FrameStats.mark(Stage.QUEUE, time);
+                    ByteBuffer frame = readPixels();
+                    time = FrameStats.mark(Stage.READBACK, time);
+                    savePool.submit(new savePNG(png.copy(frame, config.width, config.height, config.width * 4), fileName, counter));
+                    FrameStats.mark(Stage.QUEUE, time);
+                }
+                FrameScheduler.captured(counter++);
+            } else {
+                finish();
+                if (!next())
+                    Gdx.app.exit();
+            }
+        }
+
+        @Override
+        public void resize(int width, int height) {
+            universal.resize(width, height);
+        }
+
+        @Override
+        public void dispose() {
+            universal.dispose();
+        }
+    }
+
+    private class savePNG implements Runnable {
+        private final String path;
+        private final short index;
+        private final ByteBuffer frame;
+
+        private savePNG(ByteBuffer frame, String fileName, short index) {
+            this.frame = frame;
+            this.path = outPath + "Sequence" + File.separator + fileName + "_" + index + ".png";
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            try {
+                png.encode(frame, config.width, config.height, new File(path));
+                System.out.println("保存：" + index);
+            } catch (IOException e) {
+                System.out.println("保存PNG文件失败");
+                e.printStackTrace();
+            } finally {
+                png.release(frame);
+                queue.release((long) config.width * config.height * 4);
+            }
+        }
+    }
+
+    private static class Result {
+        private String animate;
+        private String skin;
+        private String output;
+        private int frames;
+        private long ms;
+        private boolean ok = true;
+        private long start;
+    }
+}
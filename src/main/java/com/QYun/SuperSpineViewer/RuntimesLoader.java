@@ -1,21 +1,32 @@
 package com.QYun.SuperSpineViewer;
 
+import com.QYun.Spine.BinaryInput;
 import com.QYun.Spine.SuperSpine;
 import com.QYun.Spine.Universal;
 import com.QYun.SuperSpineViewer.GUI.Controller;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.badlogic.gdx.backends.lwjgl.LwjglFXApplication;
 import com.badlogic.gdx.files.FileHandle;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 import javafx.application.Platform;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class RuntimesLoader extends Controller {
-    public static byte spineVersion = 0;
+    public static volatile byte spineVersion = 0;
+    // Only this much of a skeleton is read to find its version
+    private static final int PROBE = 4096;
+    // Past the probe a JSON is scanned in chunks, each window keeps the end of the last so a key split across them is whole in the next
+    private static final int CHUNK = 64 * 1024;
+    private static final int OVERLAP = 256;
+    private static final Pattern SPINE = Pattern.compile("\"spine\"\\s*:\\s*\"([^\"]*)\"");
+    private static final Pattern VERSION = Pattern.compile("\\d+\\.\\d+(\\..*)?");
     private final LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
     private final String[] extraSuffixes = {"", ".txt", ".bytes"};
     private final String[] dataSuffixes = {"", ".json", ".skel"};
@@ -24,37 +35,76 @@ public class RuntimesLoader extends Controller {
     private final Universal universal = new Universal();
     private LwjglFXApplication gdxApp;
 
-    private void whichVersion(String skel) {
-        if (skel.contains("4.0."))
+    private void whichVersion(String version) {
+        if (version == null)
+            return;
+        // "3.8" and "3.8.99" alike, never "3.80"
+        String skel = version + ".";
+        if (skel.startsWith("4.0."))
             spineVersion = 40;
-        else if (skel.contains("3.8."))
+        else if (skel.startsWith("3.8."))
             spineVersion = 38;
-        else if (skel.contains("3.7."))
+        else if (skel.startsWith("3.7."))
             spineVersion = 37;
-        else if (skel.contains("3.6."))
+        else if (skel.startsWith("3.6."))
             spineVersion = 36;
-        else if (skel.contains("3.5."))
+        else if (skel.startsWith("3.5."))
             spineVersion = 35;
-        else if (skel.contains("3.4.") || skel.contains("3.3."))
+        else if (skel.startsWith("3.4.") || skel.startsWith("3.3."))
             spineVersion = 34;
-        else if (skel.contains("3.2."))
+        else if (skel.startsWith("3.2."))
             spineVersion = 32;
-        else if (skel.contains("3.1."))
+        else if (skel.startsWith("3.1."))
             spineVersion = 31;
-        else if (skel.contains("2.1."))
+        else if (skel.startsWith("2.1."))
             spineVersion = 21;
     }
 
+    // Up to 3.8 the header is the hash and the version as strings, 4.0 writes the hash as a long before the version
+    private static String binaryVersion(byte[] header) {
+        for (int hash : new int[]{-1, 8}) {
+            try {
+                BinaryInput input = new BinaryInput(header);
+                if (hash < 0)
+                    input.readString();
+                else input.skip(hash);
+                String version = input.readString();
+                if (version != null && VERSION.matcher(version).matches())
+                    return version;
+            } catch (IOException | RuntimeException ignored) {
+            }
+        }
+        return null;
+    }
+
+    // The editor writes the skeleton section first, a bone or animation named spine is a value or has an object, not a version string.
+    // Scanning stops at the first version, a file whose skeleton section is not first is read on in chunks but never held or decoded whole
+    private static String jsonVersion(InputStream in) throws IOException {
+        byte[] window = new byte[OVERLAP + CHUNK];
+        int kept = 0;
+        for (int read; (read = in.readNBytes(window, kept, kept == 0 ? PROBE : CHUNK)) > 0; ) {
+            int length = kept + read;
+            Matcher matcher = SPINE.matcher(new String(window, 0, length, StandardCharsets.ISO_8859_1));
+            while (matcher.find()) {
+                if (VERSION.matcher(matcher.group(1)).matches())
+                    return matcher.group(1);
+            }
+            kept = Math.min(OVERLAP, length);
+            System.arraycopy(window, length - kept, window, 0, kept);
+        }
+        return null;
+    }
+
     private void skelVersion(File skelFile) {
-        try {
+        try (InputStream in = new FileInputStream(skelFile)) {
             if (spine.isIsBinary()) {
-                whichVersion(new BufferedReader(new FileReader(skelFile)).readLine());
+                whichVersion(binaryVersion(in.readNBytes(PROBE)));
                 if (spineVersion < 20) {
                     System.out.println("Spine二进制版本判断失败");
                 }
                 System.out.println("Spine二进制版本：" + spineVersion);
             } else {
-                whichVersion(Files.readString(skelFile.toPath()));
+                whichVersion(jsonVersion(in));
                 if (spineVersion < 20) {
                     System.out.println("SpineJson版本判断失败");
                 }
@@ -65,6 +115,7 @@ public class RuntimesLoader extends Controller {
             e.printStackTrace();
         }
 
+        SpineVersion.set(spineVersion);
         if (spineVersion > 38)
             Universal.Range = 2;
         else if (spineVersion < 34)
@@ -82,7 +133,7 @@ public class RuntimesLoader extends Controller {
         return null;
     }
 
-    private FileHandle atlasFile(FileHandle skelFile) {
+    FileHandle atlasFile(FileHandle skelFile) {
         String baseName = skelFile.name();
         for (String extraSuffix : extraSuffixes) {
             for (String dataSuffix : dataSuffixes) {
@@ -96,10 +147,17 @@ public class RuntimesLoader extends Controller {
         return atlasFile(skelFile, baseName);
     }
 
-    public void init() {
-        FileHandle handle = new FileHandle(new File(openPath));
+    public void load(FileHandle handle) {
         spine.setAtlasFile(atlasFile(handle));
         spine.setSkelFile(handle);
+        spine.setIsBinary(!handle.extension().equalsIgnoreCase("json") && !handle.extension().equalsIgnoreCase("txt"));
+        skelVersion(handle.file());
+    }
+
+    public void init() {
+        FileHandle handle = new FileHandle(new File(openPath));
+        byte tmp = Universal.Range;
+        load(handle);
 
         Platform.runLater(() -> {
             config.samples = 16;
@@ -108,9 +166,6 @@ public class RuntimesLoader extends Controller {
             Skel.setText("Skel : " + handle.name());
         });
 
-        spine.setIsBinary(!handle.extension().equalsIgnoreCase("json") && !handle.extension().equalsIgnoreCase("txt"));
-        byte tmp = Universal.Range;
-        skelVersion(new File(openPath));
         universal.reload();
         if (isLoad) {
             if (tmp != Universal.Range) {
@@ -1,5 +1,6 @@
 package com.badlogic.gdx.backends.lwjgl;
 
+import com.QYun.Spine.FrameStats;
 import com.QYun.SuperSpineViewer.GUI.Controller;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
@@ -10,7 +11,6 @@ import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.opengl.Display;
-import org.lwjgl.util.stream.StreamUtil;
 
 public class LwjglFXApplication extends LwjglApplication {
     final LwjglFXInput input;
@@ -51,7 +51,6 @@ public class LwjglFXApplication extends LwjglApplication {
         try {
             graphics.setupDisplay();
             toFX = ((LwjglFXGraphics) graphics).toFX;
-            toFX.setRenderStreamFactory(StreamUtil.getRenderStreamImplementations().get(1));
         } catch (LWJGLException e) {
             throw new GdxRuntimeException(e);
         }
@@ -93,9 +92,12 @@ public class LwjglFXApplication extends LwjglApplication {
             if (audio != null) audio.update();
 
             if (!isActive && graphics.config.backgroundFPS == -1) shouldRender = false;
+            // Calibration needs a steady run of frames
+            if (toFX.isCalibrating()) shouldRender = true;
             int frameRate = isActive ? graphics.config.foregroundFPS : graphics.config.backgroundFPS;
             if (shouldRender) {
                 graphics.updateTime();
+                FrameStats.begin();
                 toFX.begin();
                 listener.render();
                 toFX.end();
@@ -0,0 +1,63 @@
+package com.badlogic.gdx.backends.lwjgl;
+
+import com.QYun.Spine.FrameStats;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import org.lwjgl.LWJGLException;
+
+import java.nio.ByteBuffer;
+
+public class LwjglHeadlessApplication extends LwjglApplication {
+    public LwjglHeadlessApplication(ApplicationListener listener, LwjglApplicationConfiguration config) {
+        this(listener, config, false);
+    }
+
+    public LwjglHeadlessApplication(ApplicationListener listener, LwjglApplicationConfiguration config, boolean software) {
+        super(listener, config, new LwjglHeadlessGraphics(config, software));
+    }
+
+    public ByteBuffer readPixels() {
+        return ((LwjglHeadlessGraphics) graphics).readPixels();
+    }
+
+    public void join() throws InterruptedException {
+        mainLoopThread.join();
+    }
+
+    @Override
+    protected void mainLoop() {
+        Array<LifecycleListener> lifecycleListeners = this.lifecycleListeners;
+        LwjglHeadlessGraphics graphics = (LwjglHeadlessGraphics) this.graphics;
+        try {
+            graphics.setupDisplay();
+        } catch (LWJGLException e) {
+            throw new GdxRuntimeException(e);
+        }
+
+        listener.create();
+        listener.resize(graphics.getWidth(), graphics.getHeight());
+
+        while (running) {
+            executeRunnables();
+
+            // If one of the runnables set running to false, for example after an exit().
+            if (!running) break;
+            graphics.updateTime();
+            graphics.frameId++;
+            FrameStats.begin();
+            listener.render();
+        }
+
+        synchronized (lifecycleListeners) {
+            for (LifecycleListener listener : lifecycleListeners) {
+                listener.pause();
+                listener.dispose();
+            }
+        }
+        listener.pause();
+        listener.dispose();
+        graphics.dispose();
+    }
+}
@@ -0,0 +1,89 @@
+package com.badlogic.gdx.backends.lwjgl;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.GL12;
+import org.lwjgl.opengl.Pbuffer;
+import org.lwjgl.opengl.PixelFormat;
+
+import java.nio.ByteBuffer;
+
+public class LwjglHeadlessGraphics extends LwjglGraphics {
+    private Pbuffer pbuffer;
+    private ByteBuffer pixels;
+    private final boolean software;
+
+    LwjglHeadlessGraphics(LwjglApplicationConfiguration config, boolean software) {
+        super(config);
+        this.software = software;
+    }
+
+    @Override
+    void setupDisplay() throws LWJGLException {
+        bufferFormat = new BufferFormat(config.r, config.g, config.b, config.a, config.depth, config.stencil, config.samples, false);
+        // No context at all, textures and batches are created against a GL that does nothing
+        if (software) {
+            gl20 = SoftwareGL.gl();
+            Gdx.gl = Gdx.gl20 = gl20;
+            return;
+        }
+        if ((Pbuffer.getCapabilities() & Pbuffer.PBUFFER_SUPPORTED) == 0)
+            throw new UnsupportedOperationException("Support for pbuffers is required, use -software to render without GL.");
+
+        PixelFormat format = new PixelFormat(config.r + config.g + config.b, config.a, config.depth, config.stencil, config.samples);
+        pbuffer = new Pbuffer(config.width, config.height, format, null, null);
+        pbuffer.makeCurrent();
+        initiateGL();
+        pixels = BufferUtils.createByteBuffer(config.width * config.height * 4);
+    }
+
+    ByteBuffer readPixels() {
+        pixels.clear();
+        gl20.glPixelStorei(GL20.GL_PACK_ALIGNMENT, 1);
+        gl20.glReadPixels(0, 0, config.width, config.height, GL12.GL_BGRA, GL20.GL_UNSIGNED_BYTE, pixels);
+        return pixels;
+    }
+
+    void dispose() {
+        if (pbuffer != null)
+            pbuffer.destroy();
+    }
+
+    @Override
+    public int getWidth() {
+        return config.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return config.height;
+    }
+
+    @Override
+    public int getBackBufferWidth() {
+        return config.width;
+    }
+
+    @Override
+    public int getBackBufferHeight() {
+        return config.height;
+    }
+
+    // Display loads the windowing natives, which a machine without X may not have
+    @Override
+    public void setVSync(boolean vsync) {
+        if (!software)
+            super.setVSync(vsync);
+    }
+
+    @Override
+    public boolean supportsExtension(String extension) {
+        return !software && super.supportsExtension(extension);
+    }
+
+    @Override
+    public void setTitle(String title) {
+    }
+}
@@ -1,9 +1,12 @@
 package com.badlogic.gdx.backends.lwjgl;
 
+import com.QYun.Spine.FrameScheduler;
+import com.QYun.Spine.FrameStats;
+import com.QYun.Spine.FrameStats.Stage;
+import com.QYun.SuperSpineViewer.FrameSink;
 import com.QYun.SuperSpineViewer.GUI.Controller;
 import javafx.application.Platform;
 import javafx.scene.image.ImageView;
-import javafx.scene.image.WritableImage;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.opengl.*;
 import org.lwjgl.util.stream.RenderStream;
@@ -12,6 +15,7 @@ import org.lwjgl.util.stream.StreamUtil;
 import org.lwjgl.util.stream.StreamUtil.RenderStreamFactory;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
@@ -21,20 +25,30 @@ import static org.lwjgl.opengl.GL11.glGetInteger;
 import static org.lwjgl.opengl.GL30.GL_MAX_SAMPLES;
 
 public class LwjglToJavaFX {
+    public static volatile FrameSink sink;
     static Drawable drawable;
+    private static volatile boolean recalibrate = false;
     private final ConcurrentLinkedQueue<Runnable> pendingRunnables;
     private final Pbuffer pbuffer;
     private final int maxSamples;
     private final AtomicLong snapshotRequest;
-    private final ImageView targetView;
+    private final PixelBufferPresenter presenter;
+    private final List<RenderStreamFactory> factories;
+    private StreamCalibration calibration;
     private RenderStreamFactory renderStreamFactory;
     private RenderStream renderStream;
-    private WritableImage renderImage;
     private int transfersToBuffer = 3;
     private int samples = 1;
+    private int renderedFrame = -1;
+    private int presentingFrame = -1;
+    private long frameStart;
+    private long captureNanos;
+    private long readbackNanos;
+    private int readbackFrames;
+    private long lastReport;
 
     LwjglToJavaFX(final ImageView target) {
-        targetView = target;
+        presenter = new PixelBufferPresenter(target);
         this.pendingRunnables = new ConcurrentLinkedQueue<>();
 
         if ((Pbuffer.getCapabilities() & Pbuffer.PBUFFER_SUPPORTED) == 0)
@@ -61,12 +75,31 @@ public class LwjglToJavaFX {
         // else if (caps.GL_AMD_debug_output)
         //     glDebugMessageCallbackAMD(new AMDDebugOutputCallback());
 
-        this.renderStreamFactory = StreamUtil.getRenderStreamImplementation();
+        // The fastest readback depends on the driver, an uncalibrated one is timed on the first frames
+        factories = StreamUtil.getRenderStreamImplementations();
+        int[] saved = StreamCalibration.load(factories);
+        if (saved != null) {
+            this.renderStreamFactory = factories.get(saved[0]);
+            this.transfersToBuffer = saved[1];
+        } else {
+            calibration = new StreamCalibration(factories);
+            this.renderStreamFactory = calibration.getFactory();
+            this.transfersToBuffer = calibration.getBuffers();
+        }
         this.renderStream = renderStreamFactory.create(getReadHandler(), 1, transfersToBuffer);
 
         this.snapshotRequest = new AtomicLong();
     }
 
+    // Forgets the saved choice and times the streams again from the next frame
+    public static void calibrate() {
+        recalibrate = true;
+    }
+
+    boolean isCalibrating() {
+        return calibration != null;
+    }
+
     public int getMaxSamples() {
         return maxSamples;
     }
@@ -129,13 +162,64 @@ public class LwjglToJavaFX {
             runnable.run();
     }
 
+    private void switchStream(RenderStreamFactory factory, int transfersToBuffer) {
+        renderStream.destroy();
+        this.renderStreamFactory = factory;
+        this.transfersToBuffer = transfersToBuffer;
+        renderStream = factory.create(renderStream.getHandler(), samples, transfersToBuffer);
+        readbackNanos = readbackFrames = 0;
+    }
+
     void begin() {
         drainPendingActionsQueue();
+        if (recalibrate) {
+            recalibrate = false;
+            StreamCalibration.clear();
+            calibration = new StreamCalibration(factories);
+            switchStream(calibration.getFactory(), calibration.getBuffers());
+        }
+        frameStart = System.nanoTime();
         renderStream.bind();
     }
 
     void end() {
+        // The stream hands the previous swap's frame to the read handler, a single buffer reads back the current one
+        int frame = FrameScheduler.getFrame();
+        presentingFrame = transfersToBuffer > 1 ? renderedFrame : frame;
+        renderedFrame = frame;
+        long swapStart = System.nanoTime();
+        captureNanos = 0;
         renderStream.swapBuffers();
+        long now = System.nanoTime();
+        // The recorder runs inside the swap, its share is counted as queue time instead
+        long readback = now - swapStart - captureNanos;
+        readbackNanos += readback;
+        FrameStats.add(Stage.READBACK, readback);
+        readbackFrames++;
+
+        if (calibration != null && Controller.width > 0 && Controller.height > 0 && calibration.frame(now - frameStart)) {
+            if (calibration.isDone()) {
+                int[] choice = calibration.finish();
+                calibration = null;
+                switchStream(factories.get(choice[0]), choice[1]);
+                System.out.println("读回方式：" + renderStreamFactory + " ×" + transfersToBuffer);
+            } else switchStream(calibration.getFactory(), calibration.getBuffers());
+        }
+        if (now - lastReport > 1000000000L)
+            report(now);
+    }
+
+    private void report(long now) {
+        lastReport = now;
+        String text;
+        if (calibration != null)
+            text = "Stream : Calibrating " + (calibration.getCandidate() + 1) + "/" + calibration.getCandidates();
+        else if (readbackFrames > 0)
+            text = String.format("Stream : %s ×%d  %.2fms", renderStreamFactory, transfersToBuffer, readbackNanos / 1e6 / readbackFrames);
+        else return;
+        readbackNanos = readbackFrames = 0;
+        if (Controller.Stream != null)
+            Platform.runLater(() -> Controller.Stream.setText(text));
     }
 
     private StreamHandler getReadHandler() {
@@ -151,24 +235,17 @@ public class LwjglToJavaFX {
 
             public void process(final int width, final int height, final ByteBuffer data, final int stride, final Semaphore signal) {
                 // This method runs in the background rendering thread
-                Platform.runLater(() -> {
-                    try {
-                        // If we're quitting, discard update
-                        if (!targetView.isVisible())
-                            return;
-                        // Detect resize and recreate the image
-                        if (renderImage == null || (int) renderImage.getWidth() != width || (int) renderImage.getHeight() != height) {
-                            renderImage = new WritableImage(width, height);
-                            targetView.setImage(renderImage);
-                        }
-
-                        // Upload the image to JavaFX
-                        renderImage.getPixelWriter().setPixels(0, 0, width, height, javafx.scene.image.PixelFormat.getByteBgraPreInstance(), data, stride);
-                    } finally {
-                        // Notify the render thread that we're done processing
-                        signal.release();
-                    }
-                });
+                final int frame = presentingFrame;
+                final FrameSink sink = LwjglToJavaFX.sink;
+                if (sink != null) {
+                    long start = System.nanoTime();
+                    sink.accept(frame, data, width, height, stride);
+                    captureNanos = FrameStats.mark(Stage.QUEUE, start) - start;
+                }
+
+                // One copy out of the mapped buffer, then the stream can reuse it without waiting for FX
+                presenter.submit(frame, data, width, height, stride);
+                signal.release();
             }
         };
     }
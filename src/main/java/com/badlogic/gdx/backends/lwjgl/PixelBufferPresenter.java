@@ -0,0 +1,160 @@
+package com.badlogic.gdx.backends.lwjgl;
+
+import com.QYun.Spine.FrameScheduler;
+import com.QYun.Spine.FrameStats;
+import com.QYun.Spine.FrameStats.Stage;
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.util.Callback;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Triple buffered handoff from the RenderStream to a PixelBuffer backed image, the render thread never waits for FX
+class PixelBufferPresenter {
+    private static final int BUFFERS = 3;
+    private final ImageView target;
+    private final ConcurrentLinkedQueue<Frame> free = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Frame> latest = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable present = this::present;
+    private final Callback<PixelBuffer<ByteBuffer>, Rectangle2D> update = this::update;
+    // FX thread only
+    private PixelBuffer<ByteBuffer> pixelBuffer;
+    private int frontTop, frontBottom;
+    private int dirtyTop, dirtyBottom;
+    private Frame presenting;
+
+    PixelBufferPresenter(ImageView target) {
+        this.target = target;
+        for (int i = 0; i < BUFFERS; i++)
+            free.offer(new Frame());
+    }
+
+    // Render thread, the mapped data is only valid until this returns
+    void submit(int frame, ByteBuffer data, int width, int height, int stride) {
+        if (width <= 0 || height <= 0)
+            return;
+        // A frame FX has not picked up yet is replaced rather than queued
+        Frame back = latest.getAndSet(null);
+        if (back == null)
+            back = free.poll();
+        if (back == null)
+            back = new Frame();
+        back.copy(frame, data, width, height, stride);
+        latest.set(back);
+        if (scheduled.compareAndSet(false, true))
+            Platform.runLater(present);
+    }
+
+    private void present() {
+        scheduled.set(false);
+        Frame back = latest.getAndSet(null);
+        if (back == null)
+            return;
+        try {
+            // If we're quitting, discard update
+            if (!target.isVisible())
+                return;
+            // The image wraps the buffer, so only a resize needs a new one
+            if (pixelBuffer == null || pixelBuffer.getWidth() != back.width || pixelBuffer.getHeight() != back.height) {
+                pixelBuffer = new PixelBuffer<>(back.width, back.height, ByteBuffer.allocateDirect(back.width * back.height * 4),
+                        PixelFormat.getByteBgraPreInstance());
+                target.setImage(new WritableImage(pixelBuffer));
+                frontTop = back.height;
+                frontBottom = 0;
+            }
+
+            // Rows that held content before or hold it now, everything else is transparent in both
+            dirtyTop = Math.min(frontTop, back.top);
+            dirtyBottom = Math.max(frontBottom, back.bottom);
+            frontTop = back.top;
+            frontBottom = back.bottom;
+            if (dirtyTop < dirtyBottom) {
+                long start = System.nanoTime();
+                presenting = back;
+                pixelBuffer.updateBuffer(update);
+                FrameStats.mark(Stage.UPLOAD, start);
+            }
+            FrameScheduler.presented(back.frame);
+        } finally {
+            presenting = null;
+            free.offer(back);
+        }
+    }
+
+    private Rectangle2D update(PixelBuffer<ByteBuffer> buffer) {
+        Frame back = presenting;
+        int row = back.width * 4;
+        ByteBuffer front = buffer.getBuffer().duplicate();
+        ByteBuffer from = back.pixels.duplicate();
+        int top = Math.max(dirtyTop, back.top), bottom = Math.min(dirtyBottom, back.bottom);
+        if (top < bottom) {
+            from.limit(bottom * row).position(top * row);
+            front.limit(bottom * row).position(top * row);
+            front.put(from);
+        } else top = bottom = dirtyTop;
+        clear(front, dirtyTop * row, top * row);
+        clear(front, bottom * row, dirtyBottom * row);
+        return new Rectangle2D(0, dirtyTop, back.width, dirtyBottom - dirtyTop);
+    }
+
+    private static void clear(ByteBuffer buffer, int from, int to) {
+        buffer.limit(to).position(from);
+        while (buffer.remaining() >= 8)
+            buffer.putLong(0);
+        while (buffer.hasRemaining())
+            buffer.put((byte) 0);
+    }
+
+    private static class Frame {
+        private ByteBuffer pixels;
+        private int frame, width, height;
+        // Rows outside top and bottom are transparent and were not copied
+        private int top, bottom;
+
+        private void copy(int frame, ByteBuffer data, int width, int height, int stride) {
+            this.frame = frame;
+            this.width = width;
+            this.height = height;
+            int row = width * 4;
+            if (pixels == null || pixels.capacity() < row * height)
+                pixels = ByteBuffer.allocateDirect(row * height);
+
+            top = 0;
+            while (top < height && blank(data, top * stride, row))
+                top++;
+            bottom = height;
+            while (bottom > top && blank(data, (bottom - 1) * stride, row))
+                bottom--;
+
+            ByteBuffer from = data.duplicate(), to = pixels.duplicate();
+            if (stride == row) {
+                from.limit(bottom * row).position(top * row);
+                to.position(top * row);
+                to.put(from);
+            } else for (int y = top; y < bottom; y++) {
+                from.limit(y * stride + row).position(y * stride);
+                to.position(y * row);
+                to.put(from);
+            }
+        }
+
+        private static boolean blank(ByteBuffer data, int offset, int length) {
+            int i = 0;
+            for (; i + 8 <= length; i += 8)
+                if (data.getLong(offset + i) != 0)
+                    return false;
+            for (; i < length; i++)
+                if (data.get(offset + i) != 0)
+                    return false;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.badlogic.gdx.backends.lwjgl;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+// GL that does nothing, textures and batches can be created while a software backend does the drawing
+public class SoftwareGL {
+    // Zero, false or null for everything unless the override answers first
+    public static <T> T stub(Class<T> type, InvocationHandler override) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "Software" + type.getSimpleName();
+            }
+            Object value = override.invoke(proxy, method, args);
+            if (value != null)
+                return value;
+            Class<?> returns = method.getReturnType();
+            if (returns == int.class)
+                return 0;
+            if (returns == long.class)
+                return 0L;
+            if (returns == float.class)
+                return 0f;
+            if (returns == boolean.class)
+                return false;
+            if (returns == String.class)
+                return "";
+            return null;
+        }));
+    }
+
+    public static GL20 gl() {
+        return stub(GL20.class, (proxy, method, args) -> {
+            String name = method.getName();
+            // Handles must be non-zero and shaders must report they compiled and linked
+            if ((name.startsWith("glCreate") || name.startsWith("glGen")) && method.getReturnType() == int.class)
+                return 1;
+            if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+                int pname = (int) args[1];
+                ((IntBuffer) args[2]).put(0, pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.badlogic.gdx.backends.lwjgl;
+
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.util.stream.StreamUtil.RenderStreamFactory;
+
+import java.util.List;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+// Times every supported RenderStream and buffer count on the loaded skeleton, the fastest is kept per GL driver
+class StreamCalibration {
+    private static final Preferences prefs = Preferences.userNodeForPackage(StreamCalibration.class).node("stream");
+    private static final int MAX_BUFFERS = 4;
+    private static final int WARMUP = 5;
+    private static final int FRAMES = 20;
+
+    private final List<RenderStreamFactory> factories;
+    private final long[] nanos;
+    private int candidate = 0;
+    private int frame = 0;
+
+    StreamCalibration(List<RenderStreamFactory> factories) {
+        this.factories = factories;
+        nanos = new long[factories.size() * MAX_BUFFERS];
+    }
+
+    // Vendor, renderer and version together identify the machine's driver
+    private static String key() {
+        return Integer.toHexString((GL11.glGetString(GL11.GL_VENDOR) + GL11.glGetString(GL11.GL_RENDERER)
+                + GL11.glGetString(GL11.GL_VERSION)).hashCode());
+    }
+
+    // Saved factory index and buffer count as {factory, buffers}, or null if this driver was never calibrated
+    static int[] load(List<RenderStreamFactory> factories) {
+        String saved = prefs.get(key(), null);
+        if (saved == null)
+            return null;
+        String[] choice = saved.split(",");
+        for (int i = 0; i < factories.size(); i++)
+            if (factories.get(i).getDescription().equals(choice[0]))
+                return new int[]{i, Integer.parseInt(choice[1])};
+        return null;
+    }
+
+    static void clear() {
+        prefs.remove(key());
+    }
+
+    RenderStreamFactory getFactory() {
+        return factories.get(candidate / MAX_BUFFERS);
+    }
+
+    int getBuffers() {
+        return candidate % MAX_BUFFERS + 1;
+    }
+
+    int getCandidate() {
+        return candidate;
+    }
+
+    int getCandidates() {
+        return nanos.length;
+    }
+
+    // True when the current candidate has enough frames and the stream should move to the next one
+    boolean frame(long nanos) {
+        if (frame++ >= WARMUP)
+            this.nanos[candidate] += nanos;
+        if (frame < WARMUP + FRAMES)
+            return false;
+        frame = 0;
+        candidate++;
+        return true;
+    }
+
+    boolean isDone() {
+        return candidate >= nanos.length;
+    }
+
+    // Picks and saves the fastest candidate, returns {factory, buffers}
+    int[] finish() {
+        int best = 0;
+        for (int i = 0; i < nanos.length; i++) {
+            System.out.printf("读回校准：%s ×%d\t%.2fms%n", factories.get(i / MAX_BUFFERS), i % MAX_BUFFERS + 1, nanos[i] / 1e6 / FRAMES);
+            if (nanos[i] < nanos[best])
+                best = i;
+        }
+        int[] choice = {best / MAX_BUFFERS, best % MAX_BUFFERS + 1};
+        prefs.put(key(), factories.get(choice[0]).getDescription() + "," + choice[1]);
+        try {
+            prefs.flush();
+        } catch (BackingStoreException e) {
+            System.out.println("读回校准结果保存失败");
+            e.printStackTrace();
+        }
+        return choice;
+    }
+}
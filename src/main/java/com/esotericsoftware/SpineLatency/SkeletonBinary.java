@@ -1,5 +1,6 @@
 package com.esotericsoftware.SpineLatency;
 
+import com.QYun.Spine.BinaryInput;
 import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
@@ -12,7 +13,7 @@ import com.esotericsoftware.SpineLatency.attachments.*;
 import java.io.IOException;
 
 public class SkeletonBinary {
-    static private final Color tempColor = new Color();
+    private final Color tempColor = new Color();
     private final AttachmentLoader attachmentLoader;
     private final Array<LinkedMesh> linkedMeshes = new Array<>();
     private float scale = 1;
@@ -34,41 +35,7 @@ public class SkeletonBinary {
         float scale = this.scale;
         SkeletonData skeletonData = new SkeletonData();
         skeletonData.name = file.nameWithoutExtension();
-        try (DataInput input = new DataInput(file.read(512)) {
-            private char[] chars = new char[32];
-
-            public String readString() throws IOException {
-                int byteCount = readInt(true);
-                switch (byteCount) {
-                    case 0:
-                        return null;
-                    case 1:
-                        return "";
-                }
-                byteCount--;
-                if (chars.length < byteCount) chars = new char[byteCount];
-                char[] chars = this.chars;
-                int charCount = 0;
-                for (int i = 0; i < byteCount; ) {
-                    int b = read();
-                    switch (b >> 4) {
-                        case 12, 13 -> {
-                            chars[charCount++] = (char) ((b & 0x1F) << 6 | read() & 0x3F);
-                            i += 2;
-                        }
-                        case 14 -> {
-                            chars[charCount++] = (char) ((b & 0x0F) << 12 | (read() & 0x3F) << 6 | read() & 0x3F);
-                            i += 3;
-                        }
-                        default -> {
-                            chars[charCount++] = (char) b;
-                            i++;
-                        }
-                    }
-                }
-                return new String(chars, 0, charCount);
-            }
-        }) {
+        try (BinaryInput input = new BinaryInput(file)) {
             skeletonData.hash = input.readString();
             if (skeletonData.hash.isEmpty()) skeletonData.hash = null;
             skeletonData.version = input.readString();
@@ -190,7 +157,7 @@ public class SkeletonBinary {
         return skeletonData;
     }
 
-    private Skin readSkin(DataInput input, String skinName, boolean nonessential) throws IOException {
+    private Skin readSkin(BinaryInput input, String skinName, boolean nonessential) throws IOException {
         int slotCount = input.readInt(true);
         if (slotCount == 0) return null;
         Skin skin = new Skin(skinName);
@@ -204,7 +171,7 @@ public class SkeletonBinary {
         return skin;
     }
 
-    private Attachment readAttachment(DataInput input, Skin skin, int slotIndex, String attachmentName, boolean nonessential)
+    private Attachment readAttachment(BinaryInput input, Skin skin, int slotIndex, String attachmentName, boolean nonessential)
             throws IOException {
         float scale = this.scale;
         String name = input.readString();
@@ -376,27 +343,20 @@ public class SkeletonBinary {
         return null;
     }
 
-    private float[] readFloatArray(DataInput input, int n, float scale) throws IOException {
+    private float[] readFloatArray(BinaryInput input, int n, float scale) throws IOException {
         float[] array = new float[n];
-        if (scale == 1) {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat();
-        } else {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat() * scale;
-        }
+        input.readFloats(array, 0, n, scale);
         return array;
     }
 
-    private short[] readShortArray(DataInput input) throws IOException {
+    private short[] readShortArray(BinaryInput input) throws IOException {
         int n = input.readInt(true);
         short[] array = new short[n];
-        for (int i = 0; i < n; i++)
-            array[i] = input.readShort();
+        input.readShorts(array, 0, n);
         return array;
     }
 
-    private void readAnimation(String name, DataInput input, SkeletonData skeletonData) {
+    private void readAnimation(String name, BinaryInput input, SkeletonData skeletonData) {
         Array<Timeline> timelines = new Array<>();
         float scale = this.scale;
         float duration = 0;
@@ -581,14 +541,7 @@ public class SkeletonBinary {
                             } else {
                                 vertices = new float[vertexCount];
                                 int start = input.readInt(true);
-                                end += start;
-                                if (scale == 1) {
-                                    for (int v = start; v < end; v++)
-                                        vertices[v] = input.readFloat();
-                                } else {
-                                    for (int v = start; v < end; v++)
-                                        vertices[v] = input.readFloat() * scale;
-                                }
+                                input.readFloats(vertices, start, end, scale);
                                 if (attachment instanceof MeshAttachment) {
                                     float[] meshVertices = ((MeshAttachment) attachment).getVertices();
                                     for (int v = 0, vn = vertices.length; v < vn; v++)
@@ -652,7 +605,7 @@ public class SkeletonBinary {
         skeletonData.animations.add(new Animation(name, timelines, duration));
     }
 
-    private void readCurve(DataInput input, int frameIndex, CurveTimeline timeline) throws IOException {
+    private void readCurve(BinaryInput input, int frameIndex, CurveTimeline timeline) throws IOException {
         switch (input.readByte()) {
             case 1 -> timeline.setStepped(frameIndex);
             case 2 -> setCurve(timeline, frameIndex, input.readFloat(), input.readFloat(), input.readFloat(), input.readFloat());
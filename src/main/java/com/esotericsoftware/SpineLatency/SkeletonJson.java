@@ -1,5 +1,6 @@
 package com.esotericsoftware.SpineLatency;
 
+import com.QYun.Spine.JsonCache;
 import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
@@ -34,7 +35,7 @@ public class SkeletonJson {
         float scale = this.scale;
         SkeletonData skeletonData = new SkeletonData();
         skeletonData.name = file.nameWithoutExtension();
-        JsonValue root = new JsonReader().parse(file);
+        JsonValue root = JsonCache.parse(file);
         JsonValue skeletonMap = root.get("skeleton");
         if (skeletonMap != null) {
             skeletonData.hash = skeletonMap.getString("hash", null);
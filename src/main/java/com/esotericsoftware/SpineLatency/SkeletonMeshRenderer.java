@@ -1,15 +1,15 @@
 package com.esotericsoftware.SpineLatency;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.PolygonBatch;
 import com.badlogic.gdx.utils.Array;
 import com.esotericsoftware.SpineLatency.attachments.*;
 
-public class SkeletonMeshRenderer extends SkeletonRenderer<PolygonSpriteBatch> {
+public class SkeletonMeshRenderer extends SkeletonRenderer<PolygonBatch> {
     static private final short[] quadTriangles = {0, 1, 2, 2, 3, 0};
 
     @SuppressWarnings("null")
-    public void draw(PolygonSpriteBatch batch, Skeleton skeleton) {
+    public void draw(PolygonBatch batch, Skeleton skeleton) {
         boolean premultipliedAlpha = this.premultipliedAlpha;
         BlendMode blendMode = null;
         float[] vertices = null;
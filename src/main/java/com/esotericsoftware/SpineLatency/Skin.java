@@ -6,7 +6,8 @@ import com.badlogic.gdx.utils.Pool;
 import com.esotericsoftware.SpineLatency.attachments.Attachment;
 
 public class Skin {
-    static private final Key lookup = new Key();
+    // Skeletons updated on different threads share their skins, so every thread looks up with its own key
+    static private final ThreadLocal<Key> lookup = ThreadLocal.withInitial(Key::new);
     final String name;
     final ObjectMap<Key, Attachment> attachments = new ObjectMap<>();
     final Pool<Key> keyPool = new Pool<>(64) {
@@ -30,6 +31,7 @@ public class Skin {
 
     public Attachment getAttachment(int slotIndex, String name) {
         if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
+        Key lookup = Skin.lookup.get();
         lookup.set(slotIndex, name);
         return attachments.get(lookup);
     }
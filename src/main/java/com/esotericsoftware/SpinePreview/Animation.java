@@ -1,5 +1,6 @@
 package com.esotericsoftware.SpinePreview;
 
+import com.QYun.Spine.LazyAnimations;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
@@ -8,17 +9,24 @@ import com.badlogic.gdx.utils.ObjectSet;
 import com.esotericsoftware.SpinePreview.attachments.Attachment;
 import com.esotericsoftware.SpinePreview.attachments.VertexAttachment;
 
+import java.util.function.Supplier;
+
 import static com.esotericsoftware.SpinePreview.Animation.MixBlend.*;
 import static com.esotericsoftware.SpinePreview.Animation.MixDirection.in;
 import static com.esotericsoftware.SpinePreview.Animation.MixDirection.out;
 import static com.esotericsoftware.SpinePreview.utils.SpineUtils.arraycopy;
 
 
-public class Animation {
+public class Animation implements LazyAnimations.Lazy {
     final String name;
     final ObjectSet<String> timelineIds = new ObjectSet();
     Array<Timeline> timelines;
     float duration;
+    // Set for an animation of a lazily loaded skeleton, which has no timelines until it is first played
+    @Null
+    LazyAnimations lazy;
+    @Null
+    Supplier<Animation> decoder;
 
     public Animation(String name, Array<Timeline> timelines, float duration) {
         if (name == null) throw new IllegalArgumentException("name cannot be null.");
@@ -90,6 +98,21 @@ public class Animation {
     }
 
 
+    // AnimationState calls this before an entry reads the duration or the timelines
+    public void load() {
+        if (lazy != null) lazy.use(this);
+    }
+
+    public void decode() {
+        Animation decoded = decoder.get();
+        setTimelines(decoded.timelines);
+        duration = decoded.duration;
+    }
+
+    public void evict() {
+        setTimelines(new Array<>(0));
+    }
+
     public String getName() {
         return name;
     }
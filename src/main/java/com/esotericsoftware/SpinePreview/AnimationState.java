@@ -583,6 +583,7 @@ public class AnimationState {
     }
 
     private TrackEntry trackEntry(int trackIndex, Animation animation, boolean loop, @Null TrackEntry last) {
+        animation.load();
         TrackEntry entry = trackEntryPool.obtain();
         entry.trackIndex = trackIndex;
         entry.animation = animation;
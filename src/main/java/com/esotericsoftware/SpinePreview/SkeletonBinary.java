@@ -1,5 +1,7 @@
 package com.esotericsoftware.SpinePreview;
 
+import com.QYun.Spine.BinaryInput;
+import com.QYun.Spine.LazyAnimations;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
@@ -12,7 +14,6 @@ import com.esotericsoftware.SpinePreview.PathConstraintData.SpacingMode;
 import com.esotericsoftware.SpinePreview.SkeletonJson.LinkedMesh;
 import com.esotericsoftware.SpinePreview.attachments.*;
 
-import java.io.EOFException;
 import java.io.IOException;
 
 
@@ -43,6 +44,8 @@ public class SkeletonBinary extends SkeletonLoader {
     static public final int CURVE_STEPPED = 1;
     static public final int CURVE_BEZIER = 2;
 
+    private boolean lazyAnimations = true;
+
     public SkeletonBinary(AttachmentLoader attachmentLoader) {
         super(attachmentLoader);
     }
@@ -51,6 +54,11 @@ public class SkeletonBinary extends SkeletonLoader {
         super(atlas);
     }
 
+    // false decodes every animation while loading, each one straight after the previous as before they were decoded on first play
+    public void setLazyAnimations(boolean lazyAnimations) {
+        this.lazyAnimations = lazyAnimations;
+    }
+
     public SkeletonData readSkeletonData(FileHandle file) {
         if (file == null) throw new IllegalArgumentException("file cannot be null.");
 
@@ -241,9 +249,7 @@ public class SkeletonBinary extends SkeletonLoader {
             }
 
 
-            o = skeletonData.animations.setSize(n = input.readInt(true));
-            for (int i = 0; i < n; i++)
-                o[i] = readAnimation(input, input.readString(), skeletonData);
+            readAnimations(input, skeletonData);
 
         } catch (IOException ex) {
             throw new SerializationException("Error reading skeleton file.", ex);
@@ -478,24 +484,191 @@ public class SkeletonBinary extends SkeletonLoader {
 
     private float[] readFloatArray(SkeletonInput input, int n, float scale) throws IOException {
         float[] array = new float[n];
-        if (scale == 1) {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat();
-        } else {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat() * scale;
-        }
+        input.readFloats(array, 0, n, scale);
         return array;
     }
 
     private short[] readShortArray(SkeletonInput input) throws IOException {
         int n = input.readInt(true);
         short[] array = new short[n];
-        for (int i = 0; i < n; i++)
-            array[i] = input.readShort();
+        input.readShorts(array, 0, n);
         return array;
     }
 
+    // Only names and offsets are read here, each animation is decoded from a copy of the animation bytes the first time it is played
+    private void readAnimations(SkeletonInput input, SkeletonData skeletonData) throws IOException {
+        int n = input.readInt(true), start = input.position();
+        if (!lazyAnimations) {
+            Object[] o = skeletonData.animations.setSize(n);
+            for (int i = 0; i < n; i++)
+                o[i] = readAnimation(input, input.readString(), skeletonData);
+            return;
+        }
+        Animation[] animations = new Animation[n];
+        int[] offsets = new int[n];
+        for (int i = 0; i < n; i++) {
+            animations[i] = new Animation(input.readString(), new Array<>(0), 0);
+            offsets[i] = input.position() - start;
+            skipAnimation(input, skeletonData);
+        }
+
+        SkeletonInput source = new SkeletonInput(input.copy(start, input.position()), input.strings);
+        LazyAnimations lazy = new LazyAnimations();
+        Object[] o = skeletonData.animations.setSize(n);
+        for (int i = 0; i < n; i++) {
+            Animation animation = animations[i];
+            int offset = offsets[i];
+            animation.lazy = lazy;
+            animation.decoder = () -> {
+                source.position(offset);
+                try {
+                    return readAnimation(source, animation.name, skeletonData);
+                } catch (IOException ex) {
+                    throw new SerializationException("Error reading animation: " + animation.name, ex);
+                }
+            };
+            o[i] = animation;
+        }
+    }
+
+    // Consumes exactly what readAnimation reads, without building any timeline
+    private void skipAnimation(SkeletonInput input, SkeletonData skeletonData) throws IOException {
+        input.readInt(true);
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                int timelineType = input.readByte(), frameCount = input.readInt(true);
+                switch (timelineType) {
+                    case SLOT_ATTACHMENT -> {
+                        for (int frame = 0; frame < frameCount; frame++) {
+                            input.skip(4);
+                            input.readInt(true);
+                        }
+                    }
+                    case SLOT_RGBA, SLOT_RGB, SLOT_RGBA2, SLOT_RGB2, SLOT_ALPHA -> {
+                        input.readInt(true);
+                        switch (timelineType) {
+                            case SLOT_RGBA -> skipCurves(input, frameCount, 4, 4);
+                            case SLOT_RGB -> skipCurves(input, frameCount, 3, 3);
+                            case SLOT_RGBA2 -> skipCurves(input, frameCount, 7, 7);
+                            case SLOT_RGB2 -> skipCurves(input, frameCount, 6, 6);
+                            case SLOT_ALPHA -> skipCurves(input, frameCount, 1, 1);
+                        }
+                    }
+                }
+            }
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                int type = input.readByte(), frameCount = input.readInt(true);
+                input.readInt(true);
+                switch (type) {
+                    case BONE_TRANSLATE, BONE_SCALE, BONE_SHEAR -> skipCurves(input, frameCount, 8, 2);
+                    case BONE_ROTATE, BONE_TRANSLATEX, BONE_TRANSLATEY, BONE_SCALEX, BONE_SCALEY, BONE_SHEARX, BONE_SHEARY ->
+                            skipCurves(input, frameCount, 4, 1);
+                }
+            }
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            int frameCount = input.readInt(true);
+            input.readInt(true);
+            input.skip(12 + 3);
+            for (int frame = 1; frame < frameCount; frame++) {
+                input.skip(12);
+                if (input.readByte() == CURVE_BEZIER) input.skip(2 << 4);
+                input.skip(3);
+            }
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            int frameCount = input.readInt(true);
+            input.readInt(true);
+            skipCurves(input, frameCount, 24, 6);
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                switch (input.readByte()) {
+                    case PATH_POSITION, PATH_SPACING -> {
+                        int frameCount = input.readInt(true);
+                        input.readInt(true);
+                        skipCurves(input, frameCount, 4, 1);
+                    }
+                    case PATH_MIX -> {
+                        // readAnimation counts these frames by nn
+                        input.readInt(true);
+                        input.readInt(true);
+                        skipCurves(input, nn, 12, 3);
+                    }
+                }
+            }
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                input.readInt(true);
+                for (int iii = 0, nnn = input.readInt(true); iii < nnn; iii++) {
+                    input.readInt(true);
+                    int frameCount = input.readInt(true);
+                    input.readInt(true);
+                    input.skip(4);
+                    for (int frame = 0; ; frame++) {
+                        int end = input.readInt(true);
+                        if (end != 0) {
+                            input.readInt(true);
+                            input.skip(end << 2);
+                        }
+                        if (frame == frameCount - 1) break;
+                        input.skip(4);
+                        if (input.readByte() == CURVE_BEZIER) input.skip(1 << 4);
+                    }
+                }
+            }
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.skip(4);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                input.readInt(true);
+                input.readInt(true);
+            }
+        }
+
+
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.skip(4);
+            EventData eventData = skeletonData.events.get(input.readInt(true));
+            input.readInt(false);
+            input.skip(4);
+            if (input.readBoolean()) input.readString();
+            if (eventData.audioPath != null) input.skip(8);
+        }
+    }
+
+    // A time and valueBytes per frame, every frame but the last followed by a curve of beziers values
+    private void skipCurves(SkeletonInput input, int frameCount, int valueBytes, int beziers) throws IOException {
+        input.skip(4 + valueBytes);
+        for (int frame = 1; frame < frameCount; frame++) {
+            input.skip(4 + valueBytes);
+            if (input.readByte() == CURVE_BEZIER) input.skip(beziers << 4);
+        }
+    }
+
     private Animation readAnimation(SkeletonInput input, String name, SkeletonData skeletonData) throws IOException {
         Array<Timeline> timelines = new Array(input.readInt(true));
         float scale = this.scale;
@@ -795,14 +968,7 @@ public class SkeletonBinary extends SkeletonLoader {
                         else {
                             deform = new float[deformLength];
                             int start = input.readInt(true);
-                            end += start;
-                            if (scale == 1) {
-                                for (int v = start; v < end; v++)
-                                    deform[v] = input.readFloat();
-                            } else {
-                                for (int v = start; v < end; v++)
-                                    deform[v] = input.readFloat() * scale;
-                            }
+                            input.readFloats(deform, start, end, scale);
                             if (!weighted) {
                                 for (int v = 0, vn = deform.length; v < vn; v++)
                                     deform[v] += vertices[v];
@@ -928,12 +1094,16 @@ public class SkeletonBinary extends SkeletonLoader {
         float[] vertices;
     }
 
-    static class SkeletonInput extends DataInput {
+    static class SkeletonInput extends BinaryInput {
         String[] strings;
-        private char[] chars = new char[32];
 
         public SkeletonInput(FileHandle file) {
-            super(file.read(512));
+            super(file);
+        }
+
+        public SkeletonInput(byte[] bytes, String[] strings) {
+            super(bytes);
+            this.strings = strings;
         }
 
         public @Null
@@ -941,38 +1111,5 @@ public class SkeletonBinary extends SkeletonLoader {
             int index = readInt(true);
             return index == 0 ? null : strings[index - 1];
         }
-
-        public String readString() throws IOException {
-            int byteCount = readInt(true);
-            switch (byteCount) {
-                case 0:
-                    return null;
-                case 1:
-                    return "";
-            }
-            byteCount--;
-            if (chars.length < byteCount) chars = new char[byteCount];
-            char[] chars = this.chars;
-            int charCount = 0;
-            for (int i = 0; i < byteCount; ) {
-                int b = read();
-                switch (b >> 4) {
-                    case -1 -> throw new EOFException();
-                    case 12, 13 -> {
-                        chars[charCount++] = (char) ((b & 0x1F) << 6 | read() & 0x3F);
-                        i += 2;
-                    }
-                    case 14 -> {
-                        chars[charCount++] = (char) ((b & 0x0F) << 12 | (read() & 0x3F) << 6 | read() & 0x3F);
-                        i += 3;
-                    }
-                    default -> {
-                        chars[charCount++] = (char) b;
-                        i++;
-                    }
-                }
-            }
-            return new String(chars, 0, charCount);
-        }
     }
 }
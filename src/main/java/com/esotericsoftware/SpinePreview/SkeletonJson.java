@@ -1,5 +1,7 @@
 package com.esotericsoftware.SpinePreview;
 
+import com.QYun.Spine.LazyAnimations;
+import com.QYun.Spine.SkeletonJsonReader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
@@ -11,6 +13,8 @@ import com.esotericsoftware.SpinePreview.PathConstraintData.RotateMode;
 import com.esotericsoftware.SpinePreview.PathConstraintData.SpacingMode;
 import com.esotericsoftware.SpinePreview.attachments.*;
 
+import java.util.function.Supplier;
+
 import static com.esotericsoftware.SpinePreview.utils.SpineUtils.arraycopy;
 
 
@@ -31,13 +35,80 @@ public class SkeletonJson extends SkeletonLoader {
     public SkeletonData readSkeletonData(FileHandle file) {
         if (file == null) throw new IllegalArgumentException("file cannot be null.");
 
-        float scale = this.scale;
-
         SkeletonData skeletonData = new SkeletonData();
         skeletonData.name = file.nameWithoutExtension();
 
-        JsonValue root = parse(file);
+        try {
+            readSkeletonData(file, skeletonData);
+        } catch (RuntimeException ex) {
+            // Sections out of the editor's order or a broken file, the tree reads it as before and reports its own error
+            linkedMeshes.clear();
+            return readSkeletonData(file.nameWithoutExtension(), parse(file));
+        }
+
+        skeletonData.bones.shrink();
+        skeletonData.slots.shrink();
+        skeletonData.skins.shrink();
+        skeletonData.events.shrink();
+        skeletonData.animations.shrink();
+        skeletonData.ikConstraints.shrink();
+        return skeletonData;
+    }
+
+    // The whole document as one tree, how every file was read before skins and animations were streamed
+    public SkeletonData readSkeletonData(String name, JsonValue root) {
+        SkeletonData skeletonData = new SkeletonData();
+        skeletonData.name = name;
+        readSkeletonData(root, skeletonData);
+        skeletonData.bones.shrink();
+        skeletonData.slots.shrink();
+        skeletonData.skins.shrink();
+        skeletonData.events.shrink();
+        skeletonData.animations.shrink();
+        skeletonData.ikConstraints.shrink();
+        return skeletonData;
+    }
+
+    // Skins and animations are read as the parser reaches them, the document is never held as one tree
+    private void readSkeletonData(FileHandle file, SkeletonData skeletonData) {
+        LazyAnimations lazy = new LazyAnimations();
+        new SkeletonJsonReader() {
+            protected void readHeader(JsonValue root) {
+                SkeletonJson.this.readHeader(root, skeletonData);
+            }
+
+            protected void readSkin(JsonValue skinMap) {
+                SkeletonJson.this.readSkin(skinMap, skeletonData);
+            }
+
+            protected void readEvents(JsonValue root) {
+                SkeletonJson.this.readEvents(root, skeletonData);
+            }
+
+            protected void readAnimation(JsonValue animationMap) {
+                skeletonData.animations.add(SkeletonJson.this.readAnimation(animationMap, skeletonData));
+            }
+
+            protected void readAnimation(String name, Supplier<JsonValue> animationMap) {
+                Animation animation = new Animation(name, new Array<>(0), 0);
+                animation.lazy = lazy;
+                animation.decoder = () -> SkeletonJson.this.readAnimation(animationMap.get(), skeletonData);
+                skeletonData.animations.add(animation);
+            }
+        }.read(file);
+    }
+
+    private void readSkeletonData(JsonValue root, SkeletonData skeletonData) {
+        readHeader(root, skeletonData);
+        for (JsonValue skinMap = root.getChild("skins"); skinMap != null; skinMap = skinMap.next)
+            readSkin(skinMap, skeletonData);
+        readEvents(root, skeletonData);
+        for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next)
+            skeletonData.animations.add(readAnimation(animationMap, skeletonData));
+    }
 
+    private void readHeader(JsonValue root, SkeletonData skeletonData) {
+        float scale = this.scale;
 
         JsonValue skeletonMap = root.get("skeleton");
         if (skeletonMap != null) {
@@ -190,50 +261,50 @@ public class SkeletonJson extends SkeletonLoader {
 
             skeletonData.pathConstraints.add(data);
         }
+    }
 
-
-        for (JsonValue skinMap = root.getChild("skins"); skinMap != null; skinMap = skinMap.next) {
-            Skin skin = new Skin(skinMap.getString("name"));
-            for (JsonValue entry = skinMap.getChild("bones"); entry != null; entry = entry.next) {
-                BoneData bone = skeletonData.findBone(entry.asString());
-                if (bone == null) throw new SerializationException("Skin bone not found: " + entry);
-                skin.bones.add(bone);
-            }
-            skin.bones.shrink();
-            for (JsonValue entry = skinMap.getChild("ik"); entry != null; entry = entry.next) {
-                IkConstraintData constraint = skeletonData.findIkConstraint(entry.asString());
-                if (constraint == null) throw new SerializationException("Skin IK constraint not found: " + entry);
-                skin.constraints.add(constraint);
-            }
-            for (JsonValue entry = skinMap.getChild("transform"); entry != null; entry = entry.next) {
-                TransformConstraintData constraint = skeletonData.findTransformConstraint(entry.asString());
-                if (constraint == null)
-                    throw new SerializationException("Skin transform constraint not found: " + entry);
-                skin.constraints.add(constraint);
-            }
-            for (JsonValue entry = skinMap.getChild("outPath"); entry != null; entry = entry.next) {
-                PathConstraintData constraint = skeletonData.findPathConstraint(entry.asString());
-                if (constraint == null) throw new SerializationException("Skin outPath constraint not found: " + entry);
-                skin.constraints.add(constraint);
-            }
-            skin.constraints.shrink();
-            for (JsonValue slotEntry = skinMap.getChild("attachments"); slotEntry != null; slotEntry = slotEntry.next) {
-                SlotData slot = skeletonData.findSlot(slotEntry.name);
-                if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
-                for (JsonValue entry = slotEntry.child; entry != null; entry = entry.next) {
-                    try {
-                        Attachment attachment = readAttachment(entry, skin, slot.index, entry.name, skeletonData);
-                        if (attachment != null) skin.setAttachment(slot.index, entry.name, attachment);
-                    } catch (Throwable ex) {
-                        throw new SerializationException("Error reading attachment: " + entry.name + ", skin: " + skin, ex);
-                    }
+    private void readSkin(JsonValue skinMap, SkeletonData skeletonData) {
+        Skin skin = new Skin(skinMap.getString("name"));
+        for (JsonValue entry = skinMap.getChild("bones"); entry != null; entry = entry.next) {
+            BoneData bone = skeletonData.findBone(entry.asString());
+            if (bone == null) throw new SerializationException("Skin bone not found: " + entry);
+            skin.bones.add(bone);
+        }
+        skin.bones.shrink();
+        for (JsonValue entry = skinMap.getChild("ik"); entry != null; entry = entry.next) {
+            IkConstraintData constraint = skeletonData.findIkConstraint(entry.asString());
+            if (constraint == null) throw new SerializationException("Skin IK constraint not found: " + entry);
+            skin.constraints.add(constraint);
+        }
+        for (JsonValue entry = skinMap.getChild("transform"); entry != null; entry = entry.next) {
+            TransformConstraintData constraint = skeletonData.findTransformConstraint(entry.asString());
+            if (constraint == null)
+                throw new SerializationException("Skin transform constraint not found: " + entry);
+            skin.constraints.add(constraint);
+        }
+        for (JsonValue entry = skinMap.getChild("outPath"); entry != null; entry = entry.next) {
+            PathConstraintData constraint = skeletonData.findPathConstraint(entry.asString());
+            if (constraint == null) throw new SerializationException("Skin outPath constraint not found: " + entry);
+            skin.constraints.add(constraint);
+        }
+        skin.constraints.shrink();
+        for (JsonValue slotEntry = skinMap.getChild("attachments"); slotEntry != null; slotEntry = slotEntry.next) {
+            SlotData slot = skeletonData.findSlot(slotEntry.name);
+            if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
+            for (JsonValue entry = slotEntry.child; entry != null; entry = entry.next) {
+                try {
+                    Attachment attachment = readAttachment(entry, skin, slot.index, entry.name, skeletonData);
+                    if (attachment != null) skin.setAttachment(slot.index, entry.name, attachment);
+                } catch (Throwable ex) {
+                    throw new SerializationException("Error reading attachment: " + entry.name + ", skin: " + skin, ex);
                 }
             }
-            skeletonData.skins.add(skin);
-            if (skin.name.equals("default")) skeletonData.defaultSkin = skin;
         }
+        skeletonData.skins.add(skin);
+        if (skin.name.equals("default")) skeletonData.defaultSkin = skin;
+    }
 
-
+    private void readEvents(JsonValue root, SkeletonData skeletonData) {
         Object[] items = linkedMeshes.items;
         for (int i = 0, n = linkedMeshes.size; i < n; i++) {
             LinkedMesh linkedMesh = (LinkedMesh) items[i];
@@ -260,23 +331,14 @@ public class SkeletonJson extends SkeletonLoader {
             }
             skeletonData.events.add(data);
         }
+    }
 
-
-        for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next) {
-            try {
-                readAnimation(animationMap, animationMap.name, skeletonData);
-            } catch (Throwable ex) {
-                throw new SerializationException("Error reading animation: " + animationMap.name, ex);
-            }
+    private Animation readAnimation(JsonValue animationMap, SkeletonData skeletonData) {
+        try {
+            return readAnimation(animationMap, animationMap.name, skeletonData);
+        } catch (Throwable ex) {
+            throw new SerializationException("Error reading animation: " + animationMap.name, ex);
         }
-
-        skeletonData.bones.shrink();
-        skeletonData.slots.shrink();
-        skeletonData.skins.shrink();
-        skeletonData.events.shrink();
-        skeletonData.animations.shrink();
-        skeletonData.ikConstraints.shrink();
-        return skeletonData;
     }
 
     private Attachment readAttachment(JsonValue map, Skin skin, int slotIndex, String name, SkeletonData skeletonData) {
@@ -416,7 +478,7 @@ public class SkeletonJson extends SkeletonLoader {
         attachment.setVertices(weights.toArray());
     }
 
-    private void readAnimation(JsonValue map, String name, SkeletonData skeletonData) {
+    private Animation readAnimation(JsonValue map, String name, SkeletonData skeletonData) {
         float scale = this.scale;
         Array<Timeline> timelines = new Array();
 
@@ -898,7 +960,7 @@ public class SkeletonJson extends SkeletonLoader {
         Object[] items = timelines.items;
         for (int i = 0, n = timelines.size; i < n; i++)
             duration = Math.max(duration, ((Timeline) items[i]).getDuration());
-        skeletonData.animations.add(new Animation(name, timelines, duration));
+        return new Animation(name, timelines, duration);
     }
 
     private Timeline readTimeline(JsonValue keyMap, CurveTimeline1 timeline, float defaultValue, float scale) {
@@ -12,7 +12,8 @@ public class Skin {
     final OrderedSet<SkinEntry> attachments = new OrderedSet();
     final Array<BoneData> bones = new Array(0);
     final Array<ConstraintData> constraints = new Array(0);
-    private final SkinEntry lookup = new SkinEntry(0, "", null);
+    // Skeletons updated on different threads share their skins, so every thread looks up with its own key
+    static private final ThreadLocal<SkinEntry> lookup = ThreadLocal.withInitial(() -> new SkinEntry(0, "", null));
 
     public Skin(String name) {
         if (name == null) throw new IllegalArgumentException("name cannot be null.");
@@ -62,6 +63,7 @@ public class Skin {
 
     public @Null
     Attachment getAttachment(int slotIndex, String name) {
+        SkinEntry lookup = Skin.lookup.get();
         lookup.set(slotIndex, name);
         SkinEntry entry = attachments.get(lookup);
         return entry != null ? entry.attachment : null;
@@ -69,6 +71,7 @@ public class Skin {
 
 
     public void removeAttachment(int slotIndex, String name) {
+        SkinEntry lookup = Skin.lookup.get();
         lookup.set(slotIndex, name);
         attachments.remove(lookup);
     }
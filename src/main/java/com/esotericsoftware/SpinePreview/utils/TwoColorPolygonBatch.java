@@ -65,10 +65,27 @@ public class TwoColorPolygonBatch implements PolygonBatch {
 
 
     public TwoColorPolygonBatch(int maxVertices, int maxTriangles, @Null ShaderProgram defaultShader) {
+        this(maxVertices, maxTriangles, defaultShader, true);
+    }
+
+    // Without GL the batch only fills its arrays, a subclass takes each flushed call in render
+    protected TwoColorPolygonBatch(int maxVertices, int maxTriangles, boolean gl) {
+        this(maxVertices, maxTriangles, null, gl);
+    }
+
+    private TwoColorPolygonBatch(int maxVertices, int maxTriangles, @Null ShaderProgram defaultShader, boolean gl) {
 
         if (maxVertices > 32767)
             throw new IllegalArgumentException("Can't have more than 32767 vertices per batch: " + maxTriangles);
 
+        vertices = new float[maxVertices * 6];
+        triangles = new short[maxTriangles * 3];
+        if (!gl) {
+            mesh = null;
+            ownsDefaultShader = false;
+            return;
+        }
+
         Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
         if (Gdx.gl30 != null) vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
         mesh = new Mesh(vertexDataType, false, maxVertices, maxTriangles * 3,
@@ -77,9 +94,6 @@ public class TwoColorPolygonBatch implements PolygonBatch {
                 new VertexAttribute(Usage.ColorPacked, 4, "a_dark"),
                 new VertexAttribute(Usage.TextureCoordinates, 2, "a_texCoord0"));
 
-        vertices = new float[maxVertices * 6];
-        triangles = new short[maxTriangles * 3];
-
         ownsDefaultShader = defaultShader == null;
         if (ownsDefaultShader) defaultShader = createDefaultShader();
         this.defaultShader = defaultShader;
@@ -139,8 +153,10 @@ public class TwoColorPolygonBatch implements PolygonBatch {
     @Override
     public void begin() {
         if (drawing) throw new IllegalStateException("end must be called before begin.");
-        Gdx.gl.glDepthMask(false);
-        shader.bind();
+        if (shader != null) {
+            Gdx.gl.glDepthMask(false);
+            shader.bind();
+        }
         setupMatrices();
         drawing = true;
     }
@@ -149,8 +165,10 @@ public class TwoColorPolygonBatch implements PolygonBatch {
     public void end() {
         if (!drawing) throw new IllegalStateException("begin must be called before end.");
         if (vertexIndex > 0) flush();
-        Gdx.gl.glDepthMask(true);
-        if (!blendingDisabled) Gdx.gl.glDisable(GL20.GL_BLEND);
+        if (shader != null) {
+            Gdx.gl.glDepthMask(true);
+            if (!blendingDisabled) Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
 
         lastTexture = null;
         drawing = false;
@@ -1311,10 +1329,17 @@ public class TwoColorPolygonBatch implements PolygonBatch {
 
         totalRenderCalls++;
 
-        bind(lastTexture);
+        render(lastTexture, vertices, vertexIndex, triangles, triangleIndex);
+
+        vertexIndex = 0;
+        triangleIndex = 0;
+    }
+
+    protected void render(Texture texture, float[] vertices, int verticesCount, short[] triangles, int trianglesCount) {
+        bind(texture);
         Mesh mesh = this.mesh;
-        mesh.setVertices(vertices, 0, vertexIndex);
-        mesh.setIndices(triangles, 0, triangleIndex);
+        mesh.setVertices(vertices, 0, verticesCount);
+        mesh.setIndices(triangles, 0, trianglesCount);
         if (blendingDisabled)
             Gdx.gl.glDisable(GL20.GL_BLEND);
         else {
@@ -1322,10 +1347,7 @@ public class TwoColorPolygonBatch implements PolygonBatch {
             if (blendSrcFunc != -1)
                 Gdx.gl.glBlendFuncSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
         }
-        mesh.render(shader, GL20.GL_TRIANGLES, 0, triangleIndex);
-
-        vertexIndex = 0;
-        triangleIndex = 0;
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, trianglesCount);
     }
 
     protected void bind(Texture texture) {
@@ -1346,7 +1368,7 @@ public class TwoColorPolygonBatch implements PolygonBatch {
 
     @Override
     public void dispose() {
-        mesh.dispose();
+        if (mesh != null) mesh.dispose();
         if (ownsDefaultShader) defaultShader.dispose();
     }
 
@@ -1384,7 +1406,12 @@ public class TwoColorPolygonBatch implements PolygonBatch {
         if (drawing) setupMatrices();
     }
 
+    public boolean getPremultipliedAlpha() {
+        return premultipliedAlpha;
+    }
+
     protected void setupMatrices() {
+        if (shader == null) return;
         combinedMatrix.set(projectionMatrix).mul(transformMatrix);
         shader.setUniformf("u_pma", premultipliedAlpha ? 1 : 0);
         shader.setUniformMatrix("u_projTrans", combinedMatrix);
@@ -1,6 +1,6 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
+import com.QYun.Spine.LazyAnimations;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
@@ -8,8 +8,10 @@ import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.IntSet;
 import com.esotericsoftware.SpineStandard.attachments.Attachment;
 import com.esotericsoftware.SpineStandard.attachments.VertexAttachment;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import static com.esotericsoftware.SpineStandard.Animation.MixBlend.*;
 import static com.esotericsoftware.SpineStandard.Animation.MixDirection.in;
@@ -17,18 +19,21 @@ import static com.esotericsoftware.SpineStandard.Animation.MixDirection.out;
 import static com.esotericsoftware.SpineStandard.Animation.MixPose.P_setup;
 import static com.esotericsoftware.SpineStandard.utils.SpineUtils.arraycopy;
 
-public class Animation {
+public class Animation implements LazyAnimations.Lazy {
     final String name;
     Array<Timeline> timelines;
     IntSet timelineIDs;
     float duration;
+    // Set for an animation of a lazily loaded skeleton, which has no timelines until it is first played
+    LazyAnimations lazy;
+    Supplier<Animation> decoder;
 
     public Animation(String name, Array<Timeline> timelines, float duration) {
         if (name == null) throw new IllegalArgumentException("name cannot be null.");
         if (timelines == null) throw new IllegalArgumentException("timelines cannot be null.");
         this.name = name;
         this.duration = duration;
-        if (RuntimesLoader.spineVersion > 37) {
+        if (SpineVersion.get() > 37) {
             timelineIDs = new IntSet();
             setTimelines(timelines);
         } else this.timelines = timelines;
@@ -155,6 +160,25 @@ public class Animation {
             timelines.get(i).apply(skeleton, lastTime, time, events, alpha);
     }
 
+    // AnimationState calls this before an entry reads the duration or the timelines
+    public void load() {
+        if (lazy != null) lazy.use(this);
+    }
+
+    public void decode() {
+        Animation decoded = decoder.get();
+        if (timelineIDs != null)
+            setTimelines(decoded.timelines);
+        else timelines = decoded.timelines;
+        duration = decoded.duration;
+    }
+
+    public void evict() {
+        if (timelineIDs != null)
+            setTimelines(new Array<>(0));
+        else timelines = new Array<>(0);
+    }
+
     public String getName() {
         return name;
     }
@@ -262,7 +286,7 @@ public class Animation {
             for (int start = i, n = i + BEZIER_SIZE - 1; i < n; i += 2) {
                 x = curves[i];
                 if (x >= percent) {
-                    if (RuntimesLoader.spineVersion > 34) {
+                    if (SpineVersion.get() > 34) {
                         if (i == start) return curves[i + 1] * percent / x;
                         float prevX = curves[i - 2], prevY = curves[i - 1];
                         return prevY + (curves[i + 1] - prevY) * (percent - prevX) / (x - prevX);
@@ -322,7 +346,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             Bone bone = skeleton.bones.get(boneIndex);
-            if (!bone.active && RuntimesLoader.spineVersion == 38) return;
+            if (!bone.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -530,7 +554,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             Bone bone = skeleton.bones.get(boneIndex);
-            if (!bone.active && RuntimesLoader.spineVersion == 38) return;
+            if (!bone.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -693,7 +717,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             Bone bone = skeleton.bones.get(boneIndex);
-            if (!bone.active && RuntimesLoader.spineVersion == 38) return;
+            if (!bone.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -928,7 +952,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             Bone bone = skeleton.bones.get(boneIndex);
-            if (!bone.active && RuntimesLoader.spineVersion == 38) return;
+            if (!bone.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -1119,7 +1143,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             // Slot slot = skeleton.slots.get(slotIndex);
-            // if (!slot.bone.active && RuntimesLoader.spineVersion == 38) return;
+            // if (!slot.bone.active && SpineVersion.get() == 38) return;
             // float[] frames = this.frames;
             // if (time < frames[0]) {
             //     switch (blend) {
@@ -1337,7 +1361,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             Slot slot = skeleton.slots.get(slotIndex);
-            if (!slot.bone.active && RuntimesLoader.spineVersion == 38) return;
+            if (!slot.bone.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -1517,7 +1541,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             Slot slot = skeleton.slots.get(slotIndex);
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 if (!slot.bone.active) return;
                 if (direction == out) {
                     if (blend == setup)
@@ -1533,10 +1557,10 @@ public class Animation {
             }
             float[] frames = this.frames;
             if (time < frames[0]) {
-                if (RuntimesLoader.spineVersion == 38) {
+                if (SpineVersion.get() == 38) {
                     if (blend == setup || blend == first) setAttachment(skeleton, slot, slot.data.attachmentName);
                     return;
-                } else if (RuntimesLoader.spineVersion == 37) {
+                } else if (SpineVersion.get() == 37) {
                     if (blend == setup || blend == first) {
                         String attachmentName = slot.data.attachmentName;
                         slot.setAttachment(attachmentName == null ? null : skeleton.getAttachment(slotIndex, attachmentName));
@@ -1549,7 +1573,7 @@ public class Animation {
                 frameIndex = frames.length - 1;
             else
                 frameIndex = binarySearch(frames, time) - 1;
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 setAttachment(skeleton, slot, attachmentNames[frameIndex]);
             } else {
                 String attachmentName = attachmentNames[frameIndex];
@@ -1646,10 +1670,10 @@ public class Animation {
         }
 
         public int getPropertyId() {
-            return switch (RuntimesLoader.spineVersion) {
+            return switch (SpineVersion.get()) {
                 case 38, 37, 36 -> (TimelineType.deform.ordinal() << 27) + attachment.getId() + slotIndex;
                 case 35 -> (TimelineType.deform.ordinal() << 24) + slotIndex;
-                default -> throw new IllegalStateException("Unexpected value: " + RuntimesLoader.spineVersion);
+                default -> throw new IllegalStateException("Unexpected value: " + SpineVersion.get());
             };
         }
 
@@ -1689,7 +1713,7 @@ public class Animation {
             Attachment slotAttachment = slot.attachment;
             FloatArray deformArray = null;
             FloatArray verticesArray = null;
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 if (!slot.bone.active) return;
                 if (!(slotAttachment instanceof VertexAttachment)
                         || ((VertexAttachment) slotAttachment).getDeformAttachment() != attachment) return;
@@ -1706,7 +1730,7 @@ public class Animation {
             float[] frames = this.frames;
             float[] deform = null;
             float[] vertices = null;
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 if (time < frames[0]) {
                     VertexAttachment vertexAttachment = (VertexAttachment) slotAttachment;
                     switch (blend) {
@@ -1870,7 +1894,7 @@ public class Animation {
             float[] nextVertices = frameVertices[frame];
             float frameTime = frames[frame];
             float percent = getCurvePercent(frame - 1, 1 - (time - frameTime) / (frames[frame - 1] - frameTime));
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 if (alpha == 1) {
                     if (blend == add) {
                         VertexAttachment vertexAttachment = (VertexAttachment) slotAttachment;
@@ -2392,7 +2416,7 @@ public class Animation {
                           MixDirection direction) {
             // Array<Slot> drawOrder = skeleton.drawOrder;
             // Array<Slot> slots = skeleton.slots;
-            // if (RuntimesLoader.spineVersion == 38) {
+            // if (SpineVersion.get() == 38) {
             //     if (direction == out) {
             //         if (blend == setup) arraycopy(slots.items, 0, drawOrder.items, 0, slots.size);
             //         return;
@@ -2405,7 +2429,7 @@ public class Animation {
             // }
             // float[] frames = this.frames;
             // if (time < frames[0]) {
-            //     if (RuntimesLoader.spineVersion == 38) {
+            //     if (SpineVersion.get() == 38) {
             //         if (blend == setup || blend == first) arraycopy(slots.items, 0, drawOrder.items, 0, slots.size);
             //     } else {
             //         if (blend == setup || blend == first)
@@ -2420,9 +2444,9 @@ public class Animation {
             //     frame = binarySearch(frames, time) - 1;
             // int[] drawOrderToSetupIndex = drawOrders[frame];
             // if (drawOrderToSetupIndex == null) {
-            //     if (RuntimesLoader.spineVersion == 38)
+            //     if (SpineVersion.get() == 38)
             //         arraycopy(slots.items, 0, drawOrder.items, 0, slots.size);
-            //     else if (RuntimesLoader.spineVersion == 37)
+            //     else if (SpineVersion.get() == 37)
             //         System.arraycopy(slots.items, 0, drawOrder.items, 0, slots.size);
             // } else {
             //     for (int i = 0, n = drawOrderToSetupIndex.length; i < n; i++)
@@ -2514,16 +2538,18 @@ public class Animation {
 
     static public class IkConstraintTimeline extends CurveTimeline {
         static public byte ENTRIES;
-        static private byte PREV_TIME, PREV_MIX, PREV_SOFTNESS, PREV_BEND_DIRECTION, PREV_COMPRESS, PREV_STRETCH;
-        static private byte MIX, SOFTNESS, BEND_DIRECTION, COMPRESS, STRETCH;
+        // The frame layout depends on the version, each timeline keeps its own so a load never changes one being applied
+        private byte entries;
+        private byte PREV_TIME, PREV_MIX, PREV_SOFTNESS, PREV_BEND_DIRECTION, PREV_COMPRESS, PREV_STRETCH;
+        private byte MIX, SOFTNESS, BEND_DIRECTION, COMPRESS, STRETCH;
         private final float[] frames;
         int ikConstraintIndex;
 
         public IkConstraintTimeline(int frameCount) {
             super(frameCount);
-            switch (RuntimesLoader.spineVersion) {
+            switch (SpineVersion.get()) {
                 case 38 -> {
-                    ENTRIES = 6;
+                    entries = 6;
                     PREV_TIME = -6;
                     PREV_MIX = -5;
                     PREV_SOFTNESS = -4;
@@ -2537,7 +2563,7 @@ public class Animation {
                     STRETCH = 5;
                 }
                 case 37 -> {
-                    ENTRIES = 5;
+                    entries = 5;
                     PREV_TIME = -5;
                     PREV_MIX = -4;
                     PREV_BEND_DIRECTION = -3;
@@ -2549,7 +2575,7 @@ public class Animation {
                     STRETCH = 4;
                 }
                 case 36, 35, 34 -> {
-                    ENTRIES = 3;
+                    entries = 3;
                     PREV_TIME = -3;
                     PREV_MIX = -2;
                     PREV_BEND_DIRECTION = -1;
@@ -2557,7 +2583,9 @@ public class Animation {
                     BEND_DIRECTION = 2;
                 }
             }
-            frames = new float[frameCount * ENTRIES];
+            // Loaders still read the layout of the timeline they just built through the static
+            ENTRIES = entries;
+            frames = new float[frameCount * entries];
         }
 
         public int getPropertyId() {
@@ -2590,7 +2618,7 @@ public class Animation {
         }
 
         public void setFrame(int frameIndex, float time, float mix, int bendDirection) { // Spine36/5/4
-            frameIndex *= ENTRIES;
+            frameIndex *= entries;
             frames[frameIndex] = time;
             frames[frameIndex + MIX] = mix;
             frames[frameIndex + BEND_DIRECTION] = bendDirection;
@@ -2599,13 +2627,13 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             IkConstraint constraint = skeleton.ikConstraints.get(ikConstraintIndex);
-            if (!constraint.active && RuntimesLoader.spineVersion == 38) return;
+            if (!constraint.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
                     case setup -> {
                         constraint.mix = constraint.data.mix;
-                        if (RuntimesLoader.spineVersion == 38)
+                        if (SpineVersion.get() == 38)
                             constraint.softness = constraint.data.softness;
                         constraint.bendDirection = constraint.data.bendDirection;
                         constraint.compress = constraint.data.compress;
@@ -2614,7 +2642,7 @@ public class Animation {
                     }
                     case first -> {
                         constraint.mix += (constraint.data.mix - constraint.mix) * alpha;
-                        if (RuntimesLoader.spineVersion == 38)
+                        if (SpineVersion.get() == 38)
                             constraint.softness += (constraint.data.softness - constraint.softness) * alpha;
                         constraint.bendDirection = constraint.data.bendDirection;
                         constraint.compress = constraint.data.compress;
@@ -2623,10 +2651,10 @@ public class Animation {
                 }
                 return;
             }
-            if (time >= frames[frames.length - ENTRIES]) {
+            if (time >= frames[frames.length - entries]) {
                 if (blend == setup) {
                     constraint.mix = constraint.data.mix + (frames[frames.length + PREV_MIX] - constraint.data.mix) * alpha;
-                    if (RuntimesLoader.spineVersion == 38)
+                    if (SpineVersion.get() == 38)
                         constraint.softness = constraint.data.softness + (frames[frames.length + PREV_SOFTNESS] - constraint.data.softness) * alpha;
                     if (direction == out) {
                         constraint.bendDirection = constraint.data.bendDirection;
@@ -2639,7 +2667,7 @@ public class Animation {
                     }
                 } else {
                     constraint.mix += (frames[frames.length + PREV_MIX] - constraint.mix) * alpha;
-                    if (RuntimesLoader.spineVersion == 38)
+                    if (SpineVersion.get() == 38)
                         constraint.softness += (frames[frames.length + PREV_SOFTNESS] - constraint.softness) * alpha;
                     if (direction == in) {
                         constraint.bendDirection = (int) frames[frames.length + PREV_BEND_DIRECTION];
@@ -2649,14 +2677,14 @@ public class Animation {
                 }
                 return;
             }
-            int frame = binarySearch(frames, time, ENTRIES);
+            int frame = binarySearch(frames, time, entries);
             float mix = frames[frame + PREV_MIX];
             float softness = frames[frame + PREV_SOFTNESS];
             float frameTime = frames[frame];
-            float percent = getCurvePercent(frame / ENTRIES - 1, 1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
+            float percent = getCurvePercent(frame / entries - 1, 1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
             if (blend == setup) {
                 constraint.mix = constraint.data.mix + (mix + (frames[frame + MIX] - mix) * percent - constraint.data.mix) * alpha;
-                if (RuntimesLoader.spineVersion == 38)
+                if (SpineVersion.get() == 38)
                     constraint.softness = constraint.data.softness + (softness + (frames[frame + SOFTNESS] - softness) * percent - constraint.data.softness) * alpha;
                 if (direction == out) {
                     constraint.bendDirection = constraint.data.bendDirection;
@@ -2669,7 +2697,7 @@ public class Animation {
                 }
             } else {
                 constraint.mix += (mix + (frames[frame + MIX] - mix) * percent - constraint.mix) * alpha;
-                if (RuntimesLoader.spineVersion == 38)
+                if (SpineVersion.get() == 38)
                     constraint.softness += (softness + (frames[frame + SOFTNESS] - softness) * percent - constraint.softness) * alpha;
                 if (direction == in) {
                     constraint.bendDirection = (int) frames[frame + PREV_BEND_DIRECTION];
@@ -2737,7 +2765,7 @@ public class Animation {
                 return;
             }
 
-            if (time >= frames[frames.length - ENTRIES]) {
+            if (time >= frames[frames.length - entries]) {
                 if (setupPose) {
                     constraint.mix = constraint.data.mix + (frames[frames.length + PREV_MIX] - constraint.data.mix) * alpha;
                     constraint.bendDirection = mixingOut ? constraint.data.bendDirection
@@ -2749,10 +2777,10 @@ public class Animation {
                 return;
             }
 
-            int frame = binarySearch(frames, time, ENTRIES);
+            int frame = binarySearch(frames, time, entries);
             float mix = frames[frame + PREV_MIX];
             float frameTime = frames[frame];
-            float percent = getCurvePercent(frame / ENTRIES - 1, 1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
+            float percent = getCurvePercent(frame / entries - 1, 1 - (time - frameTime) / (frames[frame + PREV_TIME] - frameTime));
 
             if (setupPose) {
                 constraint.mix = constraint.data.mix + (mix + (frames[frame + MIX] - mix) * percent - constraint.data.mix) * alpha;
@@ -2818,7 +2846,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             TransformConstraint constraint = skeleton.transformConstraints.get(transformConstraintIndex);
-            if (!constraint.active && RuntimesLoader.spineVersion == 38) return;
+            if (!constraint.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 TransformConstraintData data = constraint.data;
@@ -3053,7 +3081,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
-            if (!constraint.active && RuntimesLoader.spineVersion == 38) return;
+            if (!constraint.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -3178,7 +3206,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
-            if (!constraint.active && RuntimesLoader.spineVersion == 38) return;
+            if (!constraint.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
@@ -3328,7 +3356,7 @@ public class Animation {
         public void apply(Skeleton skeleton, float lastTime, float time, Array<Event> events, float alpha, MixBlend blend,
                           MixDirection direction) {
             PathConstraint constraint = skeleton.pathConstraints.get(pathConstraintIndex);
-            if (!constraint.active && RuntimesLoader.spineVersion == 38) return;
+            if (!constraint.active && SpineVersion.get() == 38) return;
             float[] frames = this.frames;
             if (time < frames[0]) {
                 switch (blend) {
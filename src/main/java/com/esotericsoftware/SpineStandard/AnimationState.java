@@ -1,9 +1,9 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.utils.*;
 import com.badlogic.gdx.utils.Pool.Poolable;
 import com.esotericsoftware.SpineStandard.Animation.*;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 import java.lang.StringBuilder;
 
@@ -15,7 +15,7 @@ public class AnimationState {
     static private final byte DIP = 2, DIP_MIX = 3; // Spine36
     static private final byte HOLD = 2, HOLD_SUBSEQUENT = 2, HOLD_FIRST = 3; // Spine37
     static private final byte SETUP = 1, CURRENT = 2; // Spine38
-    static private byte HOLD_MIX;
+    private byte holdMix;
     final Array<TrackEntry> tracks = new Array<>();
     final Array<AnimationStateListener> listeners = new Array<>();
     final Pool<TrackEntry> trackEntryPool = new Pool<>() { // Spine37/6
@@ -38,9 +38,9 @@ public class AnimationState {
     public AnimationState(AnimationStateData data) {
         if (data == null) throw new IllegalArgumentException("data cannot be null.");
         this.data = data;
-        switch (RuntimesLoader.spineVersion) {
-            case 38 -> HOLD_MIX = 4;
-            case 37 -> HOLD_MIX = 3;
+        switch (SpineVersion.get()) {
+            case 38 -> holdMix = 4;
+            case 37 -> holdMix = 3;
         }
     }
 
@@ -49,7 +49,7 @@ public class AnimationState {
         for (int i = 0; i < tracks.size; i++) {
             TrackEntry current = tracks.get(i);
             if (current == null) continue;
-            if (RuntimesLoader.spineVersion > 34) {
+            if (SpineVersion.get() > 34) {
                 current.animationLast = current.nextAnimationLast;
                 current.trackLast = current.nextTrackLast;
                 float currentDelta = delta * current.timeScale;
@@ -64,7 +64,7 @@ public class AnimationState {
                     float nextTime = current.trackLast - next.delay;
                     if (nextTime >= 0) {
                         next.delay = 0;
-                        switch (RuntimesLoader.spineVersion) {
+                        switch (SpineVersion.get()) {
                             case 38 -> next.trackTime += current.timeScale == 0 ? 0 : (nextTime / current.timeScale + delta) * next.timeScale;
                             case 37 -> next.trackTime = current.timeScale == 0 ? 0 : (nextTime / current.timeScale + delta) * next.timeScale;
                             case 36, 35 -> next.trackTime = nextTime + delta * next.timeScale;
@@ -72,7 +72,7 @@ public class AnimationState {
                         current.trackTime += currentDelta;
                         setCurrent(i, next, true);
                         while (next.mixingFrom != null) {
-                            if (RuntimesLoader.spineVersion > 36)
+                            if (SpineVersion.get() > 36)
                                 next.mixTime += delta;
                             else next.mixTime += currentDelta;
                             next = next.mixingFrom;
@@ -85,7 +85,7 @@ public class AnimationState {
                     disposeNext(current);
                     continue;
                 }
-                if (RuntimesLoader.spineVersion > 35) {
+                if (SpineVersion.get() > 35) {
                     if (current.mixingFrom != null && updateMixingFrom(current, delta)) {
                         TrackEntry from = current.mixingFrom;
                         current.mixingFrom = null;
@@ -123,7 +123,7 @@ public class AnimationState {
                 }
             }
         }
-        if (RuntimesLoader.spineVersion == 34) return;
+        if (SpineVersion.get() == 34) return;
         queue.drain();
     }
 
@@ -133,7 +133,7 @@ public class AnimationState {
         boolean finished = updateMixingFrom(from, delta);
         from.animationLast = from.nextAnimationLast;
         from.trackLast = from.nextTrackLast;
-        switch (RuntimesLoader.spineVersion) {
+        switch (SpineVersion.get()) {
             case 38, 37 -> {
                 if (to.mixTime > 0 && to.mixTime >= to.mixDuration) {
                     if (from.totalAlpha == 0 || to.mixDuration == 0) {
@@ -172,7 +172,7 @@ public class AnimationState {
 
     public boolean apply(Skeleton skeleton) {
         Array<Event> events = this.events;
-        if (RuntimesLoader.spineVersion > 34) {
+        if (SpineVersion.get() > 34) {
             if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
             if (animationsChanged) animationsChanged();
             boolean applied = false;
@@ -184,12 +184,12 @@ public class AnimationState {
                 MixPose currentPose = i == 0 ? MixPose.current : MixPose.currentLayered; // Spine36
                 float mix = current.alpha;
                 if (current.mixingFrom != null)
-                    switch (RuntimesLoader.spineVersion) {
+                    switch (SpineVersion.get()) {
                         case 38, 37 -> mix *= applyMixingFrom(current, skeleton, blend);
                         case 36 -> mix *= applyMixingFrom(current, skeleton, currentPose);
                         case 35 -> mix *= applyMixingFrom(current, skeleton);
                     }
-                else if (current.trackTime >= current.trackEnd && current.next == null && RuntimesLoader.spineVersion > 35)
+                else if (current.trackTime >= current.trackEnd && current.next == null && SpineVersion.get() > 35)
                     mix = 0;
                 else {
                     if (current.trackTime >= current.trackEnd)
@@ -200,11 +200,11 @@ public class AnimationState {
                 int timelineCount = current.animation.timelines.size;
                 Object[] timelines = current.animation.timelines.items;
 
-                switch (RuntimesLoader.spineVersion) {
+                switch (SpineVersion.get()) {
                     case 38, 37 -> {
                         if ((i == 0 && mix == 1) || blend == MixBlend.add) {
                             for (int ii = 0; ii < timelineCount; ii++) {
-                                if (RuntimesLoader.spineVersion > 37) {
+                                if (SpineVersion.get() > 37) {
                                     Object timeline = timelines[ii];
                                     if (timeline instanceof AttachmentTimeline)
                                         applyAttachmentTimeline((AttachmentTimeline) timeline, skeleton, animationTime, blend, true);
@@ -224,7 +224,7 @@ public class AnimationState {
                                 if (timeline instanceof RotateTimeline) {
                                     applyRotateTimeline((RotateTimeline) timeline, skeleton, animationTime, mix, timelineBlend, timelinesRotation,
                                             ii << 1, firstFrame);
-                                } else if (timeline instanceof AttachmentTimeline && RuntimesLoader.spineVersion == 38)
+                                } else if (timeline instanceof AttachmentTimeline && SpineVersion.get() == 38)
                                     applyAttachmentTimeline((AttachmentTimeline) timeline, skeleton, animationTime, blend, true);
                                 else
                                     timeline.apply(skeleton, animationLast, animationTime, events, mix, timelineBlend, MixDirection.in);
@@ -278,7 +278,7 @@ public class AnimationState {
                 current.nextTrackLast = current.trackTime;
             }
 
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 int setupState = unKeyedState + SETUP;
                 Object[] slots = skeleton.slots.items;
                 for (int i = 0, n = skeleton.slots.size; i < n; i++) {
@@ -378,7 +378,7 @@ public class AnimationState {
                 float alpha;
                 switch (timelineMode[i]) {
                     case SUBSEQUENT -> {
-                        if (!attachments && timeline instanceof AttachmentTimeline && RuntimesLoader.spineVersion == 37)
+                        if (!attachments && timeline instanceof AttachmentTimeline && SpineVersion.get() == 37)
                             continue;
                         if (!drawOrder && timeline instanceof DrawOrderTimeline) continue;
                         timelineBlend = blend;
@@ -389,7 +389,7 @@ public class AnimationState {
                         alpha = alphaMix;
                     }
                     case HOLD -> {
-                        if (RuntimesLoader.spineVersion > 37)
+                        if (SpineVersion.get() > 37)
                             timelineBlend = blend;
                         else timelineBlend = MixBlend.setup;
                         alpha = alphaHold;
@@ -408,10 +408,10 @@ public class AnimationState {
                 if (timeline instanceof RotateTimeline) {
                     applyRotateTimeline((RotateTimeline) timeline, skeleton, animationTime, alpha, timelineBlend, timelinesRotation,
                             i << 1, firstFrame);
-                } else if (timeline instanceof AttachmentTimeline && RuntimesLoader.spineVersion == 38)
+                } else if (timeline instanceof AttachmentTimeline && SpineVersion.get() == 38)
                     applyAttachmentTimeline((AttachmentTimeline) timeline, skeleton, animationTime, timelineBlend, attachments);
                 else {
-                    if (RuntimesLoader.spineVersion == 38) {
+                    if (SpineVersion.get() == 38) {
                         if (drawOrder && timeline instanceof DrawOrderTimeline && timelineBlend == MixBlend.setup)
                             direction = MixDirection.in;
                     } else {
@@ -578,7 +578,7 @@ public class AnimationState {
             return;
         }
         Bone bone = skeleton.bones.get(timeline.boneIndex);
-        if (RuntimesLoader.spineVersion == 38)
+        if (SpineVersion.get() == 38)
             if (!bone.active) return;
         float[] frames = timeline.frames;
         float r1, r2;
@@ -776,7 +776,7 @@ public class AnimationState {
             queue.event(entry, event);
         }
 
-        switch (RuntimesLoader.spineVersion) {
+        switch (SpineVersion.get()) {
             case 38, 37, 36 -> {
                 boolean complete;
                 if (entry.loop)
@@ -805,7 +805,7 @@ public class AnimationState {
         TrackEntry current = tracks.get(trackIndex);
         if (current == null) return;
 
-        if (RuntimesLoader.spineVersion > 34) {
+        if (SpineVersion.get() > 34) {
             queue.end(current);
             disposeNext(current);
             TrackEntry entry = current;
@@ -814,7 +814,7 @@ public class AnimationState {
                 if (from == null) break;
                 queue.end(from);
                 entry.mixingFrom = null;
-                switch (RuntimesLoader.spineVersion) {
+                switch (SpineVersion.get()) {
                     case 38, 37, 36 -> entry.mixingTo = null;
                 }
                 entry = from;
@@ -878,7 +878,7 @@ public class AnimationState {
             current.mixingFrom = from;
             current.mixTime = 0;
             from.timelinesRotation.clear();
-            switch (RuntimesLoader.spineVersion) {
+            switch (SpineVersion.get()) {
                 case 38, 37, 36 -> {
                     from.mixingTo = current;
                     if (from.mixingFrom != null && from.mixDuration > 0)
@@ -903,7 +903,7 @@ public class AnimationState {
         if (trackIndex < 0) throw new IllegalArgumentException("trackIndex must be >= 0.");
         if (animation == null) throw new IllegalArgumentException("animation cannot be null.");
         TrackEntry current = expandToIndex(trackIndex), entry;
-        if (RuntimesLoader.spineVersion > 34) {
+        if (SpineVersion.get() > 34) {
             boolean interrupt = true;
             if (current != null) {
                 if (current.nextTrackLast == -1) {
@@ -921,6 +921,7 @@ public class AnimationState {
             queue.drain();
         } else {
             if (current != null) freeAll(current.next);
+            animation.load();
             entry = trackEntryPool.obtain();
             entry.animation = animation;
             entry.loop = loop;
@@ -945,6 +946,7 @@ public class AnimationState {
     }
 
     private TrackEntry trackEntry(int trackIndex, Animation animation, boolean loop, TrackEntry last) {
+        animation.load();
         TrackEntry entry = trackEntryPool.obtain();
         entry.trackIndex = trackIndex;
         entry.animation = animation;
@@ -965,7 +967,7 @@ public class AnimationState {
         entry.alpha = 1;
         entry.mixTime = 0;
         entry.mixDuration = last == null ? 0 : data.getMix(last.animation, animation);
-        if (RuntimesLoader.spineVersion > 34) {
+        if (SpineVersion.get() > 34) {
             entry.holdPrevious = false;
             entry.interruptAlpha = 1;
         } else entry.mixAlpha = 1;
@@ -985,7 +987,7 @@ public class AnimationState {
         animationsChanged = false;
         propertyIDs.clear(2048);
 
-        switch (RuntimesLoader.spineVersion) {
+        switch (SpineVersion.get()) {
             case 38, 37 -> {
                 for (int i = 0, n = tracks.size; i < n; i++) {
                     TrackEntry entry = tracks.get(i);
@@ -1064,7 +1066,7 @@ public class AnimationState {
         Object[] timelineHoldMix = entry.timelineHoldMix.setSize(timelinesCount);
         IntSet propertyIDs = this.propertyIDs;
         if (to != null && to.holdPrevious) {
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 for (int i = 0; i < timelinesCount; i++)
                     timelineMode[i] = propertyIDs.add(((Timeline) timelines[i]).getPropertyId()) ? HOLD_FIRST : HOLD_SUBSEQUENT;
             } else {
@@ -1077,7 +1079,7 @@ public class AnimationState {
         }
         outer:
         for (int i = 0; i < timelinesCount; i++) {
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 Timeline timeline = (Timeline) timelines[i];
                 int id = timeline.getPropertyId();
                 if (!propertyIDs.add(id))
@@ -1089,7 +1091,7 @@ public class AnimationState {
                     for (TrackEntry next = to.mixingTo; next != null; next = next.mixingTo) {
                         if (next.animation.hasTimeline(id)) continue;
                         if (next.mixDuration > 0) {
-                            timelineMode[i] = HOLD_MIX;
+                            timelineMode[i] = holdMix;
                             timelineHoldMix[i] = next;
                             continue outer;
                         }
@@ -1107,7 +1109,7 @@ public class AnimationState {
                     for (TrackEntry next = to.mixingTo; next != null; next = next.mixingTo) {
                         if (hasTimeline(next, id)) continue;
                         if (next.mixDuration > 0) {
-                            timelineMode[i] = HOLD_MIX;
+                            timelineMode[i] = holdMix;
                             timelineHoldMix[i] = next;
                             continue outer;
                         }
@@ -1212,7 +1214,7 @@ public class AnimationState {
             next = null;
             animation = null;
             listener = null;
-            switch (RuntimesLoader.spineVersion) {
+            switch (SpineVersion.get()) {
                 case 34:
                     previous = null;
                     timeScale = 1;
@@ -1317,12 +1319,12 @@ public class AnimationState {
         }
 
         public float getAnimationEnd() {
-            if (RuntimesLoader.spineVersion < 35) return 1;
+            if (SpineVersion.get() < 35) return 1;
             return animationEnd;
         }
 
         public float getAnimationTime() {
-            if (RuntimesLoader.spineVersion < 35) {
+            if (SpineVersion.get() < 35) {
                 float percent = time / endTime;
                 if (loop) percent %= 1;
                 return percent;
@@ -1361,10 +1363,10 @@ public class AnimationState {
         }
 
         public boolean isComplete() {
-            return switch (RuntimesLoader.spineVersion) {
+            return switch (SpineVersion.get()) {
                 case 38, 37, 36, 35 -> trackTime >= animationEnd - animationStart;
                 case 34 -> time >= endTime;
-                default -> throw new IllegalStateException("Unexpected value: " + RuntimesLoader.spineVersion);
+                default -> throw new IllegalStateException("Unexpected value: " + SpineVersion.get());
             };
         }
 
@@ -1,9 +1,9 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.esotericsoftware.SpineStandard.BoneData.TransformMode;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 import static com.esotericsoftware.SpineStandard.utils.SpineUtils.*;
 
@@ -69,12 +69,12 @@ public class Bone implements Updatable {
         float lc = sinDeg(rotation + shearX) * scaleX;
         float ld = sinDeg(rotationY) * scaleY;
 
-        if (RuntimesLoader.spineVersion > 36) {
+        if (SpineVersion.get() > 36) {
             if (parent == null) {
                 Skeleton skeleton = this.skeleton;
                 float sx = skeleton.scaleX, sy = skeleton.scaleY;
                 a = cosDeg(rotation + shearX) * scaleX * sx;
-                if (RuntimesLoader.spineVersion > 37) {
+                if (SpineVersion.get() > 37) {
                     b = cosDeg(rotationY) * scaleY * sx;
                     c = sinDeg(rotation + shearX) * scaleX * sy;
                 } else {
@@ -104,7 +104,7 @@ public class Bone implements Updatable {
                 c = lc;
                 d = ld;
 
-                if (RuntimesLoader.spineVersion > 34) {
+                if (SpineVersion.get() > 34) {
                     worldX = x + skeleton.x;
                     worldY = y + skeleton.y;
                 } else {
@@ -121,7 +121,7 @@ public class Bone implements Updatable {
         worldX = pa * x + pb * y + parent.worldX;
         worldY = pc * x + pd * y + parent.worldY;
 
-        if (RuntimesLoader.spineVersion > 34) {
+        if (SpineVersion.get() > 34) {
             switch (data.transformMode) {
                 case normal -> {
                     a = pa * la + pb * lc;
@@ -140,7 +140,7 @@ public class Bone implements Updatable {
                     float s = pa * pa + pc * pc, prx;
                     if (s > 0.0001f) {
                         s = Math.abs(pa * pd - pb * pc) / s;
-                        if (RuntimesLoader.spineVersion == 38) {
+                        if (SpineVersion.get() == 38) {
                             pa /= skeleton.scaleX;
                             pc /= skeleton.scaleY;
                         }
@@ -166,7 +166,7 @@ public class Bone implements Updatable {
                 case noScale, noScaleOrReflection -> {
                     float cos = cosDeg(rotation), sin = sinDeg(rotation);
                     float za, zc;
-                    if (RuntimesLoader.spineVersion > 36) {
+                    if (SpineVersion.get() > 36) {
                         za = (pa * cos + pb * sin) / skeleton.scaleX;
                         zc = (pc * cos + pd * sin) / skeleton.scaleY;
                     } else {
@@ -180,7 +180,7 @@ public class Bone implements Updatable {
                     s = (float) Math.sqrt(za * za + zc * zc);
                     boolean b1 = pa * pd - pb * pc < 0;
 
-                    if (RuntimesLoader.spineVersion > 36 && data.transformMode == TransformMode.noScale
+                    if (SpineVersion.get() > 36 && data.transformMode == TransformMode.noScale
                             && b1 == (skeleton.scaleX < 0 == skeleton.scaleY < 0)) s = -s;
 
                     float r = PI / 2 + atan2(zc, za);
@@ -191,7 +191,7 @@ public class Bone implements Updatable {
                     lc = sinDeg(shearX) * scaleX;
                     ld = sinDeg(90 + shearY) * scaleY;
 
-                    if (RuntimesLoader.spineVersion == 36 &&
+                    if (SpineVersion.get() == 36 &&
                             (data.transformMode != TransformMode.noScaleOrReflection ? b1 : skeleton.flipX != skeleton.flipY)) {
                         zb = -zb;
                         zd = -zd;
@@ -202,7 +202,7 @@ public class Bone implements Updatable {
                     c = zc * la + zd * lc;
                     d = zc * lb + zd * ld;
 
-                    if (RuntimesLoader.spineVersion == 35 &&
+                    if (SpineVersion.get() == 35 &&
                             (data.transformMode != TransformMode.noScaleOrReflection ? b1 : skeleton.flipX != skeleton.flipY)) {
                         b = -b;
                         d = -d;
@@ -281,7 +281,7 @@ public class Bone implements Updatable {
             }
         }
 
-        if (RuntimesLoader.spineVersion > 36) {
+        if (SpineVersion.get() > 36) {
             a *= skeleton.scaleX;
             b *= skeleton.scaleX;
             c *= skeleton.scaleY;
@@ -470,7 +470,7 @@ public class Bone implements Updatable {
     }
 
     public float getWorldX() {
-        if (RuntimesLoader.spineVersion < 35)
+        if (SpineVersion.get() < 35)
             return skeleton.x + worldX;
         return worldX;
     }
@@ -480,7 +480,7 @@ public class Bone implements Updatable {
     }
 
     public float getWorldY() {
-        if (RuntimesLoader.spineVersion < 35)
+        if (SpineVersion.get() < 35)
             return skeleton.y + worldY;
         return worldY;
     }
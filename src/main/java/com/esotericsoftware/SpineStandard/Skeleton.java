@@ -1,12 +1,14 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.FloatArray;
 import com.esotericsoftware.SpineStandard.attachments.Attachment;
+import com.esotericsoftware.SpineStandard.attachments.MeshAttachment;
 import com.esotericsoftware.SpineStandard.attachments.PathAttachment;
+import com.esotericsoftware.SpineStandard.attachments.RegionAttachment;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 import static com.esotericsoftware.SpineStandard.utils.SpineUtils.arraycopy;
 
@@ -109,7 +111,7 @@ public class Skeleton {
     //     skin = skeleton.skin;
     //     color = new Color(skeleton.color);
     //     time = skeleton.time;
-    //     if (RuntimesLoader.spineVersion > 36) {
+    //     if (SpineVersion.get() > 36) {
     //         scaleX = skeleton.scaleX;
     //         scaleY = skeleton.scaleY;
     //     } else {
@@ -124,7 +126,7 @@ public class Skeleton {
         updateCache.clear();
         updateCacheReset.clear();
 
-        switch (RuntimesLoader.spineVersion) {
+        switch (SpineVersion.get()) {
             case 38 -> {
                 int boneCount = bones.size;
                 Object[] bones = this.bones.items;
@@ -310,7 +312,7 @@ public class Skeleton {
     }
 
     private void sortIkConstraint(IkConstraint constraint) {
-        if (RuntimesLoader.spineVersion == 38) {
+        if (SpineVersion.get() == 38) {
             constraint.active = constraint.target.active &&
                     (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)));
             if (!constraint.active) return;
@@ -333,7 +335,7 @@ public class Skeleton {
     }
 
     private void sortPathConstraint(PathConstraint constraint) {
-        // if (RuntimesLoader.spineVersion == 38) {
+        // if (SpineVersion.get() == 38) {
         //     constraint.active = constraint.target.bone.active &&
         //             (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)));
         //     if (!constraint.active) return;
@@ -345,7 +347,7 @@ public class Skeleton {
         // if (skin != null) sortPathConstraintAttachment(skin, slotIndex, slotBone);
         // if (data.defaultSkin != null && data.defaultSkin != skin)
         //     sortPathConstraintAttachment(data.defaultSkin, slotIndex, slotBone);
-        // if (RuntimesLoader.spineVersion < 37) {
+        // if (SpineVersion.get() < 37) {
         //     for (int ii = 0, nn = data.skins.size; ii < nn; ii++)
         //         sortPathConstraintAttachment(data.skins.get(ii), slotIndex, slotBone);
         // }
@@ -363,7 +365,7 @@ public class Skeleton {
     }
 
     private void sortTransformConstraint(TransformConstraint constraint) {
-        if (RuntimesLoader.spineVersion == 38) {
+        if (SpineVersion.get() == 38) {
             constraint.active = constraint.target.active &&
                     (!constraint.data.skinRequired || (skin != null && skin.constraints.contains(constraint.data, true)));
             if (!constraint.active) return;
@@ -372,7 +374,7 @@ public class Skeleton {
         sortBone(constraint.target);
         Array<Bone> constrained = constraint.bones;
         int boneCount = constrained.size;
-        if (RuntimesLoader.spineVersion > 35) {
+        if (SpineVersion.get() > 35) {
             if (constraint.data.local) {
                 for (int i = 0; i < boneCount; i++) {
                     Bone child = constrained.get(i);
@@ -395,7 +397,7 @@ public class Skeleton {
     }
 
     private void sortPathConstraintAttachment(Skin skin, int slotIndex, Bone slotBone) {
-        // if (RuntimesLoader.spineVersion > 37) {
+        // if (SpineVersion.get() > 37) {
         //     for (SkinEntry entry : skin.attachments.keys())
         //         if (entry.getSlotIndex() == slotIndex)
         //             sortPathConstraintAttachment(entry.getAttachment(), slotBone);
@@ -432,7 +434,7 @@ public class Skeleton {
     private void sortReset(Array<Bone> bones) {
         for (int i = 0, n = bones.size; i < n; i++) {
             Bone bone = bones.get(i);
-            if (!bone.active && RuntimesLoader.spineVersion == 38) continue;
+            if (!bone.active && SpineVersion.get() == 38) continue;
             if (bone.sorted) sortReset(bone.children);
             bone.sorted = false;
         }
@@ -479,7 +481,7 @@ public class Skeleton {
         // float lb = cosDeg(rotationY) * rootBone.scaleY;
         // float lc = sinDeg(rootBone.rotation + rootBone.shearX) * rootBone.scaleX;
         // float ld = sinDeg(rotationY) * rootBone.scaleY;
-        // if (RuntimesLoader.spineVersion > 36) {
+        // if (SpineVersion.get() > 36) {
         //     rootBone.a = (pa * la + pb * lc) * scaleX;
         //     rootBone.b = (pa * lb + pb * ld) * scaleX;
         //     rootBone.c = (pc * la + pd * lc) * scaleY;
@@ -519,7 +521,7 @@ public class Skeleton {
             IkConstraint constraint = ikConstraints.get(i);
             constraint.bendDirection = constraint.data.bendDirection;
             constraint.mix = constraint.data.mix;
-            switch (RuntimesLoader.spineVersion) {
+            switch (SpineVersion.get()) {
                 case 38:
                     constraint.softness = constraint.data.softness;
                 case 37, 36:
@@ -628,7 +630,7 @@ public class Skeleton {
             }
         }
         skin = newSkin;
-        if (RuntimesLoader.spineVersion == 38)
+        if (SpineVersion.get() == 38)
             updateCache();
     }
 
@@ -694,66 +696,66 @@ public class Skeleton {
     }
 
     public void getBounds(Vector2 offset, Vector2 size, FloatArray temp) {
-        // if (offset == null) throw new IllegalArgumentException("offset cannot be null.");
-        // if (size == null) throw new IllegalArgumentException("size cannot be null.");
-        // if (temp == null) throw new IllegalArgumentException("temp cannot be null.");
-        // Array<Slot> drawOrder = this.drawOrder;
-        // float minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
-        // for (int i = 0, n = drawOrder.size; i < n; i++) {
-        //     Slot slot = drawOrder.get(i);
-        //     if (!slot.bone.active && RuntimesLoader.spineVersion == 38) continue;
-        //     int verticesLength = 0;
-        //     float[] vertices = null;
-        //     Attachment attachment = slot.attachment;
-        //     if (attachment instanceof RegionAttachment) {
-        //         verticesLength = 8;
-        //         vertices = temp.setSize(8);
-        //         ((RegionAttachment) attachment).computeWorldVertices(slot.getBone(), vertices, 0, 2);
-        //     } else if (attachment instanceof MeshAttachment) {
-        //         MeshAttachment mesh = (MeshAttachment) attachment;
-        //         verticesLength = mesh.getWorldVerticesLength();
-        //         vertices = temp.setSize(verticesLength);
-        //         mesh.computeWorldVertices(slot, 0, verticesLength, vertices, 0, 2);
-        //     }
-        //     if (vertices != null) {
-        //         for (int ii = 0; ii < verticesLength; ii += 2) {
-        //             float x = vertices[ii], y = vertices[ii + 1];
-        //             minX = Math.min(minX, x);
-        //             minY = Math.min(minY, y);
-        //             maxX = Math.max(maxX, x);
-        //             maxY = Math.max(maxY, y);
-        //         }
-        //     }
-        // }
-        // offset.set(minX, minY);
-        // size.set(maxX - minX, maxY - minY);
+        if (offset == null) throw new IllegalArgumentException("offset cannot be null.");
+        if (size == null) throw new IllegalArgumentException("size cannot be null.");
+        if (temp == null) throw new IllegalArgumentException("temp cannot be null.");
+        Array<Slot> drawOrder = this.drawOrder;
+        float minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0, n = drawOrder.size; i < n; i++) {
+            Slot slot = drawOrder.get(i);
+            if (!slot.bone.active && SpineVersion.get() == 38) continue;
+            int verticesLength = 0;
+            float[] vertices = null;
+            Attachment attachment = slot.attachment;
+            if (attachment instanceof RegionAttachment) {
+                verticesLength = 8;
+                vertices = temp.setSize(8);
+                ((RegionAttachment) attachment).computeWorldVertices(slot.getBone(), vertices, 0, 2);
+            } else if (attachment instanceof MeshAttachment) {
+                MeshAttachment mesh = (MeshAttachment) attachment;
+                verticesLength = mesh.getWorldVerticesLength();
+                vertices = temp.setSize(verticesLength);
+                mesh.computeWorldVertices(slot, 0, verticesLength, vertices, 0, 2);
+            }
+            if (vertices != null) {
+                for (int ii = 0; ii < verticesLength; ii += 2) {
+                    float x = vertices[ii], y = vertices[ii + 1];
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        offset.set(minX, minY);
+        size.set(maxX - minX, maxY - minY);
     }
 
     public void getBounds(Vector2 offset, Vector2 size) { // Spine35
-        // if (offset == null) throw new IllegalArgumentException("offset cannot be null.");
-        // if (size == null) throw new IllegalArgumentException("size cannot be null.");
-        // Array<Slot> drawOrder = this.drawOrder;
-        // float minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
-        // for (int i = 0, n = drawOrder.size; i < n; i++) {
-        //     Slot slot = drawOrder.get(i);
-        //     float[] vertices = null;
-        //     Attachment attachment = slot.attachment;
-        //     if (attachment instanceof RegionAttachment)
-        //         vertices = ((RegionAttachment) attachment).updateWorldVertices(slot, false);
-        //     else if (attachment instanceof MeshAttachment)
-        //         vertices = ((MeshAttachment) attachment).updateWorldVertices(slot, true);
-        //     if (vertices != null) {
-        //         for (int ii = 0, nn = vertices.length; ii < nn; ii += 5) {
-        //             float x = vertices[ii], y = vertices[ii + 1];
-        //             minX = Math.min(minX, x);
-        //             minY = Math.min(minY, y);
-        //             maxX = Math.max(maxX, x);
-        //             maxY = Math.max(maxY, y);
-        //         }
-        //     }
-        // }
-        // offset.set(minX, minY);
-        // size.set(maxX - minX, maxY - minY);
+        if (offset == null) throw new IllegalArgumentException("offset cannot be null.");
+        if (size == null) throw new IllegalArgumentException("size cannot be null.");
+        Array<Slot> drawOrder = this.drawOrder;
+        float minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0, n = drawOrder.size; i < n; i++) {
+            Slot slot = drawOrder.get(i);
+            float[] vertices = null;
+            Attachment attachment = slot.attachment;
+            if (attachment instanceof RegionAttachment)
+                vertices = ((RegionAttachment) attachment).updateWorldVertices(slot, false);
+            else if (attachment instanceof MeshAttachment)
+                vertices = ((MeshAttachment) attachment).updateWorldVertices(slot, true);
+            if (vertices != null) {
+                for (int ii = 0, nn = vertices.length; ii < nn; ii += 5) {
+                    float x = vertices[ii], y = vertices[ii + 1];
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        offset.set(minX, minY);
+        size.set(maxX - minX, maxY - minY);
     }
 
     public Color getColor() {
@@ -1,6 +1,7 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
+import com.QYun.Spine.BinaryInput;
+import com.QYun.Spine.LazyAnimations;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
@@ -12,8 +13,8 @@ import com.esotericsoftware.SpineStandard.PathConstraintData.RotateMode;
 import com.esotericsoftware.SpineStandard.PathConstraintData.SpacingMode;
 import com.esotericsoftware.SpineStandard.SkeletonJson.LinkedMesh;
 import com.esotericsoftware.SpineStandard.attachments.*;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.util.Objects;
 
@@ -30,10 +31,11 @@ public class SkeletonBinary {
     static public final byte PATH_MIX = 2;
     static public final byte CURVE_STEPPED = 1;
     static public final byte CURVE_BEZIER = 2;
-    static private final Color tempColor1 = new Color(), tempColor2 = new Color();
+    private final Color tempColor1 = new Color(), tempColor2 = new Color();
     private final AttachmentLoader attachmentLoader;
     private final Array<LinkedMesh> linkedMeshes = new Array<>();
     private float scale = 1;
+    private boolean lazyAnimations = true;
 
     public SkeletonBinary(TextureAtlas atlas) {
         attachmentLoader = new AtlasAttachmentLoader(atlas);
@@ -53,13 +55,18 @@ public class SkeletonBinary {
         this.scale = scale;
     }
 
+    // false decodes every 3.8 animation while loading, each one straight after the previous as before they were decoded on first play
+    public void setLazyAnimations(boolean lazyAnimations) {
+        this.lazyAnimations = lazyAnimations;
+    }
+
     public SkeletonData readSkeletonData(FileHandle file) {
         if (file == null) throw new IllegalArgumentException("file cannot be null.");
         float scale = this.scale;
         SkeletonData skeletonData = new SkeletonData();
         skeletonData.name = file.nameWithoutExtension();
 
-        if (RuntimesLoader.spineVersion > 37) {
+        if (SpineVersion.get() > 37) {
             try (SkeletonInput input = new SkeletonInput(file)) {
                 skeletonData.hash = input.readString();
                 if (skeletonData.hash.isEmpty()) skeletonData.hash = null;
@@ -212,49 +219,12 @@ public class SkeletonBinary {
                     }
                     o[i] = data;
                 }
-                o = skeletonData.animations.setSize(n = input.readInt(true));
-                for (int i = 0; i < n; i++)
-                    o[i] = readAnimation(input, input.readString(), skeletonData);
+                readAnimations(input, skeletonData);
             } catch (IOException ex) {
                 throw new SerializationException("Error reading skeleton file.", ex);
             }
         } else {
-            try (DataInput input = new DataInput(file.read(512)) {
-                private char[] chars = new char[32];
-
-                public String readString() throws IOException {
-                    int byteCount = readInt(true);
-                    switch (byteCount) {
-                        case 0:
-                            return null;
-                        case 1:
-                            return "";
-                    }
-                    byteCount--;
-                    if (chars.length < byteCount) chars = new char[byteCount];
-                    char[] chars = this.chars;
-                    int charCount = 0;
-                    for (int i = 0; i < byteCount; ) {
-                        int b = read();
-                        switch (b >> 4) {
-                            case -1 -> throw new EOFException();
-                            case 12, 13 -> {
-                                chars[charCount++] = (char) ((b & 0x1F) << 6 | read() & 0x3F);
-                                i += 2;
-                            }
-                            case 14 -> {
-                                chars[charCount++] = (char) ((b & 0x0F) << 12 | (read() & 0x3F) << 6 | read() & 0x3F);
-                                i += 3;
-                            }
-                            default -> {
-                                chars[charCount++] = (char) b;
-                                i++;
-                            }
-                        }
-                    }
-                    return new String(chars, 0, charCount);
-                }
-            }) {
+            try (BinaryInput input = new BinaryInput(file)) {
                 skeletonData.hash = input.readString();
                 if (Objects.requireNonNull(skeletonData.hash).isEmpty()) skeletonData.hash = null;
                 skeletonData.version = input.readString();
@@ -264,11 +234,11 @@ public class SkeletonBinary {
 
                 boolean nonessential = input.readBoolean();
                 if (nonessential) {
-                    if (RuntimesLoader.spineVersion > 34)
+                    if (SpineVersion.get() > 34)
                         skeletonData.fps = input.readFloat();
                     skeletonData.imagesPath = input.readString();
                     if (Objects.requireNonNull(skeletonData.imagesPath).isEmpty()) skeletonData.imagesPath = null;
-                    if (RuntimesLoader.spineVersion == 37) {
+                    if (SpineVersion.get() == 37) {
                         skeletonData.audioPath = input.readString();
                         if (Objects.requireNonNull(skeletonData.audioPath).isEmpty()) skeletonData.audioPath = null;
                     }
@@ -286,7 +256,7 @@ public class SkeletonBinary {
                     data.shearX = input.readFloat();
                     data.shearY = input.readFloat();
                     data.length = input.readFloat() * scale;
-                    if (RuntimesLoader.spineVersion < 35) {
+                    if (SpineVersion.get() < 35) {
                         data.inheritRotation = input.readBoolean();
                         data.inheritScale = input.readBoolean();
                     } else data.transformMode = TransformMode.values[input.readInt(true)];
@@ -299,7 +269,7 @@ public class SkeletonBinary {
                     BoneData boneData = skeletonData.bones.get(input.readInt(true));
                     SlotData data = new SlotData(i, slotName, boneData);
                     Color.rgba8888ToColor(data.color, input.readInt());
-                    if (RuntimesLoader.spineVersion > 35) {
+                    if (SpineVersion.get() > 35) {
                         int darkColor = input.readInt();
                         if (darkColor != -1) Color.rgb888ToColor(data.darkColor = new Color(), darkColor);
                     }
@@ -310,14 +280,14 @@ public class SkeletonBinary {
 
                 for (int i = 0, n = input.readInt(true); i < n; i++) {
                     IkConstraintData data = new IkConstraintData(input.readString());
-                    if (RuntimesLoader.spineVersion > 34)
+                    if (SpineVersion.get() > 34)
                         data.order = input.readInt(true);
                     for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
                         data.bones.add(skeletonData.bones.get(input.readInt(true)));
                     data.target = skeletonData.bones.get(input.readInt(true));
                     data.mix = input.readFloat();
                     data.bendDirection = input.readByte();
-                    if (RuntimesLoader.spineVersion == 37) {
+                    if (SpineVersion.get() == 37) {
                         data.compress = input.readBoolean();
                         data.stretch = input.readBoolean();
                         data.uniform = input.readBoolean();
@@ -327,12 +297,12 @@ public class SkeletonBinary {
 
                 for (int i = 0, n = input.readInt(true); i < n; i++) {
                     TransformConstraintData data = new TransformConstraintData(input.readString());
-                    if (RuntimesLoader.spineVersion > 34)
+                    if (SpineVersion.get() > 34)
                         data.order = input.readInt(true);
                     for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
                         data.bones.add(skeletonData.bones.get(input.readInt(true)));
                     data.target = skeletonData.bones.get(input.readInt(true));
-                    if (RuntimesLoader.spineVersion > 35) {
+                    if (SpineVersion.get() > 35) {
                         data.local = input.readBoolean();
                         data.relative = input.readBoolean();
                     }
@@ -351,7 +321,7 @@ public class SkeletonBinary {
 
                 for (int i = 0, n = input.readInt(true); i < n; i++) {
                     PathConstraintData data = new PathConstraintData(input.readString());
-                    if (RuntimesLoader.spineVersion > 34)
+                    if (SpineVersion.get() > 34)
                         data.order = input.readInt(true);
                     for (int ii = 0, nn = input.readInt(true); ii < nn; ii++)
                         data.bones.add(skeletonData.bones.get(input.readInt(true)));
@@ -396,7 +366,7 @@ public class SkeletonBinary {
                     data.intValue = input.readInt(false);
                     data.floatValue = input.readFloat();
                     data.stringValue = input.readString();
-                    if (RuntimesLoader.spineVersion == 37) {
+                    if (SpineVersion.get() == 37) {
                         data.audioPath = input.readString();
                         if (data.audioPath != null) {
                             data.volume = input.readFloat();
@@ -459,7 +429,7 @@ public class SkeletonBinary {
                                       String attachmentName, boolean nonessential) throws IOException {
         float scale = this.scale;
         String name = input.readStringRef();
-        if (RuntimesLoader.spineVersion == 37)
+        if (SpineVersion.get() == 37)
             name = input.readString();
 
         if (name == null) name = attachmentName;
@@ -504,7 +474,7 @@ public class SkeletonBinary {
             }
             case mesh -> {
                 String path = input.readStringRef();
-                if (RuntimesLoader.spineVersion == 37)
+                if (SpineVersion.get() == 37)
                     name = input.readString();
 
                 int color = input.readInt();
@@ -544,7 +514,7 @@ public class SkeletonBinary {
                 int color = input.readInt();
                 String skinName = input.readStringRef();
                 String parent = input.readStringRef();
-                if (RuntimesLoader.spineVersion == 37) {
+                if (SpineVersion.get() == 37) {
                     name = input.readString();
                     skinName = input.readString();
                     parent = input.readString();
@@ -561,15 +531,15 @@ public class SkeletonBinary {
                 if (mesh == null) return null;
                 mesh.setPath(path);
                 Color.rgba8888ToColor(mesh.getColor(), color);
-                if (RuntimesLoader.spineVersion == 37)
+                if (SpineVersion.get() == 37)
                     mesh.setInheritDeform(inheritDeform);
                 if (nonessential) {
                     mesh.setWidth(width * scale);
                     mesh.setHeight(height * scale);
                 }
-                if (RuntimesLoader.spineVersion == 38) {
+                if (SpineVersion.get() == 38) {
                     linkedMeshes.add(new LinkedMesh(mesh, skinName, slotIndex, parent, inheritDeform));
-                } else if (RuntimesLoader.spineVersion == 37) {
+                } else if (SpineVersion.get() == 37) {
                     linkedMeshes.add(new LinkedMesh(mesh, skinName, slotIndex, parent));
                 }
                 return mesh;
@@ -651,29 +621,150 @@ public class SkeletonBinary {
 
     private float[] readFloatArray(SkeletonInput input, int n, float scale) throws IOException {
         float[] array = new float[n];
-        if (scale == 1) {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat();
-        } else {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat() * scale;
-        }
+        input.readFloats(array, 0, n, scale);
         return array;
     }
 
     private short[] readShortArray(SkeletonInput input) throws IOException {
         int n = input.readInt(true);
         short[] array = new short[n];
-        for (int i = 0; i < n; i++)
-            array[i] = input.readShort();
+        input.readShorts(array, 0, n);
         return array;
     }
 
+    // Only names and offsets are read here, each animation is decoded from a copy of the animation bytes the first time it is played
+    private void readAnimations(SkeletonInput input, SkeletonData skeletonData) throws IOException {
+        int n = input.readInt(true), start = input.position();
+        if (!lazyAnimations) {
+            for (int i = 0; i < n; i++)
+                skeletonData.animations.add(readAnimation(input, input.readString(), skeletonData));
+            return;
+        }
+        Animation[] animations = new Animation[n];
+        int[] offsets = new int[n];
+        for (int i = 0; i < n; i++) {
+            animations[i] = new Animation(input.readString(), new Array<>(0), 0);
+            offsets[i] = input.position() - start;
+            skipAnimation(input, skeletonData);
+        }
+
+        SkeletonInput source = new SkeletonInput(input.copy(start, input.position()), input.strings);
+        LazyAnimations lazy = new LazyAnimations();
+        Object[] o = skeletonData.animations.setSize(n);
+        for (int i = 0; i < n; i++) {
+            Animation animation = animations[i];
+            int offset = offsets[i];
+            animation.lazy = lazy;
+            animation.decoder = () -> {
+                source.position(offset);
+                return readAnimation(source, animation.name, skeletonData);
+            };
+            o[i] = animation;
+        }
+    }
+
+    // Consumes exactly what readAnimation reads for 3.8, without building any timeline
+    private void skipAnimation(SkeletonInput input, SkeletonData skeletonData) throws IOException {
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                int timelineType = input.readByte();
+                int frameCount = input.readInt(true);
+                switch (timelineType) {
+                    case SLOT_ATTACHMENT -> {
+                        for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+                            input.skip(4);
+                            input.readInt(true);
+                        }
+                    }
+                    case SLOT_COLOR -> skipCurves(input, frameCount, 4);
+                    case SLOT_TWO_COLOR -> skipCurves(input, frameCount, 8);
+                }
+            }
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                int timelineType = input.readByte();
+                int frameCount = input.readInt(true);
+                switch (timelineType) {
+                    case BONE_ROTATE -> skipCurves(input, frameCount, 4);
+                    case BONE_TRANSLATE, BONE_SCALE, BONE_SHEAR -> skipCurves(input, frameCount, 8);
+                }
+            }
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            skipCurves(input, input.readInt(true), 8 + 3);
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            skipCurves(input, input.readInt(true), 16);
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                int timelineType = input.readByte();
+                int frameCount = input.readInt(true);
+                switch (timelineType) {
+                    case PATH_POSITION, PATH_SPACING -> skipCurves(input, frameCount, 4);
+                    case PATH_MIX -> skipCurves(input, frameCount, 8);
+                }
+            }
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.readInt(true);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                input.readInt(true);
+                for (int iii = 0, nnn = input.readInt(true); iii < nnn; iii++) {
+                    input.readInt(true);
+                    int frameCount = input.readInt(true);
+                    for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+                        input.skip(4);
+                        int end = input.readInt(true);
+                        if (end != 0) {
+                            input.readInt(true);
+                            input.skip(end << 2);
+                        }
+                        if (frameIndex < frameCount - 1) skipCurve(input);
+                    }
+                }
+            }
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.skip(4);
+            for (int ii = 0, nn = input.readInt(true); ii < nn; ii++) {
+                input.readInt(true);
+                input.readInt(true);
+            }
+        }
+        for (int i = 0, n = input.readInt(true); i < n; i++) {
+            input.skip(4);
+            EventData eventData = skeletonData.events.get(input.readInt(true));
+            input.readInt(false);
+            input.skip(4);
+            if (input.readBoolean()) input.readString();
+            if (eventData.audioPath != null) input.skip(8);
+        }
+    }
+
+    // A time and valueBytes per frame, every frame but the last followed by a curve
+    private void skipCurves(SkeletonInput input, int frameCount, int valueBytes) throws IOException {
+        for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
+            input.skip(4 + valueBytes);
+            if (frameIndex < frameCount - 1) skipCurve(input);
+        }
+    }
+
+    private void skipCurve(SkeletonInput input) throws IOException {
+        if (input.readByte() == CURVE_BEZIER) input.skip(16);
+    }
+
     private Animation readAnimation(SkeletonInput input, String name, SkeletonData skeletonData) {
         Array<Timeline> timelines = null;
-        if (RuntimesLoader.spineVersion == 38)
+        if (SpineVersion.get() == 38)
             timelines = new Array<>(32);
-        else if (RuntimesLoader.spineVersion == 37)
+        else if (SpineVersion.get() == 37)
             timelines = new Array<>();
 
         float scale = this.scale;
@@ -689,9 +780,9 @@ public class SkeletonBinary {
                             AttachmentTimeline timeline = new AttachmentTimeline(frameCount);
                             timeline.slotIndex = slotIndex;
                             for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
-                                if (RuntimesLoader.spineVersion == 38)
+                                if (SpineVersion.get() == 38)
                                     timeline.setFrame(frameIndex, input.readFloat(), input.readStringRef());
-                                else if (RuntimesLoader.spineVersion == 37)
+                                else if (SpineVersion.get() == 37)
                                     timeline.setFrame(frameIndex, input.readFloat(), input.readString());
                             }
                             Objects.requireNonNull(timelines).add(timeline);
@@ -771,10 +862,10 @@ public class SkeletonBinary {
                 IkConstraintTimeline timeline = new IkConstraintTimeline(frameCount);
                 timeline.ikConstraintIndex = index;
                 for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
-                    if (RuntimesLoader.spineVersion == 38) {
+                    if (SpineVersion.get() == 38) {
                         timeline.setFrame(frameIndex, input.readFloat(), input.readFloat(), input.readFloat() * scale, input.readByte(),
                                 input.readBoolean(), input.readBoolean());
-                    } else if (RuntimesLoader.spineVersion == 37) {
+                    } else if (SpineVersion.get() == 37) {
                         timeline.setFrame(frameIndex, input.readFloat(), input.readFloat(), input.readByte(), input.readBoolean(),
                                 input.readBoolean());
                     }
@@ -841,7 +932,7 @@ public class SkeletonBinary {
                     int slotIndex = input.readInt(true);
                     for (int iii = 0, nnn = input.readInt(true); iii < nnn; iii++) {
                         VertexAttachment attachment = (VertexAttachment) skin.getAttachment(slotIndex, input.readStringRef());
-                        if (RuntimesLoader.spineVersion == 37)
+                        if (SpineVersion.get() == 37)
                             attachment = (VertexAttachment) skin.getAttachment(slotIndex, input.readString());
                         boolean weighted = attachment.getBones() != null;
                         float[] vertices = attachment.getVertices();
@@ -859,14 +950,7 @@ public class SkeletonBinary {
                             else {
                                 deform = new float[deformLength];
                                 int start = input.readInt(true);
-                                end += start;
-                                if (scale == 1) {
-                                    for (int v = start; v < end; v++)
-                                        deform[v] = input.readFloat();
-                                } else {
-                                    for (int v = start; v < end; v++)
-                                        deform[v] = input.readFloat() * scale;
-                                }
+                                input.readFloats(deform, start, end, scale);
                                 if (!weighted) {
                                     for (int v = 0, vn = deform.length; v < vn; v++)
                                         deform[v] += vertices[v];
@@ -930,7 +1014,7 @@ public class SkeletonBinary {
             throw new SerializationException("Error reading skeleton file.", ex);
         }
         Objects.requireNonNull(timelines).shrink();
-        if (RuntimesLoader.spineVersion == 37)
+        if (SpineVersion.get() == 37)
             skeletonData.animations.add(new Animation(name, timelines, duration));
         return new Animation(name, timelines, duration);
     }
@@ -942,7 +1026,7 @@ public class SkeletonBinary {
         }
     }
 
-    private Skin readSkin(DataInput input, SkeletonData skeletonData, String skinName, boolean nonessential) throws IOException {
+    private Skin readSkin(BinaryInput input, SkeletonData skeletonData, String skinName, boolean nonessential) throws IOException {
         int slotCount = input.readInt(true);
         if (slotCount == 0) return null;
         Skin skin = new Skin(skinName);
@@ -957,7 +1041,7 @@ public class SkeletonBinary {
         return skin;
     }
 
-    private Attachment readAttachment(DataInput input, SkeletonData skeletonData, Skin skin, int slotIndex, String attachmentName,
+    private Attachment readAttachment(BinaryInput input, SkeletonData skeletonData, Skin skin, int slotIndex, String attachmentName,
                                       boolean nonessential) throws IOException {
         float scale = this.scale;
 
@@ -1119,7 +1203,7 @@ public class SkeletonBinary {
         return null;
     }
 
-    private Vertices readVertices(DataInput input, int vertexCount) throws IOException {
+    private Vertices readVertices(BinaryInput input, int vertexCount) throws IOException {
         int verticesLength = vertexCount << 1;
         Vertices vertices = new Vertices();
         if (!input.readBoolean()) {
@@ -1143,27 +1227,20 @@ public class SkeletonBinary {
         return vertices;
     }
 
-    private float[] readFloatArray(DataInput input, int n, float scale) throws IOException {
+    private float[] readFloatArray(BinaryInput input, int n, float scale) throws IOException {
         float[] array = new float[n];
-        if (scale == 1) {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat();
-        } else {
-            for (int i = 0; i < n; i++)
-                array[i] = input.readFloat() * scale;
-        }
+        input.readFloats(array, 0, n, scale);
         return array;
     }
 
-    private short[] readShortArray(DataInput input) throws IOException {
+    private short[] readShortArray(BinaryInput input) throws IOException {
         int n = input.readInt(true);
         short[] array = new short[n];
-        for (int i = 0; i < n; i++)
-            array[i] = input.readShort();
+        input.readShorts(array, 0, n);
         return array;
     }
 
-    private void readAnimation(DataInput input, String name, SkeletonData skeletonData) {
+    private void readAnimation(BinaryInput input, String name, SkeletonData skeletonData) {
         Array<Timeline> timelines = new Array<>();
         float scale = this.scale;
         float duration = 0;
@@ -1258,7 +1335,7 @@ public class SkeletonBinary {
                 IkConstraintTimeline timeline = new IkConstraintTimeline(frameCount);
                 timeline.ikConstraintIndex = index;
                 for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
-                    if (RuntimesLoader.spineVersion > 36)
+                    if (SpineVersion.get() > 36)
                         timeline.setFrame(frameIndex, input.readFloat(), input.readFloat(), input.readByte(), input.readBoolean(), input.readBoolean());
                     else timeline.setFrame(frameIndex, input.readFloat(), input.readFloat(), input.readByte());
                     if (frameIndex < frameCount - 1) readCurve(input, frameIndex, timeline);
@@ -1342,14 +1419,7 @@ public class SkeletonBinary {
                             else {
                                 deform = new float[deformLength];
                                 int start = input.readInt(true);
-                                end += start;
-                                if (scale == 1) {
-                                    for (int v = start; v < end; v++)
-                                        deform[v] = input.readFloat();
-                                } else {
-                                    for (int v = start; v < end; v++)
-                                        deform[v] = input.readFloat() * scale;
-                                }
+                                input.readFloats(deform, start, end, scale);
                                 if (!weighted) {
                                     for (int v = 0, vn = deform.length; v < vn; v++)
                                         deform[v] += vertices[v];
@@ -1405,7 +1475,7 @@ public class SkeletonBinary {
                     event.intValue = input.readInt(false);
                     event.floatValue = input.readFloat();
                     event.stringValue = input.readBoolean() ? input.readString() : eventData.stringValue;
-                    if (RuntimesLoader.spineVersion > 36 && event.getData().audioPath != null) {
+                    if (SpineVersion.get() > 36 && event.getData().audioPath != null) {
                         event.volume = input.readFloat();
                         event.balance = input.readFloat();
                     }
@@ -1421,7 +1491,7 @@ public class SkeletonBinary {
         skeletonData.animations.add(new Animation(name, timelines, duration));
     }
 
-    private void readCurve(DataInput input, int frameIndex, CurveTimeline timeline) throws IOException {
+    private void readCurve(BinaryInput input, int frameIndex, CurveTimeline timeline) throws IOException {
         switch (input.readByte()) {
             case CURVE_STEPPED -> timeline.setStepped(frameIndex);
             case CURVE_BEZIER -> setCurve(timeline, frameIndex, input.readFloat(), input.readFloat(), input.readFloat(), input.readFloat());
@@ -1437,50 +1507,21 @@ public class SkeletonBinary {
         float[] vertices;
     }
 
-    static class SkeletonInput extends DataInput {
+    static class SkeletonInput extends BinaryInput {
         Array<String> strings;
-        private char[] chars = new char[32];
 
         public SkeletonInput(FileHandle file) {
-            super(file.read(512));
+            super(file);
+        }
+
+        public SkeletonInput(byte[] bytes, Array<String> strings) {
+            super(bytes);
+            this.strings = strings;
         }
 
         public String readStringRef() throws IOException {
             int index = readInt(true);
             return index == 0 ? null : strings.get(index - 1);
         }
-
-        public String readString() throws IOException {
-            int byteCount = readInt(true);
-            switch (byteCount) {
-                case 0:
-                    return null;
-                case 1:
-                    return "";
-            }
-            byteCount--;
-            if (chars.length < byteCount) chars = new char[byteCount];
-            char[] chars = this.chars;
-            int charCount = 0;
-            for (int i = 0; i < byteCount; ) {
-                int b = read();
-                switch (b >> 4) {
-                    case -1 -> throw new EOFException();
-                    case 12, 13 -> {
-                        chars[charCount++] = (char) ((b & 0x1F) << 6 | read() & 0x3F);
-                        i += 2;
-                    }
-                    case 14 -> {
-                        chars[charCount++] = (char) ((b & 0x0F) << 12 | (read() & 0x3F) << 6 | read() & 0x3F);
-                        i += 3;
-                    }
-                    default -> {
-                        chars[charCount++] = (char) b;
-                        i++;
-                    }
-                }
-            }
-            return new String(chars, 0, charCount);
-        }
     }
 }
@@ -1,6 +1,7 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
+import com.QYun.Spine.LazyAnimations;
+import com.QYun.Spine.SkeletonJsonReader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
@@ -11,6 +12,9 @@ import com.esotericsoftware.SpineStandard.PathConstraintData.PositionMode;
 import com.esotericsoftware.SpineStandard.PathConstraintData.RotateMode;
 import com.esotericsoftware.SpineStandard.PathConstraintData.SpacingMode;
 import com.esotericsoftware.SpineStandard.attachments.*;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
+
+import java.util.function.Supplier;
 
 import static com.esotericsoftware.SpineStandard.utils.SpineUtils.arraycopy;
 
@@ -39,22 +43,90 @@ public class SkeletonJson {
 
     public SkeletonData readSkeletonData(FileHandle file) {
         if (file == null) throw new IllegalArgumentException("file cannot be null.");
-        float scale = this.scale;
         SkeletonData skeletonData = new SkeletonData();
         skeletonData.name = file.nameWithoutExtension();
-        JsonValue root = new JsonReader().parse(file);
+        try {
+            readSkeletonData(file, skeletonData);
+        } catch (RuntimeException ex) {
+            // Sections out of the editor's order or a broken file, the tree reads it as before and reports its own error
+            linkedMeshes.clear();
+            return readSkeletonData(file.nameWithoutExtension(), new JsonReader().parse(file));
+        }
+        skeletonData.bones.shrink();
+        skeletonData.slots.shrink();
+        skeletonData.skins.shrink();
+        skeletonData.events.shrink();
+        skeletonData.animations.shrink();
+        skeletonData.ikConstraints.shrink();
+        return skeletonData;
+    }
+
+    // The whole document as one tree, how every file was read before skins and animations were streamed
+    public SkeletonData readSkeletonData(String name, JsonValue root) {
+        SkeletonData skeletonData = new SkeletonData();
+        skeletonData.name = name;
+        readSkeletonData(root, skeletonData);
+        skeletonData.bones.shrink();
+        skeletonData.slots.shrink();
+        skeletonData.skins.shrink();
+        skeletonData.events.shrink();
+        skeletonData.animations.shrink();
+        skeletonData.ikConstraints.shrink();
+        return skeletonData;
+    }
+
+    // Skins and animations are read as the parser reaches them, the document is never held as one tree
+    private void readSkeletonData(FileHandle file, SkeletonData skeletonData) {
+        LazyAnimations lazy = new LazyAnimations();
+        new SkeletonJsonReader() {
+            protected void readHeader(JsonValue root) {
+                SkeletonJson.this.readHeader(root, skeletonData);
+            }
+
+            protected void readSkin(JsonValue skinMap) {
+                SkeletonJson.this.readSkin(skinMap, skeletonData);
+            }
+
+            protected void readEvents(JsonValue root) {
+                SkeletonJson.this.readEvents(root, skeletonData);
+            }
+
+            protected void readAnimation(JsonValue animationMap) {
+                skeletonData.animations.add(SkeletonJson.this.readAnimation(animationMap, skeletonData));
+            }
+
+            protected void readAnimation(String name, Supplier<JsonValue> animationMap) {
+                Animation animation = new Animation(name, new Array<>(0), 0);
+                animation.lazy = lazy;
+                animation.decoder = () -> SkeletonJson.this.readAnimation(animationMap.get(), skeletonData);
+                skeletonData.animations.add(animation);
+            }
+        }.read(file);
+    }
+
+    private void readSkeletonData(JsonValue root, SkeletonData skeletonData) {
+        readHeader(root, skeletonData);
+        for (JsonValue skinMap = root.getChild("skins"); skinMap != null; skinMap = skinMap.next)
+            readSkin(skinMap, skeletonData);
+        readEvents(root, skeletonData);
+        for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next)
+            skeletonData.animations.add(readAnimation(animationMap, skeletonData));
+    }
+
+    private void readHeader(JsonValue root, SkeletonData skeletonData) {
+        float scale = this.scale;
         JsonValue skeletonMap = root.get("skeleton");
         if (skeletonMap != null) {
             skeletonData.hash = skeletonMap.getString("hash", null);
             skeletonData.version = skeletonMap.getString("spine", null);
-            if (RuntimesLoader.spineVersion == 38) {
+            if (SpineVersion.get() == 38) {
                 skeletonData.x = skeletonMap.getFloat("x", 0);
                 skeletonData.y = skeletonMap.getFloat("y", 0);
             }
             skeletonData.width = skeletonMap.getFloat("width", 0);
             skeletonData.height = skeletonMap.getFloat("height", 0);
             skeletonData.imagesPath = skeletonMap.getString("images", null);
-            if (RuntimesLoader.spineVersion > 36) {
+            if (SpineVersion.get() > 36) {
                 skeletonData.fps = skeletonMap.getFloat("fps", 30);
                 skeletonData.audioPath = skeletonMap.getString("audio", null);
             }
@@ -75,9 +147,9 @@ public class SkeletonJson {
             data.scaleY = boneMap.getFloat("scaleY", 1);
             data.shearX = boneMap.getFloat("shearX", 0);
             data.shearY = boneMap.getFloat("shearY", 0);
-            if (RuntimesLoader.spineVersion > 34) {
+            if (SpineVersion.get() > 34) {
                 data.transformMode = TransformMode.valueOf(boneMap.getString("transform", TransformMode.normal.name()));
-                if (RuntimesLoader.spineVersion == 38)
+                if (SpineVersion.get() == 38)
                     data.skinRequired = boneMap.getBoolean("skin", false);
             } else {
                 data.inheritRotation = boneMap.getBoolean("inheritRotation", true);
@@ -95,7 +167,7 @@ public class SkeletonJson {
             SlotData data = new SlotData(skeletonData.slots.size, slotName, boneData);
             String color = slotMap.getString("color", null);
             if (color != null) data.getColor().set(Color.valueOf(color));
-            if (RuntimesLoader.spineVersion > 35) {
+            if (SpineVersion.get() > 35) {
                 String dark = slotMap.getString("dark", null);
                 if (dark != null) data.setDarkColor(Color.valueOf(dark));
             }
@@ -105,9 +177,9 @@ public class SkeletonJson {
         }
         for (JsonValue constraintMap = root.getChild("ik"); constraintMap != null; constraintMap = constraintMap.next) {
             IkConstraintData data = new IkConstraintData(constraintMap.getString("name"));
-            if (RuntimesLoader.spineVersion > 34)
+            if (SpineVersion.get() > 34)
                 data.order = constraintMap.getInt("order", 0);
-            if (RuntimesLoader.spineVersion > 37) {
+            if (SpineVersion.get() > 37) {
                 data.skinRequired = constraintMap.getBoolean("skin", false);
                 for (JsonValue entry = constraintMap.getChild("bones"); entry != null; entry = entry.next) {
                     BoneData bone = skeletonData.findBone(entry.asString());
@@ -127,7 +199,7 @@ public class SkeletonJson {
             if (data.target == null) throw new SerializationException("IK target bone not found: " + targetName);
             data.mix = constraintMap.getFloat("mix", 1);
             data.bendDirection = constraintMap.getBoolean("bendPositive", true) ? 1 : -1;
-            switch (RuntimesLoader.spineVersion) {
+            switch (SpineVersion.get()) {
                 case 38:
                     data.softness = constraintMap.getFloat("softness", 0) * scale;
                 case 37:
@@ -139,9 +211,9 @@ public class SkeletonJson {
         }
         for (JsonValue constraintMap = root.getChild("transform"); constraintMap != null; constraintMap = constraintMap.next) {
             TransformConstraintData data = new TransformConstraintData(constraintMap.getString("name"));
-            if (RuntimesLoader.spineVersion > 34)
+            if (SpineVersion.get() > 34)
                 data.order = constraintMap.getInt("order", 0);
-            if (RuntimesLoader.spineVersion > 37) {
+            if (SpineVersion.get() > 37) {
                 data.skinRequired = constraintMap.getBoolean("skin", false);
                 for (JsonValue entry = constraintMap.getChild("bones"); entry != null; entry = entry.next) {
                     BoneData bone = skeletonData.findBone(entry.asString());
@@ -162,7 +234,7 @@ public class SkeletonJson {
             data.target = skeletonData.findBone(targetName);
             if (data.target == null)
                 throw new SerializationException("Transform constraint target bone not found: " + targetName);
-            if (RuntimesLoader.spineVersion > 35) {
+            if (SpineVersion.get() > 35) {
                 data.local = constraintMap.getBoolean("local", false);
                 data.relative = constraintMap.getBoolean("relative", false);
             }
@@ -180,9 +252,9 @@ public class SkeletonJson {
         }
         for (JsonValue constraintMap = root.getChild("path"); constraintMap != null; constraintMap = constraintMap.next) {
             PathConstraintData data = new PathConstraintData(constraintMap.getString("name"));
-            if (RuntimesLoader.spineVersion > 34)
+            if (SpineVersion.get() > 34)
                 data.order = constraintMap.getInt("order", 0);
-            if (RuntimesLoader.spineVersion > 37) {
+            if (SpineVersion.get() > 37) {
                 data.skinRequired = constraintMap.getBoolean("skin", false);
                 for (JsonValue entry = constraintMap.getChild("bones"); entry != null; entry = entry.next) {
                     BoneData bone = skeletonData.findBone(entry.asString());
@@ -212,70 +284,74 @@ public class SkeletonJson {
             data.translateMix = constraintMap.getFloat("translateMix", 1);
             skeletonData.pathConstraints.add(data);
         }
-        for (JsonValue skinMap = root.getChild("skins"); skinMap != null; skinMap = skinMap.next) {
-            Skin skin;
-            if (RuntimesLoader.spineVersion > 37) {
-                skin = new Skin(skinMap.getString("name"));
-                for (JsonValue entry = skinMap.getChild("bones"); entry != null; entry = entry.next) {
-                    BoneData bone = skeletonData.findBone(entry.asString());
-                    if (bone == null) throw new SerializationException("Skin bone not found: " + entry);
-                    skin.bones.add(bone);
-                }
-                for (JsonValue entry = skinMap.getChild("ik"); entry != null; entry = entry.next) {
-                    IkConstraintData constraint = skeletonData.findIkConstraint(entry.asString());
-                    if (constraint == null)
-                        throw new SerializationException("Skin IK constraint not found: " + entry);
-                    skin.constraints.add(constraint);
-                }
-                for (JsonValue entry = skinMap.getChild("transform"); entry != null; entry = entry.next) {
-                    TransformConstraintData constraint = skeletonData.findTransformConstraint(entry.asString());
-                    if (constraint == null)
-                        throw new SerializationException("Skin transform constraint not found: " + entry);
-                    skin.constraints.add(constraint);
-                }
-                for (JsonValue entry = skinMap.getChild("path"); entry != null; entry = entry.next) {
-                    PathConstraintData constraint = skeletonData.findPathConstraint(entry.asString());
-                    if (constraint == null)
-                        throw new SerializationException("Skin path constraint not found: " + entry);
-                    skin.constraints.add(constraint);
-                }
-                for (JsonValue slotEntry = skinMap.getChild("attachments"); slotEntry != null; slotEntry = slotEntry.next) {
-                    SlotData slot = skeletonData.findSlot(slotEntry.name);
-                    if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
-                    for (JsonValue entry = slotEntry.child; entry != null; entry = entry.next) {
-                        try {
-                            Attachment attachment = readAttachment(entry, skin, slot.index, entry.name, skeletonData);
-                            if (attachment != null) skin.setAttachment(slot.index, entry.name, attachment);
-                        } catch (Throwable ex) {
-                            throw new SerializationException("Error reading attachment: " + entry.name + ", skin: " + skin, ex);
-                        }
+    }
+
+    private void readSkin(JsonValue skinMap, SkeletonData skeletonData) {
+        Skin skin;
+        if (SpineVersion.get() > 37) {
+            skin = new Skin(skinMap.getString("name"));
+            for (JsonValue entry = skinMap.getChild("bones"); entry != null; entry = entry.next) {
+                BoneData bone = skeletonData.findBone(entry.asString());
+                if (bone == null) throw new SerializationException("Skin bone not found: " + entry);
+                skin.bones.add(bone);
+            }
+            for (JsonValue entry = skinMap.getChild("ik"); entry != null; entry = entry.next) {
+                IkConstraintData constraint = skeletonData.findIkConstraint(entry.asString());
+                if (constraint == null)
+                    throw new SerializationException("Skin IK constraint not found: " + entry);
+                skin.constraints.add(constraint);
+            }
+            for (JsonValue entry = skinMap.getChild("transform"); entry != null; entry = entry.next) {
+                TransformConstraintData constraint = skeletonData.findTransformConstraint(entry.asString());
+                if (constraint == null)
+                    throw new SerializationException("Skin transform constraint not found: " + entry);
+                skin.constraints.add(constraint);
+            }
+            for (JsonValue entry = skinMap.getChild("path"); entry != null; entry = entry.next) {
+                PathConstraintData constraint = skeletonData.findPathConstraint(entry.asString());
+                if (constraint == null)
+                    throw new SerializationException("Skin path constraint not found: " + entry);
+                skin.constraints.add(constraint);
+            }
+            for (JsonValue slotEntry = skinMap.getChild("attachments"); slotEntry != null; slotEntry = slotEntry.next) {
+                SlotData slot = skeletonData.findSlot(slotEntry.name);
+                if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
+                for (JsonValue entry = slotEntry.child; entry != null; entry = entry.next) {
+                    try {
+                        Attachment attachment = readAttachment(entry, skin, slot.index, entry.name, skeletonData);
+                        if (attachment != null) skin.setAttachment(slot.index, entry.name, attachment);
+                    } catch (Throwable ex) {
+                        throw new SerializationException("Error reading attachment: " + entry.name + ", skin: " + skin, ex);
                     }
                 }
-            } else {
-                skin = new Skin(skinMap.name);
-                for (JsonValue slotEntry = skinMap.child; slotEntry != null; slotEntry = slotEntry.next) {
-                    SlotData slot = skeletonData.findSlot(slotEntry.name);
-                    if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
-                    for (JsonValue entry = slotEntry.child; entry != null; entry = entry.next) {
-                        try {
-                            Attachment attachment = readAttachment(entry, skin, slot.index, entry.name, skeletonData);
-                            if (attachment != null) skin.addAttachment(slot.index, entry.name, attachment);
-                        } catch (Throwable ex) {
-                            throw new SerializationException("Error reading attachment: " + entry.name + ", skin: " + skin, ex);
-                        }
+            }
+        } else {
+            skin = new Skin(skinMap.name);
+            for (JsonValue slotEntry = skinMap.child; slotEntry != null; slotEntry = slotEntry.next) {
+                SlotData slot = skeletonData.findSlot(slotEntry.name);
+                if (slot == null) throw new SerializationException("Slot not found: " + slotEntry.name);
+                for (JsonValue entry = slotEntry.child; entry != null; entry = entry.next) {
+                    try {
+                        Attachment attachment = readAttachment(entry, skin, slot.index, entry.name, skeletonData);
+                        if (attachment != null) skin.addAttachment(slot.index, entry.name, attachment);
+                    } catch (Throwable ex) {
+                        throw new SerializationException("Error reading attachment: " + entry.name + ", skin: " + skin, ex);
                     }
                 }
             }
-            skeletonData.skins.add(skin);
-            if (skin.name.equals("default")) skeletonData.defaultSkin = skin;
         }
+        skeletonData.skins.add(skin);
+        if (skin.name.equals("default")) skeletonData.defaultSkin = skin;
+    }
+
+    private void readEvents(JsonValue root, SkeletonData skeletonData) {
         for (int i = 0, n = linkedMeshes.size; i < n; i++) {
             LinkedMesh linkedMesh = linkedMeshes.get(i);
             Skin skin = linkedMesh.skin == null ? skeletonData.getDefaultSkin() : skeletonData.findSkin(linkedMesh.skin);
             if (skin == null) throw new SerializationException("Skin not found: " + linkedMesh.skin);
             Attachment parent = skin.getAttachment(linkedMesh.slotIndex, linkedMesh.parent);
             if (parent == null) throw new SerializationException("Parent mesh not found: " + linkedMesh.parent);
-            if (RuntimesLoader.spineVersion == 38)
+            if (SpineVersion.get() == 38)
                 linkedMesh.mesh.setDeformAttachment(linkedMesh.inheritDeform ? (VertexAttachment) parent : linkedMesh.mesh);
             linkedMesh.mesh.setParentMesh((MeshAttachment) parent);
             linkedMesh.mesh.updateUVs();
@@ -286,7 +362,7 @@ public class SkeletonJson {
             data.intValue = eventMap.getInt("int", 0);
             data.floatValue = eventMap.getFloat("float", 0f);
             data.stringValue = eventMap.getString("string", "");
-            if (RuntimesLoader.spineVersion > 36) {
+            if (SpineVersion.get() > 36) {
                 data.audioPath = eventMap.getString("audio", null);
                 if (data.audioPath != null) {
                     data.volume = eventMap.getFloat("volume", 1);
@@ -295,20 +371,14 @@ public class SkeletonJson {
             }
             skeletonData.events.add(data);
         }
-        for (JsonValue animationMap = root.getChild("animations"); animationMap != null; animationMap = animationMap.next) {
-            try {
-                readAnimation(animationMap, animationMap.name, skeletonData);
-            } catch (Throwable ex) {
-                throw new SerializationException("Error reading animation: " + animationMap.name, ex);
-            }
+    }
+
+    private Animation readAnimation(JsonValue animationMap, SkeletonData skeletonData) {
+        try {
+            return readAnimation(animationMap, animationMap.name, skeletonData);
+        } catch (Throwable ex) {
+            throw new SerializationException("Error reading animation: " + animationMap.name, ex);
         }
-        skeletonData.bones.shrink();
-        skeletonData.slots.shrink();
-        skeletonData.skins.shrink();
-        skeletonData.events.shrink();
-        skeletonData.animations.shrink();
-        skeletonData.ikConstraints.shrink();
-        return skeletonData;
     }
 
     private Attachment readAttachment(JsonValue map, Skin skin, int slotIndex, String name, SkeletonData skeletonData) {
@@ -352,7 +422,7 @@ public class SkeletonJson {
                 mesh.setHeight(map.getFloat("height", 0) * scale);
                 String parent = map.getString("parent", null);
                 if (parent != null) {
-                    if (RuntimesLoader.spineVersion > 37)
+                    if (SpineVersion.get() > 37)
                         linkedMeshes.add(new LinkedMesh(mesh, map.getString("skin", null), slotIndex, parent, map.getBoolean("deform", true)));
                     else {
                         mesh.setInheritDeform(map.getBoolean("deform", true));
@@ -440,7 +510,7 @@ public class SkeletonJson {
         attachment.setVertices(weights.toArray());
     }
 
-    private void readAnimation(JsonValue map, String name, SkeletonData skeletonData) {
+    private Animation readAnimation(JsonValue map, String name, SkeletonData skeletonData) {
         float scale = this.scale;
         Array<Timeline> timelines = new Array<>();
         float duration = 0;
@@ -538,7 +608,7 @@ public class SkeletonJson {
             timeline.ikConstraintIndex = skeletonData.getIkConstraints().indexOf(constraint, true);
             int frameIndex = 0;
             for (JsonValue valueMap = constraintMap.child; valueMap != null; valueMap = valueMap.next) {
-                switch (RuntimesLoader.spineVersion) {
+                switch (SpineVersion.get()) {
                     case 38 -> timeline.setFrame(frameIndex, valueMap.getFloat("time", 0), valueMap.getFloat("mix", 1),
                             valueMap.getFloat("softness", 0) * scale, valueMap.getBoolean("bendPositive", true) ? 1 : -1,
                             valueMap.getBoolean("compress", false), valueMap.getBoolean("stretch", false));
@@ -702,7 +772,7 @@ public class SkeletonJson {
                 event.intValue = eventMap.getInt("int", eventData.intValue);
                 event.floatValue = eventMap.getFloat("float", eventData.floatValue);
                 event.stringValue = eventMap.getString("string", eventData.stringValue);
-                if (RuntimesLoader.spineVersion > 36 && event.getData().audioPath != null) {
+                if (SpineVersion.get() > 36 && event.getData().audioPath != null) {
                     event.volume = eventMap.getFloat("volume", eventData.volume);
                     event.balance = eventMap.getFloat("balance", eventData.balance);
                 }
@@ -712,13 +782,13 @@ public class SkeletonJson {
             duration = Math.max(duration, timeline.getFrames()[timeline.getFrameCount() - 1]);
         }
         timelines.shrink();
-        skeletonData.animations.add(new Animation(name, timelines, duration));
+        return new Animation(name, timelines, duration);
     }
 
     void readCurve(JsonValue map, CurveTimeline timeline, int frameIndex) {
         JsonValue curve = map.get("curve");
         if (curve == null) return;
-        if (RuntimesLoader.spineVersion > 37) {
+        if (SpineVersion.get() > 37) {
             if (curve.isString())
                 timeline.setStepped(frameIndex);
             else
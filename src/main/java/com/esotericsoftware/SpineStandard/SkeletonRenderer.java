@@ -1,6 +1,5 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
@@ -12,6 +11,7 @@ import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.ShortArray;
 import com.esotericsoftware.SpineStandard.attachments.*;
 import com.esotericsoftware.SpineStandard.utils.SkeletonClipping;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 import com.esotericsoftware.SpineStandard.utils.TwoColorPolygonBatch;
 
 public class SkeletonRenderer {
@@ -48,7 +48,7 @@ public class SkeletonRenderer {
         // Array<Slot> drawOrder = skeleton.drawOrder;
         // for (int i = 0, n = drawOrder.size; i < n; i++) {
         //     Slot slot = drawOrder.get(i);
-        //     if (!slot.bone.active && RuntimesLoader.spineVersion == 38) {
+        //     if (!slot.bone.active && SpineVersion.get() == 38) {
         //         clipper.clipEnd(slot);
         //         continue;
         //     }
@@ -119,7 +119,7 @@ public class SkeletonRenderer {
         // Array<Slot> drawOrder = skeleton.drawOrder;
         // for (int i = 0, n = drawOrder.size; i < n; i++) {
         //     Slot slot = drawOrder.get(i);
-        //     if (!slot.bone.active && RuntimesLoader.spineVersion == 38) {
+        //     if (!slot.bone.active && SpineVersion.get() == 38) {
         //         clipper.clipEnd(slot);
         //         continue;
         //     }
@@ -180,7 +180,7 @@ public class SkeletonRenderer {
         //                     clippedTriangles.size);
         //         } else {
         //             if (vertexEffect != null) {
-        //                 if (RuntimesLoader.spineVersion > 37) {
+        //                 if (SpineVersion.get() > 37) {
         //                     tempLight1.set(NumberUtils.floatToIntColor(c));
         //                     tempDark1.set(0);
         //                     for (int v = 0, u = 0; v < verticesLength; v += 5, u += 2) {
@@ -233,7 +233,7 @@ public class SkeletonRenderer {
 
     @SuppressWarnings("null")
     public void draw(TwoColorPolygonBatch batch, Skeleton skeleton) {
-        if (RuntimesLoader.spineVersion > 35) {
+        if (SpineVersion.get() > 35) {
             if (batch == null) throw new IllegalArgumentException("batch cannot be null.");
             if (skeleton == null) throw new IllegalArgumentException("skeleton cannot be null.");
             Vector2 tempPosition = this.temp, tempUV = this.temp2;
@@ -257,7 +257,7 @@ public class SkeletonRenderer {
             Array<Slot> drawOrder = skeleton.drawOrder;
             for (int i = 0, n = drawOrder.size; i < n; i++) {
                 Slot slot = drawOrder.get(i);
-                if (!slot.bone.active && RuntimesLoader.spineVersion == 38) {
+                if (!slot.bone.active && SpineVersion.get() == 38) {
                     clipper.clipEnd(slot);
                     continue;
                 }
@@ -326,7 +326,7 @@ public class SkeletonRenderer {
                                 clippedTriangles.size);
                     } else {
                         if (vertexEffect != null) {
-                            if (RuntimesLoader.spineVersion > 37) {
+                            if (SpineVersion.get() > 37) {
                                 tempLight1.set(NumberUtils.floatToIntColor(light));
                                 tempDark1.set(NumberUtils.floatToIntColor(dark));
                                 for (int v = 0, u = 0; v < verticesLength; v += 6, u += 2) {
@@ -447,7 +447,7 @@ public class SkeletonRenderer {
         tempLight1.set(NumberUtils.floatToIntColor(light));
         tempDark1.set(NumberUtils.floatToIntColor(dark));
         for (int v = 0; v < verticesLength; v += 6) {
-            if (RuntimesLoader.spineVersion > 37) {
+            if (SpineVersion.get() > 37) {
                 tempPosition.x = vertices[v];
                 tempPosition.y = vertices[v + 1];
                 tempUV.x = vertices[v + 4];
@@ -487,6 +487,14 @@ public class SkeletonRenderer {
         this.premultipliedAlpha = premultipliedAlpha;
     }
 
+    public VertexEffect getVertexEffect() {
+        return vertexEffect;
+    }
+
+    public void setVertexEffect(VertexEffect vertexEffect) {
+        this.vertexEffect = vertexEffect;
+    }
+
     public interface VertexEffect {
         void begin(Skeleton skeleton);
 
@@ -1,12 +1,12 @@
 package com.esotericsoftware.SpineStandard;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.OrderedMap;
 import com.badlogic.gdx.utils.Pool;
 import com.esotericsoftware.SpineStandard.attachments.Attachment;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 public class Skin {
     final String name;
@@ -19,13 +19,14 @@ public class Skin {
             return new Key();
         }
     };
-    private final SkinEntry lookup = new SkinEntry();
-    private final Key O_lookup = new Key();
+    // Skeletons updated on different threads share their skins, so every thread looks up with its own key
+    static private final ThreadLocal<SkinEntry> lookup = ThreadLocal.withInitial(SkinEntry::new);
+    static private final ThreadLocal<Key> O_lookup = ThreadLocal.withInitial(Key::new);
 
     public Skin(String name) {
         if (name == null) throw new IllegalArgumentException("name cannot be null.");
         this.name = name;
-        if (RuntimesLoader.spineVersion == 38)
+        if (SpineVersion.get() == 38)
             this.attachments.orderedKeys().ordered = false;
     }
 
@@ -34,7 +35,7 @@ public class Skin {
         if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
         Key key = keyPool.obtain();
         key.set(slotIndex, name);
-        if (RuntimesLoader.spineVersion < 38)
+        if (SpineVersion.get() < 38)
             O_attachments.put(key, attachment);
     }
 
@@ -50,11 +51,13 @@ public class Skin {
 
     public Attachment getAttachment(int slotIndex, String name) {
         if (slotIndex < 0) throw new IllegalArgumentException("slotIndex must be >= 0.");
-        if (RuntimesLoader.spineVersion > 37) {
+        if (SpineVersion.get() > 37) {
+            SkinEntry lookup = Skin.lookup.get();
             lookup.set(slotIndex, name);
             SkinEntry entry = attachments.get(lookup);
             return entry != null ? entry.attachment : null;
         } else {
+            Key O_lookup = Skin.O_lookup.get();
             O_lookup.set(slotIndex, name);
             return O_attachments.get(O_lookup);
         }
@@ -65,7 +68,7 @@ public class Skin {
     }
 
     public void clear() {
-        if (RuntimesLoader.spineVersion > 37) {
+        if (SpineVersion.get() > 37) {
             bones.clear();
             constraints.clear();
             attachments.clear(1024);
@@ -97,7 +100,7 @@ public class Skin {
     }
 
     void attachAll(Skeleton skeleton, Skin oldSkin) {
-        if (RuntimesLoader.spineVersion > 37) {
+        if (SpineVersion.get() > 37) {
             for (SkinEntry entry : oldSkin.attachments.keys()) {
                 int slotIndex = entry.slotIndex;
                 Slot slot = skeleton.slots.get(slotIndex);
@@ -177,7 +180,7 @@ public class Skin {
             if (name == null) throw new IllegalArgumentException("name cannot be null.");
             this.slotIndex = slotIndex;
             this.name = name;
-            if (RuntimesLoader.spineVersion > 36)
+            if (SpineVersion.get() > 36)
                 hashCode = name.hashCode() + slotIndex * 37;
             else hashCode = 31 * (31 + name.hashCode()) + slotIndex;
         }
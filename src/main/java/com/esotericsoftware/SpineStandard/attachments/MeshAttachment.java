@@ -1,6 +1,5 @@
 package com.esotericsoftware.SpineStandard.attachments;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -9,6 +8,7 @@ import com.badlogic.gdx.utils.NumberUtils;
 import com.esotericsoftware.SpineStandard.Bone;
 import com.esotericsoftware.SpineStandard.Skeleton;
 import com.esotericsoftware.SpineStandard.Slot;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 import static com.esotericsoftware.SpineStandard.utils.SpineUtils.arraycopy;
 
@@ -39,7 +39,7 @@ public class MeshAttachment extends VertexAttachment {
     }
 
     public void updateUVs() {
-        switch (RuntimesLoader.spineVersion) {
+        switch (SpineVersion.get()) {
             case 38 -> {
                 float[] regionUVs = this.regionUVs;
                 if (this.uvs == null || this.uvs.length != regionUVs.length) this.uvs = new float[regionUVs.length];
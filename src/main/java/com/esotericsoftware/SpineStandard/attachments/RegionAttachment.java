@@ -1,6 +1,5 @@
 package com.esotericsoftware.SpineStandard.attachments;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -9,6 +8,7 @@ import com.badlogic.gdx.utils.NumberUtils;
 import com.esotericsoftware.SpineStandard.Bone;
 import com.esotericsoftware.SpineStandard.Skeleton;
 import com.esotericsoftware.SpineStandard.Slot;
+import com.esotericsoftware.SpineStandard.utils.SpineVersion;
 
 import static com.badlogic.gdx.graphics.g2d.Batch.*;
 import static com.esotericsoftware.SpineStandard.utils.SpineUtils.arraycopy;
@@ -90,7 +90,7 @@ public class RegionAttachment extends Attachment {
     public void setRegion(TextureRegion region) {
         if (region == null) throw new IllegalArgumentException("region cannot be null.");
         this.region = region;
-        if (RuntimesLoader.spineVersion > 35) {
+        if (SpineVersion.get() > 35) {
             float[] uvs = this.uvs;
             if (region instanceof AtlasRegion && ((AtlasRegion) region).rotate) {
                 uvs[URX] = region.getU();
@@ -0,0 +1,29 @@
+package com.esotericsoftware.SpineStandard.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * The version of the loaded skeleton, chosen once per load. Reads go through a constant call site, so the JIT folds every
+ * version check into a straight-line path and deoptimizes only when another version is loaded.
+ */
+public class SpineVersion {
+    private static final MutableCallSite site = new MutableCallSite(MethodHandles.constant(byte.class, (byte) 0));
+    private static final MethodHandle version = site.dynamicInvoker();
+
+    public static byte get() {
+        try {
+            return (byte) version.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void set(byte spineVersion) {
+        if (get() != spineVersion) {
+            site.setTarget(MethodHandles.constant(byte.class, spineVersion));
+            MutableCallSite.syncAll(new MutableCallSite[]{site});
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.esotericsoftware.SpineStandard.utils;
 
-import com.QYun.SuperSpineViewer.RuntimesLoader;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.Mesh.VertexDataType;
@@ -45,9 +44,22 @@ public class TwoColorPolygonBatch implements PolygonBatch {
     }
 
     public TwoColorPolygonBatch(int maxVertices, int maxTriangles) {
+        this(maxVertices, maxTriangles, true);
+    }
+
+    // Without GL the batch only fills its arrays, a subclass takes each flushed call in render
+    protected TwoColorPolygonBatch(int maxVertices, int maxTriangles, boolean gl) {
         if (maxVertices > 32767)
             throw new IllegalArgumentException("Can't have more than 32767 vertices per batch: " + maxTriangles);
 
+        vertices = new float[maxVertices * 6];
+        triangles = new short[maxTriangles * 3];
+        if (!gl) {
+            mesh = null;
+            shader = null;
+            return;
+        }
+
         VertexDataType vertexDataType = VertexDataType.VertexArray;
         if (Gdx.gl30 != null) vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
         mesh = new Mesh(vertexDataType, false, maxVertices, maxTriangles * 3,
@@ -56,8 +68,6 @@ public class TwoColorPolygonBatch implements PolygonBatch {
                 new VertexAttribute(Usage.ColorPacked, 4, "a_dark"),
                 new VertexAttribute(Usage.TextureCoordinates, 2, "a_texCoord0"));
 
-        vertices = new float[maxVertices * 6];
-        triangles = new short[maxTriangles * 3];
         shader = createDefaultShader();
         projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
@@ -65,8 +75,10 @@ public class TwoColorPolygonBatch implements PolygonBatch {
     @Override
     public void begin() {
         if (drawing) throw new IllegalStateException("end must be called before begin.");
-        Gdx.gl.glDepthMask(false);
-        shader.bind();
+        if (shader != null) {
+            Gdx.gl.glDepthMask(false);
+            shader.bind();
+        }
         setupMatrices();
         drawing = true;
     }
@@ -75,8 +87,10 @@ public class TwoColorPolygonBatch implements PolygonBatch {
     public void end() {
         if (!drawing) throw new IllegalStateException("begin must be called before end.");
         if (vertexIndex > 0) flush();
-        Gdx.gl.glDepthMask(true);
-        if (isBlendingEnabled()) Gdx.gl.glDisable(GL20.GL_BLEND);
+        if (shader != null) {
+            Gdx.gl.glDepthMask(true);
+            if (isBlendingEnabled()) Gdx.gl.glDisable(GL20.GL_BLEND);
+        }
         lastTexture = null;
         drawing = false;
     }
@@ -663,7 +677,7 @@ public class TwoColorPolygonBatch implements PolygonBatch {
         final float[] vertices = this.vertices;
 
         if (texture != lastTexture) {
-            switch (RuntimesLoader.spineVersion) {
+            switch (SpineVersion.get()) {
                 case 38, 37 -> switchTexture(texture);
                 case 36 -> {
                     flush();
@@ -1177,19 +1191,23 @@ public class TwoColorPolygonBatch implements PolygonBatch {
     @Override
     public void flush() {
         if (vertexIndex == 0) return;
-        if (RuntimesLoader.spineVersion > 36)
+        if (SpineVersion.get() > 36)
             totalRenderCalls++;
-        lastTexture.bind();
+        render(lastTexture, vertices, vertexIndex, triangles, triangleIndex);
+
+        vertexIndex = 0;
+        triangleIndex = 0;
+    }
+
+    protected void render(Texture texture, float[] vertices, int verticesCount, short[] triangles, int trianglesCount) {
+        texture.bind();
         Mesh mesh = this.mesh;
-        mesh.setVertices(vertices, 0, vertexIndex);
-        mesh.setIndices(triangles, 0, triangleIndex);
+        mesh.setVertices(vertices, 0, verticesCount);
+        mesh.setIndices(triangles, 0, trianglesCount);
         Gdx.gl.glEnable(GL20.GL_BLEND);
         if (blendSrcFunc != -1)
             Gdx.gl.glBlendFuncSeparate(blendSrcFunc, blendDstFunc, blendSrcFuncAlpha, blendDstFuncAlpha);
-        mesh.render(shader, GL20.GL_TRIANGLES, 0, triangleIndex);
-
-        vertexIndex = 0;
-        triangleIndex = 0;
+        mesh.render(shader, GL20.GL_TRIANGLES, 0, trianglesCount);
     }
 
     @Override
@@ -1206,8 +1224,8 @@ public class TwoColorPolygonBatch implements PolygonBatch {
 
     @Override
     public void dispose() {
-        mesh.dispose();
-        shader.dispose();
+        if (mesh != null) mesh.dispose();
+        if (shader != null) shader.dispose();
     }
 
     @Override
@@ -1241,7 +1259,12 @@ public class TwoColorPolygonBatch implements PolygonBatch {
         if (drawing) setupMatrices();
     }
 
+    public boolean getPremultipliedAlpha() {
+        return premultipliedAlpha;
+    }
+
     private void setupMatrices() {
+        if (shader == null) return;
         combinedMatrix.set(projectionMatrix).mul(transformMatrix);
         shader.setUniformf("u_pma", premultipliedAlpha ? 1 : 0);
         shader.setUniformMatrix("u_projTrans", combinedMatrix);
@@ -13,6 +13,10 @@ public class SwirlEffect implements VertexEffect {
     private float worldX, worldY, radius, angle;
     private float centerX, centerY;
 
+    public SwirlEffect(float radius) {
+        this.radius = radius;
+    }
+
     public void begin(Skeleton skeleton) {
         worldX = skeleton.getX() + centerX;
         worldY = skeleton.getY() + centerY;
@@ -33,6 +37,15 @@ public class SwirlEffect implements VertexEffect {
     public void end() {
     }
 
+    public void setRadius(float radius) {
+        this.radius = radius;
+    }
+
+    public void setCenter(float centerX, float centerY) {
+        this.centerX = centerX;
+        this.centerY = centerY;
+    }
+
     public void setAngle(float degrees) {
         this.angle = degrees * MathUtils.degRad;
     }